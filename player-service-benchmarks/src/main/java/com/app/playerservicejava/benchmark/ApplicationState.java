@@ -0,0 +1,64 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.PlayerServiceJavaApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The application without its web server, loaded from Player.csv once per fork. Benchmarks that need
+ * it extend this state (or take it as a parameter) and fetch beans from {@link #context}.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    protected ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws Exception {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("players.ingest.path", csvPath().toString());
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        // no Ollama is running: keep the health checker from marking the backend down mid-run
+        properties.put("chat.router.health-check-interval", "1h");
+        properties.putAll(properties());
+        // as command-line arguments, so they win over application.yml
+        String[] args = properties.entrySet().stream().map(entry -> "--" + entry.getKey() + "=" + entry.getValue()).toArray(String[]::new);
+        context = new SpringApplicationBuilder(PlayerServiceJavaApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+
+    /**
+     * Overrides on top of application.yml.
+     */
+    protected Map<String, Object> properties() throws Exception {
+        return Map.of();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() throws Exception {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /* set by the jmh execution in pom.xml; the fallback works when run from this module's directory */
+    public static Path csvPath() {
+        return Path.of(System.getProperty("players.csv", "../Player.csv")).toAbsolutePath().normalize();
+    }
+}
@@ -0,0 +1,69 @@
+package com.app.playerservicejava.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (e.g. the last release's and this build's) benchmark by benchmark
+ * and exits with status 1 when any got slower by more than the threshold.
+ *
+ * Usage: {@code CompareResults <baseline.json> <current.json> [thresholdPercent]}
+ */
+public final class CompareResults {
+
+    private CompareResults() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: CompareResults <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue().path("primaryMetric");
+            JsonNode before = baseline.containsKey(entry.getKey()) ? baseline.get(entry.getKey()).path("primaryMetric") : null;
+            String unit = now.path("scoreUnit").asText();
+            if (before == null) {
+                System.out.printf("%-90s %14s %11.3f %s %9s%n", entry.getKey(), "-", now.path("score").asDouble(), unit, "new");
+                continue;
+            }
+            double change = (now.path("score").asDouble() - before.path("score").asDouble()) / before.path("score").asDouble() * 100;
+            // throughput-style units (ops/time) improve upwards, time-per-op units downwards
+            double slowdown = unit.startsWith("ops/") ? -change : change;
+            boolean regressed = slowdown > threshold;
+            regressions += regressed ? 1 : 0;
+            System.out.printf("%-90s %11.3f %s %11.3f %s %+8.1f%%%s%n", entry.getKey(),
+                    before.path("score").asDouble(), unit, now.path("score").asDouble(), unit, change, regressed ? "  REGRESSION" : "");
+        }
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) slower than the baseline by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    /* keyed by benchmark method, mode and parameters, so parameterised runs are matched one to one */
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new TreeMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            Map<String, String> params = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+            fields.forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            String key = result.path("benchmark").asText() + " [" + result.path("mode").asText() + "]"
+                    + (params.isEmpty() ? "" : " " + params);
+            results.put(key, result);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,75 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.Players;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the response bodies the player endpoints return, with an ObjectMapper
+ * configured the way Spring Boot configures the one MVC uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Player player;
+    private byte[] playerJson;
+    private Players players;
+    private PageImpl<Player> page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Player> all = PlayerData.load();
+        player = all.get(0);
+        playerJson = objectMapper.writeValueAsBytes(player);
+        players = new Players();
+        players.getPlayers().addAll(all);
+        page = new PageImpl<>(all.subList(0, 20), PageRequest.of(0, 20), all.size());
+    }
+
+    @Benchmark
+    public byte[] writePlayer() throws Exception {
+        return objectMapper.writeValueAsBytes(player);
+    }
+
+    @Benchmark
+    public Player readPlayer() throws Exception {
+        return objectMapper.readValue(playerJson, Player.class);
+    }
+
+    /* GET /v1/players/search: one page of 20 */
+    @Benchmark
+    public byte[] writePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    /* GET /v1/players: every player */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public byte[] writePlayers() throws Exception {
+        return objectMapper.writeValueAsBytes(players);
+    }
+}
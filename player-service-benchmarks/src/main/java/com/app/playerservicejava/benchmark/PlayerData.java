@@ -0,0 +1,54 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.model.Player;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Player.csv as entities, for benchmarks that do not need the database. Player.csv has no quoted
+ * fields, so a plain split is enough here.
+ */
+public final class PlayerData {
+
+    private PlayerData() {}
+
+    public static List<Player> load() throws IOException {
+        List<String> lines = Files.readAllLines(ApplicationState.csvPath(), StandardCharsets.UTF_8);
+        List<Player> players = new ArrayList<>(lines.size());
+        for (String line : lines.subList(1, lines.size())) {
+            String[] f = Arrays.copyOf(line.split(",", -1), 24);
+            Player player = new Player();
+            player.setPlayerId(f[0]);
+            player.setBirthYear(f[1]);
+            player.setBirthMonth(f[2]);
+            player.setBirthDay(f[3]);
+            player.setBirthCountry(f[4]);
+            player.setBirthState(f[5]);
+            player.setBirthCity(f[6]);
+            player.setDeathYear(f[7]);
+            player.setDeathMonth(f[8]);
+            player.setDeathDay(f[9]);
+            player.setDeathCountry(f[10]);
+            player.setDeathState(f[11]);
+            player.setDeathCity(f[12]);
+            player.setFirstName(f[13]);
+            player.setLastName(f[14]);
+            player.setGivenName(f[15]);
+            player.setWeight(f[16]);
+            player.setHeight(f[17]);
+            player.setBats(f[18]);
+            player.setThrowStats(f[19]);
+            player.setDebut(f[20]);
+            player.setFinalGame(f[21]);
+            player.setRetroId(f[22]);
+            player.setBbrefId(f[23]);
+            players.add(player);
+        }
+        return players;
+    }
+}
@@ -0,0 +1,97 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.Players;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.PlayerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PlayerService} reads against the full Player.csv data set in H2, through the Spring proxies
+ * (so {@code getPlayerById} is answered by the players cache once warm, as in production). The first
+ * warmup iterations overlap the startup index builds, hence the longer warmup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlayerServiceBenchmark extends ApplicationState {
+
+    private PlayerService playerService;
+    private PlayerRepository playerRepository;
+    private List<String> playerIds;
+    private final Pageable firstPage = PageRequest.of(0, 20);
+
+    @Setup(Level.Trial)
+    public void lookUpBeans() {
+        playerService = bean(PlayerService.class);
+        playerRepository = bean(PlayerRepository.class);
+        playerIds = playerRepository.findAll(PageRequest.of(0, 1024)).map(Player::getPlayerId).getContent();
+    }
+
+    /* parameters live in their own states so only the benchmarks taking them run once per value */
+    @State(Scope.Benchmark)
+    public static class LastName {
+        @Param({ "son", "aaron" })
+        public String fragment;
+    }
+
+    @State(Scope.Benchmark)
+    public static class BirthYear {
+        @Param({ "1980" })
+        public String year;
+    }
+
+    /* each thread walks the id list, so lookups spread over 1024 different players */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public Optional<Player> getPlayerById(Cursor cursor) {
+        return playerService.getPlayerById(playerIds.get(cursor.next++ & 1023));
+    }
+
+    /* the same lookup without the cache: one primary-key query */
+    @Benchmark
+    public Optional<Player> findById(Cursor cursor) {
+        return playerRepository.findById(playerIds.get(cursor.next++ & 1023));
+    }
+
+    @Benchmark
+    public Page<Player> searchByLastName(LastName lastName) {
+        return playerService.searchByLastName(lastName.fragment, firstPage);
+    }
+
+    @Benchmark
+    public Page<Player> filterByBirthYear(BirthYear birthYear) {
+        return playerService.filterByBirthYear(birthYear.year, firstPage);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Players getPlayers() {
+        return playerService.getPlayers();
+    }
+}
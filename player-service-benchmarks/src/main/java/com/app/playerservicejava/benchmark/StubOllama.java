@@ -0,0 +1,77 @@
+package com.app.playerservicejava.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * An in-process stand-in for Ollama's HTTP API with no model behind it, so a chat benchmark measures the
+ * service's own work (retrieval, prompt building, dispatch, routing, (de)serialization). {@code /api/generate}
+ * returns a fixed completion, after an optional delay standing in for model time, and {@code /api/tags}
+ * a single {@code tinyllama}.
+ */
+public final class StubOllama implements AutoCloseable {
+    private static final byte[] GENERATE = ("{\"model\":\"tinyllama\",\"created_at\":\"2024-01-01T00:00:00Z\","
+            + "\"response\":\"Hank Aaron hit 755 home runs.\",\"done\":true,\"context\":[1,2,3],"
+            + "\"total_duration\":1000,\"load_duration\":1,\"prompt_eval_count\":10,\"prompt_eval_duration\":1,"
+            + "\"eval_count\":8,\"eval_duration\":1}").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TAGS = ("{\"models\":[{\"name\":\"tinyllama:latest\",\"model\":\"tinyllama:latest\","
+            + "\"modified_at\":\"2024-01-01T00:00:00Z\",\"size\":637700138,\"digest\":\"2644915ede35\","
+            + "\"details\":{\"format\":\"gguf\",\"family\":\"llama\",\"parameter_size\":\"1B\",\"quantization_level\":\"Q4_0\"}}]}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final Duration generateDelay;
+
+    public StubOllama() throws IOException {
+        this(Duration.ZERO);
+    }
+
+    public StubOllama(Duration generateDelay) throws IOException {
+        this.generateDelay = generateDelay;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/generate", exchange -> {
+            delay();
+            respond(exchange, GENERATE);
+        });
+        server.createContext("/api/tags", exchange -> respond(exchange, TAGS));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    public String url() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    private void delay() {
+        if (!generateDelay.isZero()) {
+            try {
+                Thread.sleep(generateDelay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        try (InputStream request = exchange.getRequestBody(); OutputStream response = exchange.getResponseBody()) {
+            request.readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            response.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,267 @@
+package com.app.playerservicejava.load;
+
+import com.app.playerservicejava.PlayerServiceJavaApplication;
+import com.app.playerservicejava.benchmark.ApplicationState;
+import com.app.playerservicejava.benchmark.PlayerData;
+import com.app.playerservicejava.benchmark.StubOllama;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load test of the running service. Requests are issued at exponentially distributed
+ * intervals (Poisson arrivals at {@code rate} per second) whether or not earlier ones have completed, and
+ * each latency is measured from the request's scheduled start. A slow server therefore shows up as
+ * queueing in the percentiles instead of as a lower send rate (no coordinated omission).
+ *
+ * Without {@code target} the service is started in this JVM on a random port, on its embedded H2 loaded
+ * from Player.csv, with chat going to a {@link StubOllama}; nothing outside the process is needed.
+ *
+ * Options, as {@code key=value} arguments:
+ * <ul>
+ *   <li>{@code rate} requests per second (100)</li>
+ *   <li>{@code duration} measured period (60s) and {@code warmup} unmeasured lead-in (10s)</li>
+ *   <li>{@code mix} endpoint weights (players:1,playerById:60,search:30,chat:9)</li>
+ *   <li>{@code chat-latency} stub model time per generation (100ms)</li>
+ *   <li>{@code target} base URL of an already running service; the stub is then not used</li>
+ *   <li>{@code profile} Spring profile of the started service, e.g. {@code reactive} for the WebFlux stack (none)</li>
+ *   <li>{@code timeout} per request (30s), {@code max-in-flight} (5000), {@code seed} (42)</li>
+ *   <li>{@code out} directory for load-result.json and one .hgrm per endpoint (target/load)</li>
+ * </ul>
+ */
+public final class LoadTest {
+    private static final String ALL = "all";
+
+    private final Map<String, String> options;
+
+    private LoadTest(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("rate", "100");
+        options.put("duration", "60s");
+        options.put("warmup", "10s");
+        options.put("mix", "players:1,playerById:60,search:30,chat:9");
+        options.put("chat-latency", "100ms");
+        options.put("target", "");
+        options.put("profile", "");
+        options.put("timeout", "30s");
+        options.put("max-in-flight", "5000");
+        options.put("seed", "42");
+        options.put("out", "target/load");
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals < 0 || !options.containsKey(arg.substring(0, equals))) {
+                throw new IllegalArgumentException("Unknown option " + arg + "; expected one of " + options.keySet());
+            }
+            options.put(arg.substring(0, equals), arg.substring(equals + 1));
+        }
+        new LoadTest(options).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        StubOllama ollama = null;
+        ConfigurableApplicationContext service = null;
+        try {
+            URI target;
+            if (options.get("target").isBlank()) {
+                ollama = new StubOllama(duration("chat-latency"));
+                service = startService(ollama, options.get("profile"));
+                target = URI.create("http://127.0.0.1:" + service.getEnvironment().getProperty("local.server.port") + "/");
+            } else {
+                target = URI.create(options.get("target"));
+            }
+            Workload workload = new Workload(target, duration("timeout"), PlayerData.load(), mix());
+            System.out.printf("Load test: %s req/s for %s (after %s warmup) against %s%s, mix %s%n",
+                    options.get("rate"), options.get("duration"), options.get("warmup"), target,
+                    options.get("profile").isBlank() ? "" : " (" + options.get("profile") + ")", options.get("mix"));
+            Map<String, Stats> stats = drive(workload);
+            report(stats);
+        } finally {
+            if (service != null) {
+                service.close();
+            }
+            if (ollama != null) {
+                ollama.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startService(StubOllama ollama, String profile) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--players.ingest.path=" + ApplicationState.csvPath(),
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--chat.router.backends[0].name=stub",
+                "--chat.router.backends[0].url=" + ollama.url()));
+        if (!profile.isBlank()) {
+            args.add("--spring.profiles.active=" + profile);
+        }
+        return new SpringApplicationBuilder(PlayerServiceJavaApplication.class).run(args.toArray(new String[0]));
+    }
+
+    private Map<String, Stats> drive(Workload workload) throws InterruptedException {
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        for (Workload.Endpoint endpoint : Workload.Endpoint.values()) {
+            stats.put(endpoint.param(), new Stats());
+        }
+        stats.put(ALL, new Stats());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        SplittableRandom random = new SplittableRandom(Long.parseLong(options.get("seed")));
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / Double.parseDouble(options.get("rate"));
+        int maxInFlight = Integer.parseInt(options.get("max-in-flight"));
+        AtomicInteger inFlight = new AtomicInteger();
+
+        long start = System.nanoTime();
+        long measureFrom = start + duration("warmup").toNanos();
+        long end = measureFrom + duration("duration").toNanos();
+        long intended = start;
+        while (true) {
+            intended += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Workload.Endpoint endpoint = workload.next(random);
+            boolean measured = intended >= measureFrom;
+            Stats endpointStats = stats.get(endpoint.param());
+            if (inFlight.get() >= maxInFlight) {
+                // the client itself is saturated; count it rather than silently sending later
+                if (measured) {
+                    endpointStats.dropped.increment();
+                    stats.get(ALL).dropped.increment();
+                }
+                continue;
+            }
+            inFlight.incrementAndGet();
+            long scheduled = intended;
+            client.sendAsync(workload.request(endpoint, random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.decrementAndGet();
+                        if (measured) {
+                            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+                            int status = response == null ? -1 : response.statusCode();
+                            endpointStats.record(micros, status);
+                            stats.get(ALL).record(micros, status);
+                        }
+                    });
+        }
+        long drainUntil = System.nanoTime() + duration("timeout").toNanos() + TimeUnit.SECONDS.toNanos(5);
+        while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+            Thread.sleep(10);
+        }
+        return stats;
+    }
+
+    private void report(Map<String, Stats> stats) throws IOException {
+        double seconds = duration("duration").toNanos() / 1e9;
+        Path out = Path.of(options.get("out"));
+        Files.createDirectories(out);
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("%n%-11s %9s %9s %9s %9s %9s %9s  %s%n", "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "status");
+        for (Map.Entry<String, Stats> entry : stats.entrySet()) {
+            Histogram latencies = entry.getValue().latencies;
+            if (latencies.getTotalCount() == 0 && entry.getValue().dropped.sum() == 0) {
+                continue;
+            }
+            Map<String, Long> statuses = entry.getValue().statuses();
+            if (entry.getValue().dropped.sum() > 0) {
+                statuses.put("dropped", entry.getValue().dropped.sum());
+            }
+            System.out.printf("%-11s %9d %9.1f %9.2f %9.2f %9.2f %9.2f  %s%n", entry.getKey(),
+                    latencies.getTotalCount(), latencies.getTotalCount() / seconds,
+                    millis(latencies, 50), millis(latencies, 99), millis(latencies, 99.9),
+                    latencies.getMaxValue() / 1000.0, statuses);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", latencies.getTotalCount());
+            summary.put("throughput", latencies.getTotalCount() / seconds);
+            summary.put("p50Ms", millis(latencies, 50));
+            summary.put("p99Ms", millis(latencies, 99));
+            summary.put("p999Ms", millis(latencies, 99.9));
+            summary.put("maxMs", latencies.getMaxValue() / 1000.0);
+            summary.put("statuses", statuses);
+            endpoints.put(entry.getKey(), summary);
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(out.resolve(entry.getKey() + ".hgrm")))) {
+                latencies.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("options", options);
+        result.put("endpoints", endpoints);
+        Path json = out.resolve("load-result.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(json.toFile(), result);
+        System.out.printf("%nStatus -1 is a request that failed without a response (timeout, refused connection).%n"
+                + "Results: %s; percentile distributions (.hgrm, in ms) next to it.%n", json.toAbsolutePath());
+    }
+
+    private Map<Workload.Endpoint, Integer> mix() {
+        Map<Workload.Endpoint, Integer> mix = new EnumMap<>(Workload.Endpoint.class);
+        for (String part : options.get("mix").split(",")) {
+            String[] weight = part.split(":");
+            mix.put(Workload.Endpoint.fromParam(weight[0].trim()), Integer.parseInt(weight[1].trim()));
+        }
+        return mix;
+    }
+
+    private Duration duration(String option) {
+        return DurationStyle.detectAndParse(options.get(option));
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /* latencies in microseconds; the histogram resizes itself, so no upper bound has to be guessed */
+    private static final class Stats {
+        final Histogram latencies = new ConcurrentHistogram(3);
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        final LongAdder dropped = new LongAdder();
+
+        void record(long micros, int status) {
+            latencies.recordValue(micros);
+            statuses.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+        }
+
+        Map<String, Long> statuses() {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            new TreeMap<>(statuses).forEach((status, count) -> counts.put(String.valueOf(status), count.sum()));
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.app.playerservicejava.load;
+
+import com.app.playerservicejava.model.Player;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The request mix, built from the requests in {@code collection/}: the full player list, single players
+ * by id, last-name search pages and chat prompts about players. Ids, names and prompts are drawn from
+ * Player.csv so lookups spread over the whole table rather than hitting one cached row.
+ */
+final class Workload {
+
+    enum Endpoint {
+        PLAYERS("players"),
+        PLAYER_BY_ID("playerById"),
+        SEARCH("search"),
+        CHAT("chat");
+
+        private final String param;
+
+        Endpoint(String param) {
+            this.param = param;
+        }
+
+        String param() {
+            return param;
+        }
+
+        static Endpoint fromParam(String name) {
+            for (Endpoint endpoint : values()) {
+                if (endpoint.param.equalsIgnoreCase(name)) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalArgumentException("Unknown endpoint in mix: " + name);
+        }
+    }
+
+    private static final String[] CHAT_TEMPLATES = {
+            "Tell me about %s %s",
+            "Compare %s %s and %s %s",
+            "Where was %s %s born?",
+            "What position did %s %s play?"
+    };
+
+    private final URI base;
+    private final Duration timeout;
+    private final List<Player> players;
+    private final Endpoint[] endpoints;
+    /* cumulative weights, same order as endpoints */
+    private final int[] cumulative;
+
+    Workload(URI base, Duration timeout, List<Player> players, Map<Endpoint, Integer> mix) {
+        this.base = base;
+        this.timeout = timeout;
+        this.players = players.stream().filter(player -> player.getLastName() != null && player.getLastName().length() >= 3).toList();
+        List<Endpoint> weighted = new ArrayList<>();
+        List<Integer> sums = new ArrayList<>();
+        int sum = 0;
+        for (Map.Entry<Endpoint, Integer> entry : new EnumMap<>(mix).entrySet()) {
+            if (entry.getValue() > 0) {
+                sum += entry.getValue();
+                weighted.add(entry.getKey());
+                sums.add(sum);
+            }
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("The mix has no endpoint with a positive weight");
+        }
+        this.endpoints = weighted.toArray(new Endpoint[0]);
+        this.cumulative = sums.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    Endpoint next(SplittableRandom random) {
+        int pick = random.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (pick < cumulative[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    HttpRequest request(Endpoint endpoint, SplittableRandom random) {
+        Player player = players.get(random.nextInt(players.size()));
+        return switch (endpoint) {
+            case PLAYERS -> get("/v1/players");
+            case PLAYER_BY_ID -> get("/v1/players/" + player.getPlayerId());
+            case SEARCH -> {
+                // three letters from somewhere in a real last name, like a user typing part of it
+                String lastName = player.getLastName();
+                int from = random.nextInt(lastName.length() - 2);
+                yield get("/v1/players/search?size=20&lastName=" + encode(lastName.substring(from, from + 3)));
+            }
+            case CHAT -> {
+                Player other = players.get(random.nextInt(players.size()));
+                String template = CHAT_TEMPLATES[random.nextInt(CHAT_TEMPLATES.length)];
+                String prompt = String.format(template, player.getFirstName(), player.getLastName(), other.getFirstName(), other.getLastName());
+                yield post("/v1/chat", "{\"model\":\"tinyllama\",\"prompt\":\"" + prompt.replace("\"", "\\\"") + "\"}");
+            }
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).timeout(timeout)
+                .header("Accept", "application/json")
+                .GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(base.resolve(path)).timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
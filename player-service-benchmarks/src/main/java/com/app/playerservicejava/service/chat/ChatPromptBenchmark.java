@@ -0,0 +1,75 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.benchmark.ApplicationState;
+import com.app.playerservicejava.benchmark.StubOllama;
+import com.app.playerservicejava.model.chat.ChatRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The chat path up to and around the model call. {@code buildPrompt} is player retrieval plus prompt
+ * assembly; {@code chat} is the whole of {@link ChatClientService#chat} against {@link StubOllama}, with
+ * the completion cache off so every call goes through dispatch, routing and the HTTP round trip.
+ * Lives in the chat package because {@code buildPrompt} is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatPromptBenchmark extends ApplicationState {
+
+    @Param({ "Tell me about Hank Aaron and Babe Ruth", "What is a curveball?" })
+    public String prompt;
+
+    private StubOllama ollama;
+    private ChatClientService chatClientService;
+    private PlayerContextRetriever playerContextRetriever;
+
+    @Override
+    protected Map<String, Object> properties() throws Exception {
+        ollama = new StubOllama();
+        return Map.of(
+                "chat.router.backends[0].name", "stub",
+                "chat.router.backends[0].url", ollama.url(),
+                "chat.cache.enabled", "false");
+    }
+
+    @Setup(Level.Trial)
+    public void lookUpBeans() {
+        chatClientService = bean(ChatClientService.class);
+        playerContextRetriever = bean(PlayerContextRetriever.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopOllama() {
+        if (ollama != null) {
+            ollama.close();
+        }
+    }
+
+    @Benchmark
+    public String buildPrompt() {
+        return chatClientService.buildPrompt(prompt, playerContextRetriever.retrieve(prompt));
+    }
+
+    @Benchmark
+    public String chat() throws Exception {
+        return chatClientService.chat(new ChatRequest("tinyllama", prompt, Map.of()));
+    }
+}
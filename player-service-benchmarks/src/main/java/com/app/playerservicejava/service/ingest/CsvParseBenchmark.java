@@ -0,0 +1,65 @@
+package com.app.playerservicejava.service.ingest;
+
+import com.app.playerservicejava.benchmark.ApplicationState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CsvChunk} over the whole of Player.csv on one thread, as {@link PlayerCsvIngestor} runs it per
+ * chunk. Lives in the ingest package because the parser is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvParseBenchmark {
+    private static final int COLUMNS = 24;
+
+    private ByteBuffer body;
+
+    @Setup(Level.Trial)
+    public void mapFile() throws Exception {
+        try (FileChannel channel = FileChannel.open(ApplicationState.csvPath(), StandardOpenOption.READ)) {
+            ByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int position = 0;
+            while (file.get(position) != '\n') {
+                position++;
+            }
+            body = file.slice(position + 1, file.limit() - position - 1);
+        }
+    }
+
+    /* field boundaries only */
+    @Benchmark
+    public int parse() {
+        return CsvChunk.parse(body, COLUMNS, 0).rows();
+    }
+
+    /* boundaries plus decoding every field to a String, which is what binding the INSERTs costs on top */
+    @Benchmark
+    public void parseAndDecode(Blackhole blackhole) {
+        CsvChunk chunk = CsvChunk.parse(body, COLUMNS, 0);
+        for (int row = 0; row < chunk.rows(); row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                blackhole.consume(chunk.field(row, column));
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.app.playerservicejava.service.snapshot;
+
+import com.app.playerservicejava.benchmark.PlayerData;
+import com.app.playerservicejava.model.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PlayerSnapshot} over Player.csv: building it, probing the perfect hash, and materializing the
+ * entity GET /v1/players/{id} returns. Compare with {@code PlayerServiceBenchmark.findById}, and run with
+ * {@code -prof gc} to see the allocation per lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlayerSnapshotBenchmark {
+
+    private List<Player> players;
+    private PlayerSnapshot snapshot;
+    private String[] ids;
+    private String[] retroIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void build() throws Exception {
+        players = PlayerData.load();
+        snapshot = build(players);
+        ids = players.stream().map(Player::getPlayerId).toArray(String[]::new);
+        retroIds = players.stream().map(Player::getRetroId).filter(id -> !id.isEmpty()).toArray(String[]::new);
+    }
+
+    private static PlayerSnapshot build(List<Player> players) {
+        PlayerSnapshot.Builder builder = PlayerSnapshot.builder();
+        players.forEach(builder::add);
+        return builder.build();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public PlayerSnapshot buildSnapshot() {
+        return build(players);
+    }
+
+    @Benchmark
+    public int findById() {
+        return snapshot.find(PlayerSnapshot.Key.PLAYER_ID, ids[next++ & 1023]);
+    }
+
+    @Benchmark
+    public int findByRetroId() {
+        return snapshot.find(PlayerSnapshot.Key.RETRO_ID, retroIds[next++ & 1023]);
+    }
+
+    @Benchmark
+    public Player findAndMaterialize() {
+        return snapshot.player(snapshot.find(PlayerSnapshot.Key.PLAYER_ID, ids[next++ & 1023]));
+    }
+}
@@ -0,0 +1,88 @@
+package com.app.playerservicejava.service.team;
+
+import com.app.playerservicejava.benchmark.PlayerData;
+import com.app.playerservicejava.model.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.app.playerservicejava.service.team.TeamFeatureScale.DIMS;
+
+/**
+ * {@link TeamIndex} over Player.csv: building the k-d tree, and the {@code team_size} nearest players to a
+ * seed through the tree and by scanning every player, which is what the Python service's brute-force
+ * kNN did per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeamIndexBenchmark {
+
+    @Param({ "10", "100" })
+    private int teamSize;
+
+    private String[] ids;
+    private float[] points;
+    private TeamIndex index;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void build() throws Exception {
+        List<Player> players = PlayerData.load();
+        ids = players.stream().map(Player::getPlayerId).toArray(String[]::new);
+        points = new float[ids.length * DIMS];
+        for (int row = 0; row < ids.length; row++) {
+            System.arraycopy(TeamFeatureScale.raw(players.get(row)), 0, points, row * DIMS, DIMS);
+        }
+        TeamFeatureScale scale = TeamFeatureScale.fit(points, ids.length);
+        for (int row = 0; row < ids.length; row++) {
+            scale.apply(points, row * DIMS);
+        }
+        index = TeamIndex.build(ids, points);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public TeamIndex buildIndex() {
+        return TeamIndex.build(ids, points);
+    }
+
+    @Benchmark
+    public int[] nearestByTree() {
+        Neighbours out = new Neighbours(teamSize);
+        index.nearest(index.point(next++ & 1023), out, null);
+        return out.sorted();
+    }
+
+    @Benchmark
+    public int[] nearestByScan() {
+        float[] query = index.point(next++ & 1023);
+        Neighbours out = new Neighbours(teamSize);
+        for (int doc = 0; doc < index.size(); doc++) {
+            float distance = 0;
+            for (int dim = 0; dim < DIMS; dim++) {
+                float gap = points[doc * DIMS + dim] - query[dim];
+                distance += gap * gap;
+            }
+            if (distance < out.worst()) {
+                out.offer(distance, doc);
+            }
+        }
+        return out.sorted();
+    }
+}
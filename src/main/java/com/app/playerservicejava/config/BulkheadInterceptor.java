@@ -0,0 +1,128 @@
+package com.app.playerservicejava.config;
+
+import com.app.playerservicejava.controller.chat.ChatController;
+import com.app.playerservicejava.exception.BulkheadFullException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps how many requests each subsystem may have in flight, so slow chat calls can never take
+ * every request thread (platform or virtual) away from the player API. Requests over the limit
+ * wait up to {@code maxWaitMs} for a permit and are then rejected with 503. Streaming (async)
+ * requests keep their permit until the stream ends, not just until the handler returns.
+ */
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+    public static final String CHAT = "chat";
+    public static final String PLAYERS = "players";
+
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final BulkheadProperties properties;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    public BulkheadInterceptor(BulkheadProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws InterruptedException {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        String subsystem = subsystemOf(handlerMethod);
+        BulkheadProperties.Limit limit = properties.getSubsystems().get(subsystem);
+        if (limit == null) {
+            return true;
+        }
+        Semaphore semaphore = permits.computeIfAbsent(subsystem, key -> new Semaphore(limit.getMaxConcurrent()));
+        if (!semaphore.tryAcquire(limit.getMaxWaitMs(), TimeUnit.MILLISECONDS)) {
+            throw new BulkheadFullException("Too many concurrent " + subsystem + " requests");
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(semaphore));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit)) {
+            return;
+        }
+        if (!request.isAsyncStarted()) {
+            release(request);
+            return;
+        }
+        // hold the permit until the async context completes, errors or times out
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                permit.release();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                permit.release();
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                permit.release();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    /**
+     * In-flight count of a subsystem, or -1 when it is not limited (or has not been hit yet).
+     */
+    public int inFlight(String subsystem) {
+        Semaphore semaphore = permits.get(subsystem);
+        BulkheadProperties.Limit limit = properties.getSubsystems().get(subsystem);
+        return semaphore == null || limit == null ? -1 : limit.getMaxConcurrent() - semaphore.availablePermits();
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.release();
+        }
+    }
+
+    /* released from whichever of afterCompletion / the async listener gets there first */
+    private static final class Permit {
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        }
+    }
+
+    private static String subsystemOf(HandlerMethod handlerMethod) {
+        return ChatController.class.isAssignableFrom(handlerMethod.getBeanType()) ? CHAT : PLAYERS;
+    }
+}
@@ -0,0 +1,45 @@
+package com.app.playerservicejava.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-subsystem concurrency limits, keyed by subsystem name ({@code players}, {@code chat}).
+ * A subsystem without an entry is not limited.
+ */
+@ConfigurationProperties(prefix = "bulkhead")
+public class BulkheadProperties {
+
+    private Map<String, Limit> subsystems = new HashMap<>();
+
+    public Map<String, Limit> getSubsystems() {
+        return subsystems;
+    }
+
+    public void setSubsystems(Map<String, Limit> subsystems) {
+        this.subsystems = subsystems;
+    }
+
+    public static class Limit {
+        private int maxConcurrent = 100;
+        private long maxWaitMs = 0;
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public long getMaxWaitMs() {
+            return maxWaitMs;
+        }
+
+        public void setMaxWaitMs(long maxWaitMs) {
+            this.maxWaitMs = maxWaitMs;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.app.playerservicejava.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches are Caffeine-backed; size, TTL and stats recording come from {@code spring.cache.caffeine.spec}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+    public static final String PLAYERS_CACHE = "players";
+    /* encoded GET /v1/players/{id} bodies; evicted wherever PLAYERS_CACHE is */
+    public static final String PLAYER_JSON_CACHE = "player-json";
+}
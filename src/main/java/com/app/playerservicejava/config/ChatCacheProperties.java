@@ -0,0 +1,137 @@
+package com.app.playerservicejava.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Completion cache for {@code POST /v1/chat}: an in-memory LRU tier, an optional on-disk tier that survives
+ * restarts, and an optional embedding-similarity tier for near-duplicate prompts.
+ */
+@ConfigurationProperties(prefix = "chat.cache")
+public class ChatCacheProperties {
+
+    private boolean enabled = true;
+    private long maximumSize = 1000;
+    private Duration ttl = Duration.ofHours(1);
+    private Disk disk = new Disk();
+    private Semantic semantic = new Semantic();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Disk getDisk() {
+        return disk;
+    }
+
+    public void setDisk(Disk disk) {
+        this.disk = disk;
+    }
+
+    public Semantic getSemantic() {
+        return semantic;
+    }
+
+    public void setSemantic(Semantic semantic) {
+        this.semantic = semantic;
+    }
+
+    public static class Disk {
+        private boolean enabled = false;
+        private String path = "data/chat-cache";
+        private int maxEntries = 10000;
+        private Duration sweepInterval = Duration.ofMinutes(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getSweepInterval() {
+            return sweepInterval;
+        }
+
+        public void setSweepInterval(Duration sweepInterval) {
+            this.sweepInterval = sweepInterval;
+        }
+    }
+
+    public static class Semantic {
+        private boolean enabled = false;
+        private String model = "nomic-embed-text";
+        private double threshold = 0.95;
+        private int maxEntries = 1000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getModel() {
+            return model;
+        }
+
+        public void setModel(String model) {
+            this.model = model;
+        }
+
+        public double getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(double threshold) {
+            this.threshold = threshold;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+}
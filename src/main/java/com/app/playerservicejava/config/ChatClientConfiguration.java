@@ -1,31 +1,24 @@
 package com.app.playerservicejava.config;
 
 
-import io.github.ollama4j.OllamaAPI;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Ollama clients are built per backend by {@link com.app.playerservicejava.service.chat.backend.ChatBackendRouter}
+ * from {@code chat.router.backends}; scheduling provides the task scheduler its health checks run on.
+ */
 @Configuration
+@EnableScheduling
+@EnableConfigurationProperties({ ChatCacheProperties.class, ChatDispatchProperties.class, ChatRouterProperties.class })
 public class ChatClientConfiguration {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ChatClientConfiguration.class);
-
-    // Once you start the Ollama docker container - Ollama server runs locally on port 11434 at http://127.0.0.1:11434/
-    private String OLLAMA_HOST = "http://127.0.0.1:11434/";
-
     @Bean
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
 
-    @Bean
-    public OllamaAPI ollamaAPI() {
-        OllamaAPI api = new OllamaAPI(OLLAMA_HOST);
-        api.setRequestTimeoutSeconds(120);
-        return api;
-    }
-
 }
@@ -0,0 +1,67 @@
+package com.app.playerservicejava.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Admission control in front of Ollama. Each model gets {@code models.<name>} concurrent generations
+ * ({@code default-max-concurrent} when unlisted); everything else waits in a priority queue of at most
+ * {@code max-queue-depth} entries and is shed with 429 when its wait would exceed {@code max-queue-wait}.
+ */
+@ConfigurationProperties(prefix = "chat.dispatch")
+public class ChatDispatchProperties {
+
+    private int defaultMaxConcurrent = 1;
+    private Map<String, Integer> models = new HashMap<>();
+    private int maxQueueDepth = 64;
+    private Duration maxQueueWait = Duration.ofSeconds(30);
+    /* service-time estimate used until a model has completed a generation */
+    private Duration initialServiceTime = Duration.ofSeconds(2);
+
+    public int maxConcurrent(String model) {
+        return Math.max(1, models.getOrDefault(model, defaultMaxConcurrent));
+    }
+
+    public int getDefaultMaxConcurrent() {
+        return defaultMaxConcurrent;
+    }
+
+    public void setDefaultMaxConcurrent(int defaultMaxConcurrent) {
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+    }
+
+    public Map<String, Integer> getModels() {
+        return models;
+    }
+
+    public void setModels(Map<String, Integer> models) {
+        this.models = models;
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public void setMaxQueueDepth(int maxQueueDepth) {
+        this.maxQueueDepth = maxQueueDepth;
+    }
+
+    public Duration getMaxQueueWait() {
+        return maxQueueWait;
+    }
+
+    public void setMaxQueueWait(Duration maxQueueWait) {
+        this.maxQueueWait = maxQueueWait;
+    }
+
+    public Duration getInitialServiceTime() {
+        return initialServiceTime;
+    }
+
+    public void setInitialServiceTime(Duration initialServiceTime) {
+        this.initialServiceTime = initialServiceTime;
+    }
+}
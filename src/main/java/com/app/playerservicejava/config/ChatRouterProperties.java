@@ -0,0 +1,108 @@
+package com.app.playerservicejava.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ollama instances chat traffic is spread over. A backend serves the models listed under
+ * {@code models}, or, when that is empty, whatever its last health check ({@code /api/tags}) reported.
+ */
+@ConfigurationProperties(prefix = "chat.router")
+public class ChatRouterProperties {
+
+    private String defaultModel = "tinyllama";
+    private List<Backend> backends = new ArrayList<>();
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+    /* consecutive failures that open a backend's circuit, and how long it then stays open */
+    private int failureThreshold = 3;
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    public String getDefaultModel() {
+        return defaultModel;
+    }
+
+    public void setDefaultModel(String defaultModel) {
+        this.defaultModel = defaultModel;
+    }
+
+    public List<Backend> getBackends() {
+        return backends;
+    }
+
+    public void setBackends(List<Backend> backends) {
+        this.backends = backends;
+    }
+
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public void setHealthCheckInterval(Duration healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public static class Backend {
+        private String name;
+        private String url;
+        private long requestTimeoutSeconds = 120;
+        private List<String> models = new ArrayList<>();
+
+        public Backend() {}
+
+        public Backend(String name, String url) {
+            this.name = name;
+            this.url = url;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public long getRequestTimeoutSeconds() {
+            return requestTimeoutSeconds;
+        }
+
+        public void setRequestTimeoutSeconds(long requestTimeoutSeconds) {
+            this.requestTimeoutSeconds = requestTimeoutSeconds;
+        }
+
+        public List<String> getModels() {
+            return models;
+        }
+
+        public void setModels(List<String> models) {
+            this.models = models;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.app.playerservicejava.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+public class LatencyInjectionInterceptor implements HandlerInterceptor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatencyInjectionInterceptor.class);
+
+    private final LatencyInjectionProperties properties;
+
+    public LatencyInjectionInterceptor(LatencyInjectionProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        LatencyInjectionProperties.Delay delay = properties.getEndpoints().get(handlerMethod.getMethod().getName());
+        if (delay == null) {
+            return true;
+        }
+        long millis = delay.sampleMillis();
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("message=Interrupted while injecting latency; endpoint={}", handlerMethod.getMethod().getName());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,93 @@
+package com.app.playerservicejava.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Opt-in artificial latency, keyed by controller method name (e.g. {@code getPlayerById}).
+ * Off by default; the {@code latency} profile turns it on with the old 0-2s delay on player lookups.
+ */
+@ConfigurationProperties(prefix = "latency-injection")
+public class LatencyInjectionProperties {
+
+    public enum Distribution { FIXED, UNIFORM, EXPONENTIAL }
+
+    private boolean enabled = false;
+
+    private Map<String, Delay> endpoints = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, Delay> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Delay> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public static class Delay {
+        private Distribution distribution = Distribution.UNIFORM;
+        private long minMs = 0;
+        private long maxMs = 0;
+        private long meanMs = 0;
+
+        /**
+         * FIXED always waits {@code meanMs}; UNIFORM draws from [minMs, maxMs];
+         * EXPONENTIAL draws around {@code meanMs} and is clamped to [minMs, maxMs] when maxMs is set.
+         */
+        public long sampleMillis() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            switch (distribution) {
+                case FIXED:
+                    return meanMs;
+                case EXPONENTIAL:
+                    long sample = minMs + (long) (-meanMs * Math.log(1 - random.nextDouble()));
+                    return maxMs > 0 ? Math.min(sample, maxMs) : sample;
+                default:
+                    return maxMs <= minMs ? minMs : random.nextLong(minMs, maxMs + 1);
+            }
+        }
+
+        public Distribution getDistribution() {
+            return distribution;
+        }
+
+        public void setDistribution(Distribution distribution) {
+            this.distribution = distribution;
+        }
+
+        public long getMinMs() {
+            return minMs;
+        }
+
+        public void setMinMs(long minMs) {
+            this.minMs = minMs;
+        }
+
+        public long getMaxMs() {
+            return maxMs;
+        }
+
+        public void setMaxMs(long maxMs) {
+            this.maxMs = maxMs;
+        }
+
+        public long getMeanMs() {
+            return meanMs;
+        }
+
+        public void setMeanMs(long meanMs) {
+            this.meanMs = meanMs;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.app.playerservicejava.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Observations the annotations cannot reach: Spring Data builds the repository proxies, so finder timings
+ * and spans come from an aspect instead of {@code @Observed}.
+ */
+@Configuration
+public class ObservationConfiguration {
+
+    @Bean
+    public RepositoryObservationAspect repositoryObservationAspect(ObservationRegistry observationRegistry) {
+        return new RepositoryObservationAspect(observationRegistry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.app.playerservicejava.config;
+
+import com.app.playerservicejava.controller.reactive.ReactivePlayerController;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxRegistrations;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * WebFlux wiring for the {@code reactive} profile. The MVC controllers stay in the context (their services
+ * are shared) but only the controllers in {@code controller.reactive} are mapped, so each path has one handler.
+ */
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveConfiguration implements WebFluxConfigurer {
+
+    private static final String REACTIVE_CONTROLLERS = ReactivePlayerController.class.getPackageName();
+
+    /* Tomcat is on the classpath for the MVC stack and would otherwise be picked to run WebFlux */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Boot skips the JDBC pool once an R2DBC ConnectionFactory exists, but JPA, Flyway and the ingest
+     * still need it; same {@code spring.datasource} settings as the MVC profile.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public WebFluxRegistrations reactiveControllersOnly() {
+        return new WebFluxRegistrations() {
+            @Override
+            public RequestMappingHandlerMapping getRequestMappingHandlerMapping() {
+                return new RequestMappingHandlerMapping() {
+                    @Override
+                    protected boolean isHandler(Class<?> beanType) {
+                        return super.isHandler(beanType)
+                                && ClassUtils.getUserClass(beanType).getPackageName().equals(REACTIVE_CONTROLLERS);
+                    }
+                };
+            }
+        };
+    }
+
+    /* same page/size/sort parameters and defaults as Spring Data's MVC support */
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver());
+    }
+}
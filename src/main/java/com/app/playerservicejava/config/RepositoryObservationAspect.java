@@ -0,0 +1,31 @@
+package com.app.playerservicejava.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Observes every {@code PlayerRepository} call as {@code players.repository}, tagged with the finder's
+ * method name. That gives a latency timer per finder and, when tracing is on, a repository span under
+ * the service span of the request that issued the query.
+ */
+@Aspect
+public class RepositoryObservationAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    public RepositoryObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("this(com.app.playerservicejava.repository.PlayerRepository)")
+    public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        return Observation.createNotStarted("players.repository", observationRegistry)
+                .contextualName("PlayerRepository." + method)
+                .lowCardinalityKeyValue("method", method)
+                .observeChecked((Observation.CheckedCallable<Object, Throwable>) joinPoint::proceed);
+    }
+}
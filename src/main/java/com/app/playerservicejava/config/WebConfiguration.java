@@ -0,0 +1,31 @@
+package com.app.playerservicejava.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties({ LatencyInjectionProperties.class, BulkheadProperties.class })
+public class WebConfiguration implements WebMvcConfigurer {
+
+    @Autowired
+    private LatencyInjectionProperties latencyInjectionProperties;
+
+    @Autowired
+    private BulkheadProperties bulkheadProperties;
+
+    @Bean
+    public BulkheadInterceptor bulkheadInterceptor() {
+        return new BulkheadInterceptor(bulkheadProperties);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // bulkhead first, so injected latency counts against the subsystem's concurrency limit
+        registry.addInterceptor(bulkheadInterceptor());
+        registry.addInterceptor(new LatencyInjectionInterceptor(latencyInjectionProperties));
+    }
+}
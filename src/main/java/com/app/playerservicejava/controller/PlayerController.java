@@ -1,14 +1,26 @@
 package com.app.playerservicejava.controller;
 
 import com.app.playerservicejava.exception.PlayerNotFoundException;
+import com.app.playerservicejava.exception.PlayerVersionMismatchException;
+import com.app.playerservicejava.model.BulkResult;
 import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerFilter;
+import com.app.playerservicejava.model.PlayerSlice;
 import com.app.playerservicejava.model.Players;
+import com.app.playerservicejava.service.PlayerJsonCache;
 import com.app.playerservicejava.service.PlayerService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.Resource;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.Valid;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,8 +28,16 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.springframework.http.ResponseEntity.ok;
 
@@ -25,15 +45,74 @@ import static org.springframework.http.ResponseEntity.ok;
 @RequestMapping(value = "v1/players", produces = { MediaType.APPLICATION_JSON_VALUE })
 @Validated
 public class PlayerController {
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /* flush to the client every N players so the first bytes leave before the scan finishes */
+    private static final int STREAM_FLUSH_INTERVAL = 256;
+
     @Resource
     private PlayerService playerService;
 
+    @Resource
+    private PlayerJsonCache playerJsonCache;
+
+    @Resource
+    private ObjectMapper objectMapper;
+
     @RequestMapping(method = RequestMethod.GET)
     public ResponseEntity<Players> getPlayers() {
         Players players = playerService.getPlayers();
         return ok(players);
     }
 
+    /**
+     * Same payload as {@link #getPlayers()} ({@code {"players":[...]}}), written row by row off a cursor.
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamPlayers() {
+        StreamingResponseBody body = out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("players");
+            writePlayers(generator, false);
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+        };
+        return ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * One player per line, for clients that process the dump incrementally.
+     */
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPlayersNdjson() {
+        StreamingResponseBody body = out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(null);
+            writePlayers(generator, true);
+            generator.flush();
+        };
+        return ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE)).body(body);
+    }
+
+    private void writePlayers(JsonGenerator generator, boolean newlineDelimited) {
+        int[] written = {0};
+        playerService.streamPlayers(player -> {
+            try {
+                generator.writeObject(player);
+                if (newlineDelimited) {
+                    generator.writeRaw('\n');
+                }
+                if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     @GetMapping("/search")
     public ResponseEntity<Page<Player>> searchPlayers(
             @RequestParam(required = false) 
@@ -42,58 +121,251 @@ public class PlayerController {
             @RequestParam(required = false) 
             @Pattern(regexp = "\\d{4}", message = "Birth year must be a 4-digit number") 
             String birthYear,
+            @RequestParam(required = false)
+            @Pattern(regexp = "\\d{4}", message = "Birth year must be a 4-digit number")
+            String birthYearFrom,
+            @RequestParam(required = false)
+            @Pattern(regexp = "\\d{4}", message = "Birth year must be a 4-digit number")
+            String birthYearTo,
             Pageable pageable) {
         Page<Player> page;
         if (lastName != null) {
             page = playerService.searchByLastName(lastName, pageable);
         } else if (birthYear != null) {
             page = playerService.filterByBirthYear(birthYear, pageable);
+        } else if (birthYearFrom != null || birthYearTo != null) {
+            page = playerService.filterByBirthYearBetween(birthYearFrom, birthYearTo, pageable);
         } else {
             page = playerService.getPlayers(pageable);
         }
         return ResponseEntity.ok(page);
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<Player> getPlayerById(@PathVariable("id") @NotBlank @Size(min = 3, max = 32) String id) {
-        Optional<Player> player = playerService.getPlayerById(id);
+    /**
+     * Every criterion is optional and they all apply together, e.g.
+     * {@code ?birthCountry=D.R.&bats=L&heightFrom=74&debutYearFrom=2000&sort=weight,desc}: names,
+     * {@code birthCountry}, {@code bats}, {@code throws}, {@code retroId} and {@code bbrefId} match
+     * exactly (the first three ignoring case); birth year, debut year, height and weight take inclusive
+     * {@code From}/{@code To} bounds. {@code fields=playerId,lastName} returns only those properties.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<Page<?>> filterPlayers(
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) String birthCountry,
+            @RequestParam(required = false) String bats,
+            @RequestParam(name = "throws", required = false) String throwStats,
+            @RequestParam(required = false) String retroId,
+            @RequestParam(required = false) String bbrefId,
+            @RequestParam(required = false) Integer birthYearFrom,
+            @RequestParam(required = false) Integer birthYearTo,
+            @RequestParam(required = false) Integer debutYearFrom,
+            @RequestParam(required = false) Integer debutYearTo,
+            @RequestParam(required = false) Integer heightFrom,
+            @RequestParam(required = false) Integer heightTo,
+            @RequestParam(required = false) Integer weightFrom,
+            @RequestParam(required = false) Integer weightTo,
+            @RequestParam(required = false)
+            @Size(min = 1, max = 25, message = "Fields must name between 1 and 25 properties")
+            List<String> fields,
+            Pageable pageable) {
+        PlayerFilter filter = new PlayerFilter();
+        filter.setFirstName(firstName);
+        filter.setLastName(lastName);
+        filter.setBirthCountry(birthCountry);
+        filter.setBats(bats);
+        filter.setThrowStats(throwStats);
+        filter.setRetroId(retroId);
+        filter.setBbrefId(bbrefId);
+        filter.setBirthYearFrom(birthYearFrom);
+        filter.setBirthYearTo(birthYearTo);
+        filter.setDebutYearFrom(debutYearFrom);
+        filter.setDebutYearTo(debutYearTo);
+        filter.setHeightFrom(heightFrom);
+        filter.setHeightTo(heightTo);
+        filter.setWeightFrom(weightFrom);
+        filter.setWeightTo(weightTo);
+        Page<?> page = fields == null
+                ? playerService.filterPlayers(filter, pageable)
+                : playerService.filterPlayers(filter, fields, pageable);
+        return ResponseEntity.ok(page);
+    }
 
-        if (player.isPresent()) {
-            return new ResponseEntity<>(player.get(), HttpStatus.OK);
+    /**
+     * Keyset-paginated variant of {@link #searchPlayers}, selected by the presence of {@code cursor}
+     * (send it empty for the first page). Pages are ordered by {@code (lastName, playerId)} for
+     * last-name searches and by {@code playerId} otherwise; {@code sort} is not supported here.
+     */
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<PlayerSlice> searchPlayersByCursor(
+            @RequestParam(required = false)
+            @Size(min = 1, max = 50, message = "Last name must be between 1 and 50 characters")
+            String lastName,
+            @RequestParam(required = false)
+            @Pattern(regexp = "\\d{4}", message = "Birth year must be a 4-digit number")
+            String birthYear,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "Size must be at least 1")
+            @Max(value = 1000, message = "Size must be at most 1000")
+            int size) {
+        PlayerSlice slice;
+        if (lastName != null) {
+            slice = playerService.searchByLastNameAfter(lastName, cursor, size);
+        } else if (birthYear != null) {
+            slice = playerService.filterByBirthYearAfter(birthYear, cursor, size);
         } else {
+            slice = playerService.getPlayersAfter(cursor, size);
+        }
+        return ResponseEntity.ok(slice);
+    }
+
+    /**
+     * Served pre-encoded from {@link PlayerJsonCache}, gzipped for clients that accept it. Each encoding
+     * has its own strong ETag; a request carrying the current one in {@code If-None-Match} gets 304 without a body.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getPlayerById(@PathVariable("id") @NotBlank @Size(min = 3, max = 32) String id,
+                                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                ServletWebRequest webRequest) {
+        Optional<PlayerJsonCache.Body> body = playerJsonCache.get(id, playerService::getPlayerById);
+        if (body.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? body.get().getGzipEtag() : body.get().getEtag();
+        // caches must key on the encoding, including for 304s
+        webRequest.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.get().getGzip());
+        }
+        return response.body(body.get().getJson());
+    }
+
+    /* "gzip" or "*" listed without q=0 */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                refused |= parameter.matches("(?i)q=0(\\.0{0,3})?");
+            }
+            return !refused;
+        }
+        return false;
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Player> createPlayer(@RequestBody @Valid Player player) {
+    public ResponseEntity<byte[]> createPlayer(@RequestBody @Valid Player player) {
         Player created = playerService.createPlayer(player);
-        return new ResponseEntity<>(created, HttpStatus.CREATED);
+        return written(HttpStatus.CREATED, created);
     }
 
+    /**
+     * With {@code If-Match} (an ETag from GET or from a previous write), the replacement applies only while the
+     * player still has that version; otherwise 412 and nothing is written. The response carries the new ETag.
+     */
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Player> replacePlayer(@PathVariable("id") @NotBlank @Size(min = 3, max = 32) String id,
-                                                @RequestBody @Valid Player replacement) {
+    public ResponseEntity<byte[]> replacePlayer(@PathVariable("id") @NotBlank @Size(min = 3, max = 32) String id,
+                                                @RequestBody @Valid Player replacement,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            Player updated = playerService.replacePlayer(id, replacement);
-            return new ResponseEntity<>(updated, HttpStatus.OK);
+            Player updated = playerService.replacePlayer(id, replacement, expectedVersion(ifMatch));
+            return written(HttpStatus.OK, updated);
         } catch (PlayerNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
 
+    /**
+     * Only the fields present in the body are written. {@code If-Match} as for {@link #replacePlayer}.
+     */
     @PatchMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Player> patchPlayer(@PathVariable("id") @NotBlank @Size(min = 3, max = 32) String id,
-                                              @RequestBody Player patch) {
-        return playerService.patchPlayer(id, patch)
-                .map(updated -> new ResponseEntity<>(updated, HttpStatus.OK))
+    public ResponseEntity<byte[]> patchPlayer(@PathVariable("id") @NotBlank @Size(min = 3, max = 32) String id,
+                                              @RequestBody Player patch,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return playerService.patchPlayer(id, patch, expectedVersion(ifMatch))
+                .map(updated -> written(HttpStatus.OK, updated))
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deletePlayer(@PathVariable("id") @NotBlank @Size(min = 3, max = 32) String id) {
-        boolean deleted = playerService.deletePlayer(id);
+    public ResponseEntity<Void> deletePlayer(@PathVariable("id") @NotBlank @Size(min = 3, max = 32) String id,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        boolean deleted = playerService.deletePlayer(id, expectedVersion(ifMatch));
         return deleted ? new ResponseEntity<>(HttpStatus.NO_CONTENT) : new ResponseEntity<>(HttpStatus.NOT_FOUND);
     }
-}
 
+    /* the body and ETag GET would now serve, so the ETag can go straight into the next If-Match or If-None-Match */
+    private ResponseEntity<byte[]> written(HttpStatus status, Player player) {
+        PlayerJsonCache.Body body = playerJsonCache.encode(player);
+        return ResponseEntity.status(status).eTag(body.getEtag()).contentType(MediaType.APPLICATION_JSON).body(body.getJson());
+    }
+
+    /*
+     * null for an unconditional write (no If-Match, or "*"). Versions are compared in the write's WHERE clause, one
+     * per request; a header naming no version of ours, or several, cannot match and fails with 412 up front.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (ETag etag : ETag.parse(ifMatch)) {
+            if (etag.isWildcard()) {
+                return null;
+            }
+            Long version = PlayerJsonCache.version(etag);
+            if (version != null) {
+                versions.add(version);
+            }
+        }
+        if (versions.size() != 1) {
+            throw new PlayerVersionMismatchException("If-Match must carry a current ETag of the player");
+        }
+        return versions.iterator().next();
+    }
+
+    /**
+     * Bulk create. The body is a JSON array or NDJSON of players; the response has one result per item.
+     */
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<BulkResult> createPlayers(InputStream body) throws IOException {
+        return ok(new BulkResult(playerService.createPlayers(readItems(body, Player.class))));
+    }
+
+    /**
+     * Bulk partial update. Each item must carry its {@code playerId}; only non-null fields are applied.
+     */
+    @PatchMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<BulkResult> patchPlayers(InputStream body) throws IOException {
+        return ok(new BulkResult(playerService.patchPlayers(readItems(body, Player.class))));
+    }
+
+    /**
+     * Bulk delete. The body is a JSON array or NDJSON of player ids.
+     */
+    @DeleteMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<BulkResult> deletePlayers(InputStream body) throws IOException {
+        return ok(new BulkResult(playerService.deletePlayers(readItems(body, String.class))));
+    }
+
+    /* a root-level array is unwrapped; otherwise values are read one after another, which covers NDJSON */
+    private <T> List<T> readItems(InputStream body, Class<T> type) throws IOException {
+        try (MappingIterator<T> items = objectMapper.readerFor(type).readValues(body)) {
+            return items.readAll();
+        }
+    }
+}
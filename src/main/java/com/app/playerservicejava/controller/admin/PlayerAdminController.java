@@ -0,0 +1,47 @@
+package com.app.playerservicejava.controller.admin;
+
+import com.app.playerservicejava.model.IngestReport;
+import com.app.playerservicejava.service.ingest.PlayerCsvIngestor;
+import jakarta.annotation.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+@RestController
+@RequestMapping(value = "v1/admin/players", produces = { MediaType.APPLICATION_JSON_VALUE })
+public class PlayerAdminController {
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    @Resource
+    private PlayerCsvIngestor playerCsvIngestor;
+
+    /**
+     * Reloads PLAYERS from the configured file ({@code players.ingest.path}).
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<IngestReport> reload() {
+        return ResponseEntity.ok(playerCsvIngestor.reload());
+    }
+
+    /**
+     * Reloads PLAYERS from an uploaded CSV with the same header as Player.csv.
+     */
+    @PostMapping(value = "/reload", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<IngestReport> reload(InputStream body) throws IOException {
+        Path upload = Files.createTempFile("players-", ".csv");
+        try {
+            Files.copy(body, upload, StandardCopyOption.REPLACE_EXISTING);
+            return ResponseEntity.ok(playerCsvIngestor.reload(upload));
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+    }
+}
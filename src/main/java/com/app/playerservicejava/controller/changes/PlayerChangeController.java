@@ -0,0 +1,94 @@
+package com.app.playerservicejava.controller.changes;
+
+import com.app.playerservicejava.model.PlayerChange;
+import com.app.playerservicejava.model.PlayerChanges;
+import com.app.playerservicejava.service.changes.PlayerChangeFeed;
+import com.app.playerservicejava.service.changes.PlayerChangeListener;
+import jakarta.annotation.Resource;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Incremental sync for replicas of PLAYERS, read from {@link PlayerChangeFeed}. A replica takes the current
+ * head ({@code GET /v1/players/changes} without {@code since}), loads {@code GET /v1/players}, then applies the
+ * changes after that head, by polling or from the stream. 410 means the log no longer reaches the cursor and
+ * the replica has to start over.
+ */
+@RestController
+@RequestMapping(value = "v1/players/changes", produces = { MediaType.APPLICATION_JSON_VALUE })
+@Validated
+public class PlayerChangeController {
+
+    @Resource
+    private PlayerChangeFeed playerChangeFeed;
+
+    @Value("${players.changes.stream-timeout-ms:1800000}")
+    private long streamTimeoutMs;
+
+    /**
+     * The changes after {@code since}, oldest first; ask again with {@code next} while {@code hasMore}.
+     * Without {@code since}, no changes and the current head as {@code next}.
+     */
+    @GetMapping
+    public ResponseEntity<PlayerChanges> getChanges(
+            @RequestParam(required = false)
+            @Min(value = 0, message = "since must not be negative")
+            Long since,
+            @RequestParam(defaultValue = "500")
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 10000, message = "Limit must be at most 10000")
+            int limit) {
+        if (since == null) {
+            return ResponseEntity.ok(new PlayerChanges(List.of(), playerChangeFeed.head(), false));
+        }
+        return ResponseEntity.ok(playerChangeFeed.changesSince(since, limit));
+    }
+
+    /**
+     * Server-Sent Events: one {@code change} event per change, with its seq as the event id, starting after
+     * {@code since} (or {@code Last-Event-ID} on reconnect; the head when neither is given). The stream ends
+     * when the client falls too far behind; reconnecting resumes from the last id received.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false)
+            @Min(value = 0, message = "since must not be negative")
+            Long since,
+            @RequestHeader(value = "Last-Event-ID", required = false)
+            @Min(value = 0, message = "Last-Event-ID must not be negative")
+            Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        PlayerChangeFeed.Subscription subscription = playerChangeFeed.subscribe(lastEventId != null ? lastEventId : since,
+                new PlayerChangeListener() {
+                    @Override
+                    public void onChange(PlayerChange change) throws IOException {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(change.getSeq()))
+                                .name("change")
+                                .data(change, MediaType.APPLICATION_JSON));
+                    }
+
+                    @Override
+                    public void onClosed() {
+                        emitter.complete();
+                    }
+                });
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        emitter.onCompletion(subscription::cancel);
+        return emitter;
+    }
+}
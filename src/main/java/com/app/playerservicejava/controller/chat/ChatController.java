@@ -1,23 +1,33 @@
 package com.app.playerservicejava.controller.chat;
 
+import com.app.playerservicejava.model.chat.ChatRequest;
+import com.app.playerservicejava.model.chat.ChatStreamSummary;
 import com.app.playerservicejava.service.chat.ChatClientService;
+import com.app.playerservicejava.service.chat.ChatStreamListener;
+import com.app.playerservicejava.service.chat.ModelCatalog;
 import io.github.ollama4j.exceptions.OllamaBaseException;
 import io.github.ollama4j.models.Model;
+import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Controller
 @RequestMapping(value = "v1/chat", produces = { MediaType.APPLICATION_JSON_VALUE })
@@ -25,17 +35,89 @@ public class ChatController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ChatController.class);
 
+    /* what an empty POST has always asked for */
+    public static final String DEFAULT_PROMPT = "Recite a haiku about recursion.";
+
     @Autowired
     private ChatClientService chatClientService;
 
+    @Autowired
+    private ModelCatalog modelCatalog;
+
+    @Value("${chat.stream.timeout-ms:180000}")
+    private long streamTimeoutMs;
+
     @PostMapping
-    public @ResponseBody String chat() throws OllamaBaseException, IOException, InterruptedException {
-        return chatClientService.chat();
+    public @ResponseBody String chat(@RequestBody(required = false) @Valid ChatRequest request)
+            throws OllamaBaseException, IOException, InterruptedException {
+        return chatClientService.chat(orDefault(request));
+    }
+
+    /**
+     * Server-Sent Events: {@code token} events carry {@code {"text": ...}} deltas as the model emits
+     * them, followed by one {@code done} event with timings (or an {@code error} event). Closing the
+     * connection aborts the upstream generation.
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter chatStream(@RequestBody(required = false) @Valid ChatRequest request) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Future<?> upstream = chatClientService.streamChat(orDefault(request), new ChatStreamListener() {
+            @Override
+            public void onToken(String text) {
+                send(SseEmitter.event().name("token").data(Map.of("text", text), MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void onComplete(ChatStreamSummary summary) {
+                send(SseEmitter.event().name("done").data(summary, MediaType.APPLICATION_JSON));
+                emitter.complete();
+            }
+
+            @Override
+            public void onError(Exception e) {
+                send(SseEmitter.event().name("error").data(Map.of("message", "Chat generation failed"), MediaType.APPLICATION_JSON));
+                emitter.complete();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return cancelled.get();
+            }
+
+            private void send(SseEmitter.SseEventBuilder event) {
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // the client disconnected; stop generating
+                    cancelled.set(true);
+                }
+            }
+        });
+        Runnable cancel = () -> {
+            if (cancelled.compareAndSet(false, true)) {
+                upstream.cancel(true);
+            }
+        };
+        emitter.onTimeout(cancel);
+        emitter.onError(error -> cancel.run());
+        emitter.onCompletion(() -> cancelled.set(true));
+        return emitter;
     }
 
+    /**
+     * Served from {@link ModelCatalog}; a request carrying the current ETag in {@code If-None-Match} gets 304.
+     */
     @GetMapping("/list-models")
-    public ResponseEntity<List<Model>> listModels() throws OllamaBaseException, IOException, URISyntaxException, InterruptedException {
-        List<Model> models = chatClientService.listModels();
-        return ResponseEntity.ok(models);
+    public ResponseEntity<List<Model>> listModels(WebRequest webRequest) {
+        ModelCatalog.Snapshot catalog = modelCatalog.snapshot();
+        if (webRequest.checkNotModified(catalog.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(catalog.getEtag()).body(catalog.getModels());
+    }
+
+    private static ChatRequest orDefault(ChatRequest request) {
+        return request != null ? request : new ChatRequest(null, DEFAULT_PROMPT, null);
     }
 }
@@ -0,0 +1,78 @@
+package com.app.playerservicejava.controller.reactive;
+
+import com.app.playerservicejava.controller.chat.ChatController;
+import com.app.playerservicejava.model.chat.ChatRequest;
+import com.app.playerservicejava.model.chat.ChatStreamSummary;
+import com.app.playerservicejava.service.chat.ModelCatalog;
+import com.app.playerservicejava.service.chat.ReactiveChatClientService;
+import io.github.ollama4j.models.Model;
+import jakarta.annotation.Resource;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link ChatController} on WebFlux, for the {@code reactive} profile: same paths, bodies and events.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping(value = "v1/chat", produces = { MediaType.APPLICATION_JSON_VALUE })
+public class ReactiveChatController {
+
+    @Resource
+    private ReactiveChatClientService reactiveChatClientService;
+
+    @Resource
+    private ModelCatalog modelCatalog;
+
+    @PostMapping
+    public Mono<String> chat(@RequestBody(required = false) @Valid ChatRequest request) {
+        return reactiveChatClientService.chat(orDefault(request));
+    }
+
+    /**
+     * {@code token} events, then {@code done} with timings or {@code error}. Closing the connection cancels
+     * the upstream generation.
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> chatStream(@RequestBody(required = false) @Valid ChatRequest request) {
+        AtomicReference<ChatStreamSummary> summary = new AtomicReference<>();
+        return reactiveChatClientService.streamChat(orDefault(request), summary::set)
+                .map(text -> event("token", Map.of("text", text)))
+                .concatWith(Mono.fromSupplier(() -> event("done", summary.get())))
+                .onErrorResume(e -> Mono.just(event("error", Map.of("message", "Chat generation failed"))));
+    }
+
+    /**
+     * The result handler answers 304 when {@code If-None-Match} carries the catalog's ETag. The very first
+     * call may fetch from Ollama, so the catalog is read off the event loop.
+     */
+    @GetMapping("/list-models")
+    public Mono<ResponseEntity<List<Model>>> listModels() {
+        return Mono.fromCallable(modelCatalog::snapshot)
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(catalog -> ResponseEntity.ok().eTag(catalog.getEtag()).body(catalog.getModels()));
+    }
+
+    private static ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.builder(data).event(name).build();
+    }
+
+    private static ChatRequest orDefault(ChatRequest request) {
+        return request != null ? request : new ChatRequest(null, ChatController.DEFAULT_PROMPT, null);
+    }
+}
@@ -0,0 +1,204 @@
+package com.app.playerservicejava.controller.reactive;
+
+import com.app.playerservicejava.controller.PlayerController;
+import com.app.playerservicejava.exception.InvalidFilterException;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.ReactivePlayerRepository;
+import com.app.playerservicejava.service.PlayerJsonCache;
+import com.app.playerservicejava.service.search.PlayerNameIndex;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Resource;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The read side of {@link PlayerController} on WebFlux, for the {@code reactive} profile. Players come from
+ * {@link ReactivePlayerRepository}; nothing here blocks the event loop. Search pages are ordered by player id
+ * (by the name index's order for indexed last-name searches) and {@code sort} is rejected.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping(value = "v1/players", produces = { MediaType.APPLICATION_JSON_VALUE })
+@Validated
+public class ReactivePlayerController {
+    /* a player's JSON is about 450 bytes; buffers grow if a batch needs more */
+    private static final int ESTIMATED_PLAYER_BYTES = 512;
+
+    @Resource
+    private ReactivePlayerRepository reactivePlayerRepository;
+
+    @Resource
+    private PlayerNameIndex playerNameIndex;
+
+    @Resource
+    private PlayerJsonCache playerJsonCache;
+
+    @Resource
+    private ObjectMapper objectMapper;
+
+    @Value("${players.reactive.stream-batch-size:256}")
+    private int streamBatchSize = 256;
+
+    /**
+     * {@code {"players":[...]}}, streamed off an R2DBC cursor: rows are read only as fast as the client takes
+     * the encoded buffers, so a slow reader holds neither the table nor a thread. {@code stream=true} is accepted
+     * for compatibility and changes nothing.
+     */
+    @GetMapping
+    public Mono<Void> getPlayers(ServerHttpResponse response) {
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(encode(response.bufferFactory(), "{\"players\":[", false, "]}"));
+    }
+
+    /**
+     * One player per line.
+     */
+    @GetMapping(produces = PlayerController.APPLICATION_NDJSON_VALUE)
+    public Mono<Void> streamPlayersNdjson(ServerHttpResponse response) {
+        response.getHeaders().setContentType(MediaType.parseMediaType(PlayerController.APPLICATION_NDJSON_VALUE));
+        return response.writeWith(encode(response.bufferFactory(), "", true, ""));
+    }
+
+    /* every player between prefix and suffix, stream-batch-size players per buffer */
+    private Flux<DataBuffer> encode(DataBufferFactory buffers, String prefix, boolean newlineDelimited, String suffix) {
+        Flux<DataBuffer> players = reactivePlayerRepository.findAll()
+                .buffer(streamBatchSize)
+                .index()
+                .map(batch -> encode(buffers, batch.getT2(), batch.getT1() == 0, newlineDelimited));
+        return Flux.concat(text(buffers, prefix), players, text(buffers, suffix));
+    }
+
+    private DataBuffer encode(DataBufferFactory buffers, List<Player> batch, boolean firstBatch, boolean newlineDelimited) {
+        DataBuffer buffer = buffers.allocateBuffer(batch.size() * ESTIMATED_PLAYER_BYTES);
+        try (OutputStream out = buffer.asOutputStream();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            for (int i = 0; i < batch.size(); i++) {
+                if (!newlineDelimited && (i > 0 || !firstBatch)) {
+                    generator.writeRaw(',');
+                }
+                generator.writeObject(batch.get(i));
+                if (newlineDelimited) {
+                    generator.writeRaw('\n');
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw new IllegalStateException("Players could not be encoded", e);
+        }
+        return buffer;
+    }
+
+    private static Mono<DataBuffer> text(DataBufferFactory buffers, String text) {
+        return text.isEmpty() ? Mono.empty() : Mono.fromSupplier(() -> buffers.wrap(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @GetMapping(value = "/search", params = "!cursor")
+    public Mono<Page<Player>> searchPlayers(
+            @RequestParam(required = false)
+            @Size(min = 1, max = 50, message = "Last name must be between 1 and 50 characters")
+            String lastName,
+            @RequestParam(required = false)
+            @Pattern(regexp = "\\d{4}", message = "Birth year must be a 4-digit number")
+            String birthYear,
+            @RequestParam(required = false)
+            @Pattern(regexp = "\\d{4}", message = "Birth year must be a 4-digit number")
+            String birthYearFrom,
+            @RequestParam(required = false)
+            @Pattern(regexp = "\\d{4}", message = "Birth year must be a 4-digit number")
+            String birthYearTo,
+            Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            throw new InvalidFilterException("sort is not supported by the reactive search");
+        }
+        long offset = pageable.getOffset();
+        int limit = pageable.getPageSize();
+        if (lastName != null) {
+            return playerNameIndex.isReady()
+                    ? indexedLastName(lastName, pageable)
+                    : page(reactivePlayerRepository.findByLastNameContaining(lastName, offset, limit),
+                            reactivePlayerRepository.countByLastNameContaining(lastName), pageable);
+        }
+        if (birthYear != null || birthYearFrom != null || birthYearTo != null) {
+            int from = Integer.parseInt(birthYear != null ? birthYear : birthYearFrom != null ? birthYearFrom : "0");
+            int to = Integer.parseInt(birthYear != null ? birthYear : birthYearTo != null ? birthYearTo : "9999");
+            return page(reactivePlayerRepository.findByBirthYearBetween(from, to, offset, limit),
+                    reactivePlayerRepository.countByBirthYearBetween(from, to), pageable);
+        }
+        return page(reactivePlayerRepository.findAll(offset, limit), reactivePlayerRepository.count(), pageable);
+    }
+
+    /* the index gives the matching ids in order; only the requested page is read */
+    private Mono<Page<Player>> indexedLastName(String fragment, Pageable pageable) {
+        List<String> matches = playerNameIndex.search(PlayerNameIndex.Field.LAST_NAME, fragment);
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        List<String> ids = matches.subList(from, to);
+        Map<String, Integer> position = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            position.put(ids.get(i), i);
+        }
+        return reactivePlayerRepository.findAllById(ids)
+                .collectSortedList((a, b) -> Integer.compare(position.get(a.getPlayerId()), position.get(b.getPlayerId())))
+                .map(players -> new PageImpl<>(players, pageable, matches.size()));
+    }
+
+    private static Mono<Page<Player>> page(Flux<Player> content, Mono<Long> total, Pageable pageable) {
+        return Mono.zip(content.collectList(), total)
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+
+    /**
+     * Same encodings, ETags and 304 handling as {@link PlayerController#getPlayerById}; a player missing
+     * from {@link PlayerJsonCache} is read over R2DBC.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<byte[]>> getPlayerById(@PathVariable("id") @NotBlank @Size(min = 3, max = 32) String id,
+                                                      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = PlayerController.acceptsGzip(acceptEncoding);
+        return Mono.justOrEmpty(playerJsonCache.getIfPresent(id))
+                .switchIfEmpty(reactivePlayerRepository.findById(id).map(playerJsonCache::put))
+                // the result handler answers 304 when If-None-Match carries this ETag
+                .map(body -> ResponseEntity.ok()
+                        .eTag(gzip ? body.getGzipEtag() : body.getEtag())
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .headers(headers -> {
+                            if (gzip) {
+                                headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                            }
+                        })
+                        .body(gzip ? body.getGzip() : body.getJson()))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
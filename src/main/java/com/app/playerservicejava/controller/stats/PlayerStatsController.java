@@ -0,0 +1,75 @@
+package com.app.playerservicejava.controller.stats;
+
+import com.app.playerservicejava.model.stats.PlayerGroupStats;
+import com.app.playerservicejava.model.stats.PlayerHistogram;
+import com.app.playerservicejava.model.stats.PlayerStatsFilter;
+import com.app.playerservicejava.service.analytics.PlayerAnalytics;
+import jakarta.annotation.Resource;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Aggregates over all players, answered from {@link PlayerAnalytics}' in-memory columns. Both
+ * endpoints take the same optional filters: {@code birthCountry}, {@code bats}, {@code throws},
+ * {@code birthYearFrom} and {@code birthYearTo}.
+ */
+@RestController
+@RequestMapping(value = "v1/players/stats", produces = { MediaType.APPLICATION_JSON_VALUE })
+@Validated
+public class PlayerStatsController {
+
+    @Resource
+    private PlayerAnalytics playerAnalytics;
+
+    /**
+     * e.g. {@code ?by=birthCountry} or {@code ?by=bats,throws}; dimensions are birthCountry, bats,
+     * throws, birthYear, birthDecade and debutYear.
+     */
+    @GetMapping("/group-by")
+    public ResponseEntity<PlayerGroupStats> groupBy(
+            @RequestParam
+            @Size(min = 1, max = 2, message = "Group by one or two dimensions")
+            List<String> by,
+            @RequestParam(required = false) String birthCountry,
+            @RequestParam(required = false) String bats,
+            @RequestParam(name = "throws", required = false) String throwStats,
+            @RequestParam(required = false) Integer birthYearFrom,
+            @RequestParam(required = false) Integer birthYearTo,
+            @RequestParam(defaultValue = "1000")
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 10000, message = "Limit must be at most 10000")
+            int limit) {
+        List<PlayerAnalytics.Dimension> dimensions = by.stream().map(PlayerAnalytics.Dimension::fromParam).toList();
+        PlayerStatsFilter filter = new PlayerStatsFilter(birthCountry, bats, throwStats, birthYearFrom, birthYearTo);
+        return ResponseEntity.ok(playerAnalytics.groupBy(dimensions, filter, limit));
+    }
+
+    /**
+     * e.g. {@code ?measure=height} or {@code ?measure=weight&bucketWidth=5}; measures are height
+     * (inches), weight (pounds), birthYear and debutYear.
+     */
+    @GetMapping("/histogram")
+    public ResponseEntity<PlayerHistogram> histogram(
+            @RequestParam String measure,
+            @RequestParam(required = false)
+            @Min(value = 1, message = "Bucket width must be at least 1")
+            Integer bucketWidth,
+            @RequestParam(required = false) String birthCountry,
+            @RequestParam(required = false) String bats,
+            @RequestParam(name = "throws", required = false) String throwStats,
+            @RequestParam(required = false) Integer birthYearFrom,
+            @RequestParam(required = false) Integer birthYearTo) {
+        PlayerStatsFilter filter = new PlayerStatsFilter(birthCountry, bats, throwStats, birthYearFrom, birthYearTo);
+        return ResponseEntity.ok(playerAnalytics.histogram(PlayerAnalytics.Measure.fromParam(measure), bucketWidth, filter));
+    }
+}
@@ -0,0 +1,41 @@
+package com.app.playerservicejava.controller.team;
+
+import com.app.playerservicejava.model.team.TeamFeedbackRequest;
+import com.app.playerservicejava.model.team.TeamFeedbackResponse;
+import com.app.playerservicejava.model.team.TeamGenerateRequest;
+import com.app.playerservicejava.model.team.TeamGenerateResponse;
+import com.app.playerservicejava.service.team.TeamGenerator;
+import jakarta.annotation.Resource;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The team endpoints of the Python model service ({@code /team/generate}, {@code /team/feedback}), with the
+ * same snake_case bodies, answered in process by {@link TeamGenerator}.
+ */
+@RestController
+@RequestMapping(value = "v1/team", produces = { MediaType.APPLICATION_JSON_VALUE })
+public class TeamController {
+
+    @Resource
+    private TeamGenerator teamGenerator;
+
+    /**
+     * e.g. {@code {"seed_id":"abbotji01","team_size":10}} or
+     * {@code {"features":{"birth_year":1990,"height":74,"bats":"L"},"team_size":5}}.
+     */
+    @PostMapping("/generate")
+    public ResponseEntity<TeamGenerateResponse> generate(@RequestBody @Valid TeamGenerateRequest request) {
+        return ResponseEntity.ok(teamGenerator.generate(request));
+    }
+
+    @PostMapping("/feedback")
+    public ResponseEntity<TeamFeedbackResponse> feedback(@RequestBody @Valid TeamFeedbackRequest request) {
+        return ResponseEntity.ok(teamGenerator.feedback(request));
+    }
+}
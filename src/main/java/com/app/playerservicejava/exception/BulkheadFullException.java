@@ -0,0 +1,11 @@
+package com.app.playerservicejava.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
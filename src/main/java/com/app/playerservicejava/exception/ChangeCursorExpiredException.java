@@ -0,0 +1,11 @@
+package com.app.playerservicejava.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.GONE)
+public class ChangeCursorExpiredException extends RuntimeException {
+    public ChangeCursorExpiredException(String message) {
+        super(message);
+    }
+}
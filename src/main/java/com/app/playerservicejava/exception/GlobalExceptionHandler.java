@@ -1,10 +1,14 @@
 package com.app.playerservicejava.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
 
 import jakarta.validation.ConstraintViolationException;
 
@@ -23,11 +27,115 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body("Request body validation failed");
     }
 
+    /* WebFlux's counterpart of MethodArgumentNotValidException, for the reactive profile */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<String> handleWebExchangeBind(WebExchangeBindException ex) {
+        return ResponseEntity.badRequest().body("Request body validation failed");
+    }
+
+    /* unreadable body or parameter under WebFlux */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<String> handleServerWebInput(ServerWebInputException ex) {
+        return ResponseEntity.badRequest().body(ex.getReason());
+    }
+
     @ExceptionHandler(PlayerNotFoundException.class)
     public ResponseEntity<String> handlePlayerNotFound(PlayerNotFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
     }
     
+    @ExceptionHandler(PlayerVersionMismatchException.class)
+    public ResponseEntity<String> handlePlayerVersionMismatch(PlayerVersionMismatchException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ex.getMessage());
+    }
+
+    /* a POST whose playerId is already taken; creating never overwrites */
+    @ExceptionHandler(PlayerAlreadyExistsException.class)
+    public ResponseEntity<String> handlePlayerAlreadyExists(PlayerAlreadyExistsException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursor(InvalidCursorException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    /* the change log no longer covers the cursor: the client has to reload the players */
+    @ExceptionHandler(ChangeCursorExpiredException.class)
+    public ResponseEntity<String> handleChangeCursorExpired(ChangeCursorExpiredException ex) {
+        return ResponseEntity.status(HttpStatus.GONE).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidFilterException.class)
+    public ResponseEntity<String> handleInvalidFilter(InvalidFilterException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<String> handleBulkheadFull(BulkheadFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(ChatOverloadedException.class)
+    public ResponseEntity<String> handleChatOverloaded(ChatOverloadedException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(NoChatBackendException.class)
+    public ResponseEntity<String> handleNoChatBackend(NoChatBackendException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(UnknownChatModelException.class)
+    public ResponseEntity<String> handleUnknownChatModel(UnknownChatModelException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidStatsQueryException.class)
+    public ResponseEntity<String> handleInvalidStatsQuery(InvalidStatsQueryException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    @ExceptionHandler(StatsUnavailableException.class)
+    public ResponseEntity<String> handleStatsUnavailable(StatsUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidTeamRequestException.class)
+    public ResponseEntity<String> handleInvalidTeamRequest(InvalidTeamRequestException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    @ExceptionHandler(TeamUnavailableException.class)
+    public ResponseEntity<String> handleTeamUnavailable(TeamUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(IngestException.class)
+    public ResponseEntity<String> handleIngest(IngestException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    @ExceptionHandler(IngestInProgressException.class)
+    public ResponseEntity<String> handleIngestInProgress(IngestInProgressException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(JsonProcessingException.class)
+    public ResponseEntity<String> handleMalformedJson(JsonProcessingException ex) {
+        return ResponseEntity.badRequest().body("Malformed request body");
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGeneric(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,11 @@
+package com.app.playerservicejava.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class IngestException extends RuntimeException {
+    public IngestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.app.playerservicejava.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.CONFLICT)
+public class IngestInProgressException extends RuntimeException {
+    public IngestInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.app.playerservicejava.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.PRECONDITION_FAILED)
+public class PlayerVersionMismatchException extends RuntimeException {
+    public PlayerVersionMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.app.playerservicejava.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * The in-memory stats columns are disabled or still being built.
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class StatsUnavailableException extends RuntimeException {
+    public StatsUnavailableException(String message) {
+        super(message);
+    }
+}
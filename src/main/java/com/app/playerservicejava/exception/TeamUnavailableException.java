@@ -0,0 +1,14 @@
+package com.app.playerservicejava.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * The team index is disabled or still being built.
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class TeamUnavailableException extends RuntimeException {
+    public TeamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.app.playerservicejava.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class UnknownChatModelException extends RuntimeException {
+    public UnknownChatModelException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,55 @@
+package com.app.playerservicejava.model;
+
+import java.io.Serializable;
+
+/**
+ * Outcome of one item of a bulk request; {@code index} is the item's position in the request body
+ * and {@code status} the HTTP status the equivalent single-item call would have returned.
+ */
+public class BulkItemResult implements Serializable {
+    private int index;
+    private String playerId;
+    private int status;
+    private String error;
+
+    public BulkItemResult() {}
+
+    public BulkItemResult(int index, String playerId, int status, String error) {
+        this.index = index;
+        this.playerId = playerId;
+        this.status = status;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(String playerId) {
+        this.playerId = playerId;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
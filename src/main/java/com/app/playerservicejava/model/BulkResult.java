@@ -0,0 +1,47 @@
+package com.app.playerservicejava.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class BulkResult implements Serializable {
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult> results;
+
+    public BulkResult() {}
+
+    public BulkResult(List<BulkItemResult> results) {
+        this.results = results;
+        for (BulkItemResult result : results) {
+            if (result.getStatus() < 300) {
+                succeeded++;
+            } else {
+                failed++;
+            }
+        }
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkItemResult> results) {
+        this.results = results;
+    }
+}
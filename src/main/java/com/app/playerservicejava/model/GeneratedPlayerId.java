@@ -0,0 +1,17 @@
+package com.app.playerservicejava.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The player id: the client's, or a generated UUID. See {@link PlayerIdGenerator}.
+ */
+@IdGeneratorType(PlayerIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface GeneratedPlayerId {
+}
@@ -0,0 +1,51 @@
+package com.app.playerservicejava.model;
+
+import java.io.Serializable;
+
+public class IngestReport implements Serializable {
+    private String source;
+    private long rows;
+    private long millis;
+    private long rowsPerSecond;
+
+    public IngestReport() {}
+
+    public IngestReport(String source, long rows, long millis) {
+        this.source = source;
+        this.rows = rows;
+        this.millis = millis;
+        this.rowsPerSecond = millis == 0 ? rows : rows * 1000 / millis;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    public void setMillis(long millis) {
+        this.millis = millis;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(long rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+}
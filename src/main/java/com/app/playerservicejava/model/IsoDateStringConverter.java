@@ -0,0 +1,32 @@
+package com.app.playerservicejava.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Stores an ISO-8601 date the API exposes as a string ({@code "2004-04-06"}) in a DATE column.
+ * Blank means unknown and is stored as NULL.
+ */
+@Converter
+public class IsoDateStringConverter implements AttributeConverter<String, LocalDate> {
+
+    @Override
+    public LocalDate convertToDatabaseColumn(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Not an ISO date: " + value, e);
+        }
+    }
+
+    @Override
+    public String convertToEntityAttribute(LocalDate value) {
+        return value == null ? null : value.toString();
+    }
+}
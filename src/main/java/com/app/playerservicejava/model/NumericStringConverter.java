@@ -0,0 +1,29 @@
+package com.app.playerservicejava.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a numeric field that the API exposes as a string (e.g. {@code "1981"}) in an integer column,
+ * so the database compares and indexes it as a number. Blank means unknown and is stored as NULL.
+ */
+@Converter
+public class NumericStringConverter implements AttributeConverter<String, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: " + value, e);
+        }
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -2,22 +2,36 @@ package com.app.playerservicejava.model;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLockType;
+import org.hibernate.annotations.OptimisticLocking;
 
+/* Hibernate writes only the changed columns and checks their old values, VERSION among them, in the WHERE */
 @Entity
 @Table(name="PLAYERS")
+@DynamicUpdate
+@OptimisticLocking(type = OptimisticLockType.DIRTY)
 public class Player {
 
+    /* the client's id when it sends one, else a UUID; either way a new player is INSERTed, never merged */
     @Id
     @Column(name = "PLAYERID")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedPlayerId
     private String playerId;
 
+    @Pattern(regexp = "\\d{1,4}", message = "Birth year must be a number")
+    @Convert(converter = NumericStringConverter.class)
     @Column(name = "BIRTHYEAR")
     private String birthYear;
 
+    @Pattern(regexp = "\\d{1,2}", message = "Birth month must be a number")
+    @Convert(converter = NumericStringConverter.class)
     @Column(name = "BIRTHMONTH")
     private String birthMonth;
 
+    @Pattern(regexp = "\\d{1,2}", message = "Birth day must be a number")
+    @Convert(converter = NumericStringConverter.class)
     @Column(name = "BIRTHDAY")
     private String birthDay;
 
@@ -32,12 +46,18 @@ public class Player {
     @Column(name = "BIRTHCITY", nullable = false)
     private String birthCity;
 
+    @Pattern(regexp = "\\d{1,4}", message = "Death year must be a number")
+    @Convert(converter = NumericStringConverter.class)
     @Column(name = "DEATHYEAR")
     private String deathYear;
 
+    @Pattern(regexp = "\\d{1,2}", message = "Death month must be a number")
+    @Convert(converter = NumericStringConverter.class)
     @Column(name = "DEATHMONTH")
     private String deathMonth;
 
+    @Pattern(regexp = "\\d{1,2}", message = "Death day must be a number")
+    @Convert(converter = NumericStringConverter.class)
     @Column(name = "DEATHDAY")
     private String deathDay;
 
@@ -61,9 +81,13 @@ public class Player {
     @Column(name = "NAMEGIVEN")
     private String givenName;
 
+    @Pattern(regexp = "\\d{1,3}", message = "Weight must be a number of pounds")
+    @Convert(converter = NumericStringConverter.class)
     @Column(name = "WEIGHT")
     private String weight;
 
+    @Pattern(regexp = "\\d{1,3}", message = "Height must be a number of inches")
+    @Convert(converter = NumericStringConverter.class)
     @Column(name = "HEIGHT")
     private String height;
 
@@ -73,9 +97,13 @@ public class Player {
     @Column(name = "THROWS")
     private String throwStats;
 
+    @Pattern(regexp = "\\d{4}-\\d{2}-\\d{2}", message = "Debut must be an ISO date (yyyy-MM-dd)")
+    @Convert(converter = IsoDateStringConverter.class)
     @Column(name = "DEBUT")
     private String debut;
 
+    @Pattern(regexp = "\\d{4}-\\d{2}-\\d{2}", message = "Final game must be an ISO date (yyyy-MM-dd)")
+    @Convert(converter = IsoDateStringConverter.class)
     @Column(name = "FINALGAME")
     private String finalGame;
 
@@ -85,6 +113,10 @@ public class Player {
     @Column(name = "BBREFID")
     private String bbrefId;
 
+    /* set from PlayerVersions by every insert and write, so it grows across players and never repeats */
+    @Column(name = "VERSION", nullable = false)
+    private long version;
+
     public Player() {}
 
     public String getPlayerId() {
@@ -278,4 +310,12 @@ public class Player {
     public void setBbrefId(String bbrefId) {
         this.bbrefId = bbrefId;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
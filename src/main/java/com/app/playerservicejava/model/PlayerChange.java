@@ -0,0 +1,102 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * One committed write to PLAYERS, as served by the change feed. {@code seq} orders all changes; a replica
+ * that has applied everything up to some {@code seq} asks for the changes after it.
+ */
+@Entity
+@Table(name = "PLAYER_CHANGES")
+public class PlayerChange {
+
+    public enum Operation {
+        CREATE, UPDATE, DELETE,
+        /* PLAYERS was replaced wholesale: replicas must reload it from GET /v1/players */
+        RELOAD
+    }
+
+    @Id
+    @Column(name = "SEQ")
+    private long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "OPERATION", nullable = false)
+    private Operation operation;
+
+    @Column(name = "PLAYERID")
+    private String playerId;
+
+    @Column(name = "VERSION")
+    private Long version;
+
+    @Column(name = "CHANGED_AT", nullable = false)
+    private Instant changedAt;
+
+    /* already JSON, so it is written into responses as an object, not re-encoded as a string */
+    @JsonRawValue
+    @Column(name = "PLAYER")
+    private String player;
+
+    public PlayerChange() {}
+
+    public PlayerChange(long seq, Operation operation, String playerId, Long version, Instant changedAt, String player) {
+        this.seq = seq;
+        this.operation = operation;
+        this.playerId = playerId;
+        this.version = version;
+        this.changedAt = changedAt;
+        this.player = player;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(Operation operation) {
+        this.operation = operation;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(String playerId) {
+        this.playerId = playerId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(Instant changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public void setPlayer(String player) {
+        this.player = player;
+    }
+}
@@ -0,0 +1,49 @@
+package com.app.playerservicejava.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Changes after a client's {@code since}, oldest first. {@code next} is the {@code since} for the following
+ * request; while {@code hasMore} is true the client should ask again straight away.
+ */
+public class PlayerChanges implements Serializable {
+    private List<PlayerChange> changes;
+    private long next;
+    private boolean hasMore;
+
+    public PlayerChanges() {
+        this.changes = new ArrayList<>();
+    }
+
+    public PlayerChanges(List<PlayerChange> changes, long next, boolean hasMore) {
+        this.changes = changes;
+        this.next = next;
+        this.hasMore = hasMore;
+    }
+
+    public List<PlayerChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<PlayerChange> changes) {
+        this.changes = changes;
+    }
+
+    public long getNext() {
+        return next;
+    }
+
+    public void setNext(long next) {
+        this.next = next;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
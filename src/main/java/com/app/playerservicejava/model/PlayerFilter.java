@@ -0,0 +1,146 @@
+package com.app.playerservicejava.model;
+
+/**
+ * Criteria for {@code GET /v1/players/filter}; every field is optional and {@code null} means "any".
+ * Names and birth country match exactly but case-insensitively, the other strings match exactly,
+ * and every range is inclusive (height in inches, weight in pounds).
+ */
+public class PlayerFilter {
+    private String firstName;
+    private String lastName;
+    private String birthCountry;
+    private String bats;
+    private String throwStats;
+    private String retroId;
+    private String bbrefId;
+    private Integer birthYearFrom;
+    private Integer birthYearTo;
+    private Integer debutYearFrom;
+    private Integer debutYearTo;
+    private Integer heightFrom;
+    private Integer heightTo;
+    private Integer weightFrom;
+    private Integer weightTo;
+
+    public PlayerFilter() {}
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getBirthCountry() {
+        return birthCountry;
+    }
+
+    public void setBirthCountry(String birthCountry) {
+        this.birthCountry = birthCountry;
+    }
+
+    public String getBats() {
+        return bats;
+    }
+
+    public void setBats(String bats) {
+        this.bats = bats;
+    }
+
+    public String getThrowStats() {
+        return throwStats;
+    }
+
+    public void setThrowStats(String throwStats) {
+        this.throwStats = throwStats;
+    }
+
+    public String getRetroId() {
+        return retroId;
+    }
+
+    public void setRetroId(String retroId) {
+        this.retroId = retroId;
+    }
+
+    public String getBbrefId() {
+        return bbrefId;
+    }
+
+    public void setBbrefId(String bbrefId) {
+        this.bbrefId = bbrefId;
+    }
+
+    public Integer getBirthYearFrom() {
+        return birthYearFrom;
+    }
+
+    public void setBirthYearFrom(Integer birthYearFrom) {
+        this.birthYearFrom = birthYearFrom;
+    }
+
+    public Integer getBirthYearTo() {
+        return birthYearTo;
+    }
+
+    public void setBirthYearTo(Integer birthYearTo) {
+        this.birthYearTo = birthYearTo;
+    }
+
+    public Integer getDebutYearFrom() {
+        return debutYearFrom;
+    }
+
+    public void setDebutYearFrom(Integer debutYearFrom) {
+        this.debutYearFrom = debutYearFrom;
+    }
+
+    public Integer getDebutYearTo() {
+        return debutYearTo;
+    }
+
+    public void setDebutYearTo(Integer debutYearTo) {
+        this.debutYearTo = debutYearTo;
+    }
+
+    public Integer getHeightFrom() {
+        return heightFrom;
+    }
+
+    public void setHeightFrom(Integer heightFrom) {
+        this.heightFrom = heightFrom;
+    }
+
+    public Integer getHeightTo() {
+        return heightTo;
+    }
+
+    public void setHeightTo(Integer heightTo) {
+        this.heightTo = heightTo;
+    }
+
+    public Integer getWeightFrom() {
+        return weightFrom;
+    }
+
+    public void setWeightFrom(Integer weightFrom) {
+        this.weightFrom = weightFrom;
+    }
+
+    public Integer getWeightTo() {
+        return weightTo;
+    }
+
+    public void setWeightTo(Integer weightTo) {
+        this.weightTo = weightTo;
+    }
+}
@@ -0,0 +1,33 @@
+package com.app.playerservicejava.model;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * Keeps a player id the client chose and generates a random UUID otherwise, so a new player with an id is
+ * persisted (and inserted) like one without.
+ */
+public class PlayerIdGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        // Hibernate passes no currentValue on persist, so the assigned id is read off the player
+        String assigned = ((Player) owner).getPlayerId();
+        return assigned != null ? assigned : UUID.randomUUID().toString();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
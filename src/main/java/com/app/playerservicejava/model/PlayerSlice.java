@@ -0,0 +1,59 @@
+package com.app.playerservicejava.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One keyset page of players. Unlike {@code Page<Player>} it carries no totals, so producing it
+ * never needs a count query; clients follow {@code nextCursor} until {@code hasNext} is false.
+ */
+public class PlayerSlice implements Serializable {
+    private List<Player> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public PlayerSlice() {
+        this.content = new ArrayList<>();
+    }
+
+    public PlayerSlice(List<Player> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Player> getContent() {
+        return content;
+    }
+
+    public void setContent(List<Player> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
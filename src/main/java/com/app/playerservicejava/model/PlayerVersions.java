@@ -0,0 +1,22 @@
+package com.app.playerservicejava.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The one source of player versions, for inserts, updates and reloads alike. Versions only grow across all
+ * players, so a version is never issued twice, not even to a player that was deleted and created again, and
+ * of two states of a player the one with the higher version is the newer.
+ * <p>
+ * Like change seqs, versions start from the clock (microseconds, ahead of it under bursts), so they also keep
+ * growing across a restart, which empties the in-memory database.
+ */
+public final class PlayerVersions {
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private PlayerVersions() {
+    }
+
+    public static long next() {
+        return LAST.accumulateAndGet(System.currentTimeMillis() * 1000, (last, clock) -> Math.max(last + 1, clock));
+    }
+}
@@ -0,0 +1,97 @@
+package com.app.playerservicejava.model.chat;
+
+import java.io.Serializable;
+
+/**
+ * One cached Ollama completion. {@code scope} identifies (model, options, player context) and
+ * {@code embedding} is only set when the similarity tier is on; both let the on-disk tier rebuild
+ * the similarity index after a restart.
+ */
+public class CachedCompletion implements Serializable {
+    private String id;
+    private String scope;
+    private String model;
+    private String prompt;
+    private String response;
+    private long generationMillis;
+    private long createdAtEpochMillis;
+    private float[] embedding;
+
+    public CachedCompletion() {}
+
+    public CachedCompletion(String id, String scope, String model, String prompt, String response,
+                            long generationMillis, long createdAtEpochMillis, float[] embedding) {
+        this.id = id;
+        this.scope = scope;
+        this.model = model;
+        this.prompt = prompt;
+        this.response = response;
+        this.generationMillis = generationMillis;
+        this.createdAtEpochMillis = createdAtEpochMillis;
+        this.embedding = embedding;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public void setModel(String model) {
+        this.model = model;
+    }
+
+    public String getPrompt() {
+        return prompt;
+    }
+
+    public void setPrompt(String prompt) {
+        this.prompt = prompt;
+    }
+
+    public String getResponse() {
+        return response;
+    }
+
+    public void setResponse(String response) {
+        this.response = response;
+    }
+
+    public long getGenerationMillis() {
+        return generationMillis;
+    }
+
+    public void setGenerationMillis(long generationMillis) {
+        this.generationMillis = generationMillis;
+    }
+
+    public long getCreatedAtEpochMillis() {
+        return createdAtEpochMillis;
+    }
+
+    public void setCreatedAtEpochMillis(long createdAtEpochMillis) {
+        this.createdAtEpochMillis = createdAtEpochMillis;
+    }
+
+    public float[] getEmbedding() {
+        return embedding;
+    }
+
+    public void setEmbedding(float[] embedding) {
+        this.embedding = embedding;
+    }
+}
@@ -0,0 +1,10 @@
+package com.app.playerservicejava.model.chat;
+
+/**
+ * Queue class of a chat request; when Ollama is saturated, waiting requests are served in this order.
+ */
+public enum ChatPriority {
+    INTERACTIVE,
+    NORMAL,
+    BATCH
+}
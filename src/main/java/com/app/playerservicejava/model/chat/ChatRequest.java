@@ -0,0 +1,67 @@
+package com.app.playerservicejava.model.chat;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Body of {@code POST /v1/chat} and {@code /v1/chat/stream}. {@code model} defaults to the service's
+ * model and {@code options} are passed to Ollama unchanged (e.g. {@code temperature}, {@code num_predict}).
+ * {@code priority} picks the dispatch queue class and defaults to {@code NORMAL}.
+ */
+public class ChatRequest implements Serializable {
+    public static final int MAX_PROMPT_LENGTH = 4000;
+
+    private String model;
+
+    @NotBlank(message = "Prompt is required")
+    @Size(max = MAX_PROMPT_LENGTH, message = "Prompt must be at most " + MAX_PROMPT_LENGTH + " characters")
+    private String prompt;
+
+    private Map<String, Object> options = new LinkedHashMap<>();
+
+    private ChatPriority priority = ChatPriority.NORMAL;
+
+    public ChatRequest() {}
+
+    public ChatRequest(String model, String prompt, Map<String, Object> options) {
+        this.model = model;
+        this.prompt = prompt;
+        setOptions(options);
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public void setModel(String model) {
+        this.model = model;
+    }
+
+    public String getPrompt() {
+        return prompt;
+    }
+
+    public void setPrompt(String prompt) {
+        this.prompt = prompt;
+    }
+
+    public Map<String, Object> getOptions() {
+        return options;
+    }
+
+    public void setOptions(Map<String, Object> options) {
+        this.options = options == null ? new LinkedHashMap<>() : options;
+    }
+
+    public ChatPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(ChatPriority priority) {
+        this.priority = priority == null ? ChatPriority.NORMAL : priority;
+    }
+}
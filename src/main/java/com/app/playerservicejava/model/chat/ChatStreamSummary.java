@@ -0,0 +1,54 @@
+package com.app.playerservicejava.model.chat;
+
+import java.io.Serializable;
+
+/**
+ * Sent as the final {@code done} event of a streamed chat.
+ */
+public class ChatStreamSummary implements Serializable {
+    private String model;
+    private long timeToFirstTokenMs;
+    private long durationMs;
+    private int chunks;
+
+    public ChatStreamSummary() {}
+
+    public ChatStreamSummary(String model, long timeToFirstTokenMs, long durationMs, int chunks) {
+        this.model = model;
+        this.timeToFirstTokenMs = timeToFirstTokenMs;
+        this.durationMs = durationMs;
+        this.chunks = chunks;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public void setModel(String model) {
+        this.model = model;
+    }
+
+    public long getTimeToFirstTokenMs() {
+        return timeToFirstTokenMs;
+    }
+
+    public void setTimeToFirstTokenMs(long timeToFirstTokenMs) {
+        this.timeToFirstTokenMs = timeToFirstTokenMs;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+}
@@ -0,0 +1,98 @@
+package com.app.playerservicejava.model.stats;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Players counted per distinct combination of the grouping dimensions, largest groups first.
+ * {@code matched} is the number of players that passed the filters; a {@code null} key part means the
+ * column is empty for that group, and averages are over the players whose height or weight is known.
+ */
+public class PlayerGroupStats implements Serializable {
+    private List<String> dimensions;
+    private long matched;
+    private List<Group> groups;
+
+    public PlayerGroupStats() {
+        this.groups = new ArrayList<>();
+    }
+
+    public PlayerGroupStats(List<String> dimensions, long matched, List<Group> groups) {
+        this.dimensions = dimensions;
+        this.matched = matched;
+        this.groups = groups;
+    }
+
+    public List<String> getDimensions() {
+        return dimensions;
+    }
+
+    public void setDimensions(List<String> dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    public long getMatched() {
+        return matched;
+    }
+
+    public void setMatched(long matched) {
+        this.matched = matched;
+    }
+
+    public List<Group> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<Group> groups) {
+        this.groups = groups;
+    }
+
+    public static class Group implements Serializable {
+        private List<String> key;
+        private long count;
+        private Double avgHeight;
+        private Double avgWeight;
+
+        public Group() {}
+
+        public Group(List<String> key, long count, Double avgHeight, Double avgWeight) {
+            this.key = key;
+            this.count = count;
+            this.avgHeight = avgHeight;
+            this.avgWeight = avgWeight;
+        }
+
+        public List<String> getKey() {
+            return key;
+        }
+
+        public void setKey(List<String> key) {
+            this.key = key;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public Double getAvgHeight() {
+            return avgHeight;
+        }
+
+        public void setAvgHeight(Double avgHeight) {
+            this.avgHeight = avgHeight;
+        }
+
+        public Double getAvgWeight() {
+            return avgWeight;
+        }
+
+        public void setAvgWeight(Double avgWeight) {
+            this.avgWeight = avgWeight;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.app.playerservicejava.model.stats;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Distribution of one numeric column over the players that passed the filters. Buckets are
+ * {@code bucketWidth} wide, half-open ({@code from} inclusive, {@code to} exclusive) and contiguous
+ * between {@code min} and {@code max}; players with no value are only counted in {@code missing}.
+ */
+public class PlayerHistogram implements Serializable {
+    private String measure;
+    private int bucketWidth;
+    private long count;
+    private long missing;
+    private Integer min;
+    private Integer max;
+    private Double mean;
+    private List<Bucket> buckets;
+
+    public PlayerHistogram() {
+        this.buckets = new ArrayList<>();
+    }
+
+    public PlayerHistogram(String measure, int bucketWidth, long count, long missing,
+                           Integer min, Integer max, Double mean, List<Bucket> buckets) {
+        this.measure = measure;
+        this.bucketWidth = bucketWidth;
+        this.count = count;
+        this.missing = missing;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+        this.buckets = buckets;
+    }
+
+    public String getMeasure() {
+        return measure;
+    }
+
+    public void setMeasure(String measure) {
+        this.measure = measure;
+    }
+
+    public int getBucketWidth() {
+        return bucketWidth;
+    }
+
+    public void setBucketWidth(int bucketWidth) {
+        this.bucketWidth = bucketWidth;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getMissing() {
+        return missing;
+    }
+
+    public void setMissing(long missing) {
+        this.missing = missing;
+    }
+
+    public Integer getMin() {
+        return min;
+    }
+
+    public void setMin(Integer min) {
+        this.min = min;
+    }
+
+    public Integer getMax() {
+        return max;
+    }
+
+    public void setMax(Integer max) {
+        this.max = max;
+    }
+
+    public Double getMean() {
+        return mean;
+    }
+
+    public void setMean(Double mean) {
+        this.mean = mean;
+    }
+
+    public List<Bucket> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<Bucket> buckets) {
+        this.buckets = buckets;
+    }
+
+    public static class Bucket implements Serializable {
+        private int from;
+        private int to;
+        private long count;
+
+        public Bucket() {}
+
+        public Bucket(int from, int to, long count) {
+            this.from = from;
+            this.to = to;
+            this.count = count;
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public void setFrom(int from) {
+            this.from = from;
+        }
+
+        public int getTo() {
+            return to;
+        }
+
+        public void setTo(int to) {
+            this.to = to;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+    }
+}
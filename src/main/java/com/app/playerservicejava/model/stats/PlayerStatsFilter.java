@@ -0,0 +1,63 @@
+package com.app.playerservicejava.model.stats;
+
+/**
+ * Optional restrictions applied before grouping or bucketing; {@code null} means "any".
+ * String values match exactly (birth country is case-insensitive), birth years are inclusive.
+ */
+public class PlayerStatsFilter {
+    private String birthCountry;
+    private String bats;
+    private String throwStats;
+    private Integer birthYearFrom;
+    private Integer birthYearTo;
+
+    public PlayerStatsFilter() {}
+
+    public PlayerStatsFilter(String birthCountry, String bats, String throwStats, Integer birthYearFrom, Integer birthYearTo) {
+        this.birthCountry = birthCountry;
+        this.bats = bats;
+        this.throwStats = throwStats;
+        this.birthYearFrom = birthYearFrom;
+        this.birthYearTo = birthYearTo;
+    }
+
+    public String getBirthCountry() {
+        return birthCountry;
+    }
+
+    public void setBirthCountry(String birthCountry) {
+        this.birthCountry = birthCountry;
+    }
+
+    public String getBats() {
+        return bats;
+    }
+
+    public void setBats(String bats) {
+        this.bats = bats;
+    }
+
+    public String getThrowStats() {
+        return throwStats;
+    }
+
+    public void setThrowStats(String throwStats) {
+        this.throwStats = throwStats;
+    }
+
+    public Integer getBirthYearFrom() {
+        return birthYearFrom;
+    }
+
+    public void setBirthYearFrom(Integer birthYearFrom) {
+        this.birthYearFrom = birthYearFrom;
+    }
+
+    public Integer getBirthYearTo() {
+        return birthYearTo;
+    }
+
+    public void setBirthYearTo(Integer birthYearTo) {
+        this.birthYearTo = birthYearTo;
+    }
+}
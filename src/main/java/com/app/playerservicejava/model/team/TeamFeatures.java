@@ -0,0 +1,76 @@
+package com.app.playerservicejava.model.team;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Pattern;
+
+import java.io.Serializable;
+
+/**
+ * A made-up player to build a team around; every field is optional and a missing one counts as average.
+ * {@code bats} and {@code throws} are L, R or N.
+ */
+public class TeamFeatures implements Serializable {
+    @JsonProperty("birth_year")
+    private Double birthYear;
+
+    private Double height;
+
+    private Double weight;
+
+    @Pattern(regexp = "[LRN]", message = "bats must be L, R or N")
+    private String bats;
+
+    @JsonProperty("throws")
+    @Pattern(regexp = "[LRN]", message = "throws must be L, R or N")
+    private String throwStats;
+
+    public TeamFeatures() {}
+
+    public TeamFeatures(Double birthYear, Double height, Double weight, String bats, String throwStats) {
+        this.birthYear = birthYear;
+        this.height = height;
+        this.weight = weight;
+        this.bats = bats;
+        this.throwStats = throwStats;
+    }
+
+    public Double getBirthYear() {
+        return birthYear;
+    }
+
+    public void setBirthYear(Double birthYear) {
+        this.birthYear = birthYear;
+    }
+
+    public Double getHeight() {
+        return height;
+    }
+
+    public void setHeight(Double height) {
+        this.height = height;
+    }
+
+    public Double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(Double weight) {
+        this.weight = weight;
+    }
+
+    public String getBats() {
+        return bats;
+    }
+
+    public void setBats(String bats) {
+        this.bats = bats;
+    }
+
+    public String getThrowStats() {
+        return throwStats;
+    }
+
+    public void setThrowStats(String throwStats) {
+        this.throwStats = throwStats;
+    }
+}
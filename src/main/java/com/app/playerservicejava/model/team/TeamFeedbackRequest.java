@@ -0,0 +1,76 @@
+package com.app.playerservicejava.model.team;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.io.Serializable;
+
+/**
+ * Body of {@code POST /v1/team/feedback}: -1 leaves {@code member_id} out of the seed's future teams,
+ * 1 is accepted and changes nothing.
+ */
+public class TeamFeedbackRequest implements Serializable {
+    @JsonProperty("seed_id")
+    @NotBlank(message = "seed_id is required")
+    @Size(max = 64, message = "seed_id must be at most 64 characters")
+    private String seedId;
+
+    @JsonProperty("member_id")
+    @NotBlank(message = "member_id is required")
+    @Size(max = 64, message = "member_id must be at most 64 characters")
+    private String memberId;
+
+    @NotNull(message = "feedback is required")
+    @Min(value = -1, message = "feedback must be -1 or 1")
+    @Max(value = 1, message = "feedback must be -1 or 1")
+    private Integer feedback;
+
+    @JsonProperty("prediction_id")
+    @Size(max = 64, message = "prediction_id must be at most 64 characters")
+    private String predictionId;
+
+    public TeamFeedbackRequest() {}
+
+    public TeamFeedbackRequest(String seedId, String memberId, Integer feedback, String predictionId) {
+        this.seedId = seedId;
+        this.memberId = memberId;
+        this.feedback = feedback;
+        this.predictionId = predictionId;
+    }
+
+    public String getSeedId() {
+        return seedId;
+    }
+
+    public void setSeedId(String seedId) {
+        this.seedId = seedId;
+    }
+
+    public String getMemberId() {
+        return memberId;
+    }
+
+    public void setMemberId(String memberId) {
+        this.memberId = memberId;
+    }
+
+    public Integer getFeedback() {
+        return feedback;
+    }
+
+    public void setFeedback(Integer feedback) {
+        this.feedback = feedback;
+    }
+
+    public String getPredictionId() {
+        return predictionId;
+    }
+
+    public void setPredictionId(String predictionId) {
+        this.predictionId = predictionId;
+    }
+}
@@ -0,0 +1,61 @@
+package com.app.playerservicejava.model.team;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+import java.io.Serializable;
+
+/**
+ * Body of {@code POST /v1/team/generate}: a team of {@code team_size} players most like either an existing
+ * player ({@code seed_id}) or the given {@code features}. The seed wins when both are set.
+ */
+public class TeamGenerateRequest implements Serializable {
+    public static final int MAX_TEAM_SIZE = 1000;
+
+    @JsonProperty("seed_id")
+    @Size(min = 1, max = 64, message = "seed_id must be between 1 and 64 characters")
+    private String seedId;
+
+    @Valid
+    private TeamFeatures features;
+
+    @JsonProperty("team_size")
+    @Min(value = 1, message = "team_size must be at least 1")
+    @Max(value = MAX_TEAM_SIZE, message = "team_size must be at most " + MAX_TEAM_SIZE)
+    private int teamSize;
+
+    public TeamGenerateRequest() {}
+
+    public TeamGenerateRequest(String seedId, TeamFeatures features, int teamSize) {
+        this.seedId = seedId;
+        this.features = features;
+        this.teamSize = teamSize;
+    }
+
+    public String getSeedId() {
+        return seedId;
+    }
+
+    public void setSeedId(String seedId) {
+        this.seedId = seedId;
+    }
+
+    public TeamFeatures getFeatures() {
+        return features;
+    }
+
+    public void setFeatures(TeamFeatures features) {
+        this.features = features;
+    }
+
+    public int getTeamSize() {
+        return teamSize;
+    }
+
+    public void setTeamSize(int teamSize) {
+        this.teamSize = teamSize;
+    }
+}
@@ -0,0 +1,67 @@
+package com.app.playerservicejava.model.team;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The generated team, nearest first; {@code team_size} is the number of members actually returned.
+ */
+public class TeamGenerateResponse implements Serializable {
+    @JsonProperty("seed_id")
+    private String seedId;
+
+    @JsonProperty("prediction_id")
+    private String predictionId;
+
+    @JsonProperty("team_size")
+    private int teamSize;
+
+    @JsonProperty("member_ids")
+    private List<String> memberIds;
+
+    public TeamGenerateResponse() {
+        this.memberIds = new ArrayList<>();
+    }
+
+    public TeamGenerateResponse(String seedId, String predictionId, List<String> memberIds) {
+        this.seedId = seedId;
+        this.predictionId = predictionId;
+        this.teamSize = memberIds.size();
+        this.memberIds = memberIds;
+    }
+
+    public String getSeedId() {
+        return seedId;
+    }
+
+    public void setSeedId(String seedId) {
+        this.seedId = seedId;
+    }
+
+    public String getPredictionId() {
+        return predictionId;
+    }
+
+    public void setPredictionId(String predictionId) {
+        this.predictionId = predictionId;
+    }
+
+    public int getTeamSize() {
+        return teamSize;
+    }
+
+    public void setTeamSize(int teamSize) {
+        this.teamSize = teamSize;
+    }
+
+    public List<String> getMemberIds() {
+        return memberIds;
+    }
+
+    public void setMemberIds(List<String> memberIds) {
+        this.memberIds = memberIds;
+    }
+}
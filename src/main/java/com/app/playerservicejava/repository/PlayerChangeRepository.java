@@ -0,0 +1,30 @@
+package com.app.playerservicejava.repository;
+
+import com.app.playerservicejava.model.PlayerChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PlayerChangeRepository extends JpaRepository<PlayerChange, Long> {
+
+    /* keyset read of the log; callers cap throughSeq at the feed's published sequence */
+    List<PlayerChange> findBySeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(long afterSeq, long throughSeq, Limit limit);
+
+    @Query("select min(c.seq) from PlayerChange c")
+    Long findFirstSeq();
+
+    @Query("select coalesce(max(c.seq), 0) from PlayerChange c")
+    long findLastSeq();
+
+    @Query("select max(c.seq) from PlayerChange c where c.changedAt < :before")
+    Long findLastSeqBefore(@Param("before") Instant before);
+
+    @Modifying
+    @Query("delete from PlayerChange c where c.seq <= :seq")
+    int deleteThrough(@Param("seq") long seq);
+}
@@ -0,0 +1,20 @@
+package com.app.playerservicejava.repository;
+
+import com.app.playerservicejava.model.Player;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse-field reads: only the requested columns are selected and no entity is materialised.
+ */
+public interface PlayerProjectionRepository {
+
+    /**
+     * @param fields Player attribute names, in the order they should appear in each row
+     */
+    Page<Map<String, Object>> findAll(Specification<Player> specification, List<String> fields, Pageable pageable);
+}
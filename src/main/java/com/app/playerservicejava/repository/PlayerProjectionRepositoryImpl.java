@@ -0,0 +1,66 @@
+package com.app.playerservicejava.repository;
+
+import com.app.playerservicejava.model.Player;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+class PlayerProjectionRepositoryImpl implements PlayerProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findAll(Specification<Player> specification, List<String> fields, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Player> root = query.from(Player.class);
+        query.multiselect(fields.stream().<Selection<?>>map(field -> root.get(field).alias(field)).toList());
+        Predicate where = specification.toPredicate(root, query, builder);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query).setHint(HINT_READ_ONLY, true);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> rows = typed.getResultList().stream().map(tuple -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            fields.forEach(field -> row.put(field, tuple.get(field)));
+            return row;
+        }).toList();
+        // the count query only runs when the page alone cannot tell the total
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(specification));
+    }
+
+    private long count(Specification<Player> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Player> root = query.from(Player.class);
+        Predicate where = specification.toPredicate(root, query, builder);
+        if (where != null) {
+            query.where(where);
+        }
+        return entityManager.createQuery(query.select(builder.count(root))).getSingleResult();
+    }
+}
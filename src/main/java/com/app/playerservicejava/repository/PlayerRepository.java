@@ -1,13 +1,28 @@
 package com.app.playerservicejava.repository;
 import com.app.playerservicejava.model.Player;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface PlayerRepository extends JpaRepository<Player, String>, JpaSpecificationExecutor<Player>,
+        PlayerProjectionRepository, PlayerWriteRepository {
+    /* rows pulled per JDBC round trip when streaming the whole table */
+    String STREAM_FETCH_SIZE = "500";
 
-public interface PlayerRepository extends JpaRepository<Player, String> {
     Optional<Player> findByPlayerId(String playerId);
 
     List<Player> findByLastNameIgnoreCase(String lastName);
@@ -27,6 +42,35 @@ public interface PlayerRepository extends JpaRepository<Player, String> {
 
     Page<Player> findByLastNameContainingIgnoreCase(String fragment, Pageable pageable);
     Page<Player> findByBirthYear(String birthYear, Pageable pageable);
+    /* BIRTHYEAR is a SMALLINT column, so this compares numerically despite the String parameters */
+    Page<Player> findByBirthYearBetween(String fromYear, String toYear, Pageable pageable);
+
+    /* keyset (seek) pagination: no OFFSET and no count query, so every page costs the same */
+    List<Player> findByPlayerIdGreaterThanOrderByPlayerIdAsc(String afterPlayerId, Limit limit);
+    List<Player> findByBirthYearAndPlayerIdGreaterThanOrderByPlayerIdAsc(String birthYear, String afterPlayerId, Limit limit);
+
+    /* the fragment's %, _ and \ are escaped, so it matches literally, as in findByLastNameContainingIgnoreCase */
+    @Query("select p from Player p"
+            + " where lower(p.lastName) like lower(concat('%', :#{escape(#fragment)}, '%')) escape :#{escapeCharacter()}"
+            + " and (p.lastName > :afterLastName or (p.lastName = :afterLastName and p.playerId > :afterPlayerId))"
+            + " order by p.lastName asc, p.playerId asc")
+    List<Player> findByLastNameContainingAfter(@Param("fragment") String fragment,
+                                               @Param("afterLastName") String afterLastName,
+                                               @Param("afterPlayerId") String afterPlayerId,
+                                               Limit limit);
+
+    @Query("select p.playerId from Player p where p.playerId in :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Cursor-backed scan of the whole table. Must be consumed inside a transaction and closed.
+     */
+    @Query("select p from Player p")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<Player> streamAll();
 }
 
 
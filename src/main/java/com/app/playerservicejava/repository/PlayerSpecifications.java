@@ -0,0 +1,89 @@
+package com.app.playerservicejava.repository;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerFilter;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles a {@link PlayerFilter} into one WHERE clause. Range bounds are bound as strings against
+ * the String-typed attributes, so the attribute converters turn them into SMALLINT / DATE parameters
+ * and the comparison (and index) is numeric.
+ */
+public final class PlayerSpecifications {
+
+    /* Player's persistent attributes, which are also its JSON property names */
+    public static final Set<String> FIELDS = Arrays.stream(Player.class.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+            .map(Field::getName)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private PlayerSpecifications() {}
+
+    public static Specification<Player> matching(PlayerFilter filter) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            equalIgnoreCase(predicates, builder, root.get("firstName"), filter.getFirstName());
+            equalIgnoreCase(predicates, builder, root.get("lastName"), filter.getLastName());
+            equalIgnoreCase(predicates, builder, root.get("birthCountry"), filter.getBirthCountry());
+            equal(predicates, builder, root.get("bats"), filter.getBats());
+            equal(predicates, builder, root.get("throwStats"), filter.getThrowStats());
+            equal(predicates, builder, root.get("retroId"), filter.getRetroId());
+            equal(predicates, builder, root.get("bbrefId"), filter.getBbrefId());
+            range(predicates, builder, root.get("birthYear"), number(filter.getBirthYearFrom()), number(filter.getBirthYearTo()));
+            range(predicates, builder, root.get("height"), number(filter.getHeightFrom()), number(filter.getHeightTo()));
+            range(predicates, builder, root.get("weight"), number(filter.getWeightFrom()), number(filter.getWeightTo()));
+            range(predicates, builder, root.get("debut"),
+                    filter.getDebutYearFrom() == null ? null : String.format("%04d-01-01", filter.getDebutYearFrom()),
+                    filter.getDebutYearTo() == null ? null : String.format("%04d-12-31", filter.getDebutYearTo()));
+            return builder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * @return the first name in {@code names} that is not a Player attribute, or {@code null}
+     */
+    public static String unknownField(Iterable<String> names) {
+        for (String name : names) {
+            if (!FIELDS.contains(name)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private static void equal(List<Predicate> predicates, CriteriaBuilder builder, Path<String> path, String value) {
+        if (value != null) {
+            predicates.add(builder.equal(path, value));
+        }
+    }
+
+    private static void equalIgnoreCase(List<Predicate> predicates, CriteriaBuilder builder, Path<String> path, String value) {
+        if (value != null) {
+            predicates.add(builder.equal(builder.upper(path), value.toUpperCase()));
+        }
+    }
+
+    private static void range(List<Predicate> predicates, CriteriaBuilder builder, Path<String> path, String from, String to) {
+        if (from != null) {
+            predicates.add(builder.greaterThanOrEqualTo(path, from));
+        }
+        if (to != null) {
+            predicates.add(builder.lessThanOrEqualTo(path, to));
+        }
+    }
+
+    private static String number(Integer value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package com.app.playerservicejava.repository;
+
+import com.app.playerservicejava.model.Player;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-statement writes: no load before the write, and the version check happens in the statement itself,
+ * so a stale writer finds zero rows instead of overwriting or waiting on a lock.
+ */
+public interface PlayerWriteRepository {
+
+    /**
+     * Persists new players and flushes them as batched INSERTs; unlike {@code saveAll}, which merges players
+     * that carry an id, no row is read first and an existing playerId fails instead of being overwritten.
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException if a playerId is already taken
+     */
+    void insert(List<Player> players);
+
+    /**
+     * {@code UPDATE PLAYERS SET <changed columns>, VERSION = ? WHERE PLAYERID = ? [AND VERSION = ?]}.
+     *
+     * @param changes Player attribute names and their new values (null clears the column); no other column is written
+     * @param expectedVersion the version the row must still have, or null to update whatever version it has
+     * @param newVersion the version the row gets, from {@link com.app.playerservicejava.model.PlayerVersions}
+     * @return 1, or 0 when the player does not exist or its version has moved on
+     */
+    int updateColumns(String playerId, Map<String, String> changes, Long expectedVersion, long newVersion);
+
+    /**
+     * {@code DELETE FROM PLAYERS WHERE PLAYERID = ? AND VERSION = ?}.
+     *
+     * @return 1, or 0 when the player does not exist or its version has moved on
+     */
+    int deleteByIdAndVersion(String playerId, long expectedVersion);
+}
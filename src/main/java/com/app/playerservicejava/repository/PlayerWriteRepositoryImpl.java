@@ -0,0 +1,61 @@
+package com.app.playerservicejava.repository;
+
+import com.app.playerservicejava.model.Player;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+class PlayerWriteRepositoryImpl implements PlayerWriteRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void insert(List<Player> players) {
+        players.forEach(entityManager::persist);
+        // flushed here, so a duplicate key surfaces from this call, translated like any repository exception
+        entityManager.flush();
+    }
+
+    /* values are bound against the String attributes, so the attribute converters type them for the column */
+    @Override
+    @Transactional
+    public int updateColumns(String playerId, Map<String, String> changes, Long expectedVersion, long newVersion) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Player> update = builder.createCriteriaUpdate(Player.class);
+        Root<Player> root = update.from(Player.class);
+        changes.forEach((field, value) -> {
+            Path<String> column = root.get(field);
+            if (value == null) {
+                update.set(column, builder.nullLiteral(String.class));
+            } else {
+                update.set(column, value);
+            }
+        });
+        Path<Long> version = root.get("version");
+        update.set(version, newVersion);
+        Predicate where = builder.equal(root.get("playerId"), playerId);
+        update.where(expectedVersion == null ? where : builder.and(where, builder.equal(version, expectedVersion)));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int deleteByIdAndVersion(String playerId, long expectedVersion) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaDelete<Player> delete = builder.createCriteriaDelete(Player.class);
+        Root<Player> root = delete.from(Player.class);
+        delete.where(builder.equal(root.get("playerId"), playerId), builder.equal(root.get("version"), expectedVersion));
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+}
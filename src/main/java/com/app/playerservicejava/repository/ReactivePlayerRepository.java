@@ -0,0 +1,140 @@
+package com.app.playerservicejava.repository;
+
+import com.app.playerservicejava.model.Player;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * PLAYERS over R2DBC for the {@code reactive} profile. Rows are mapped by hand to the same {@link Player}
+ * the JPA side returns: SMALLINT and DATE columns come back as the strings the API exposes.
+ * Pages are ordered by player id so OFFSET/LIMIT is stable.
+ */
+@Repository
+@Profile("reactive")
+public class ReactivePlayerRepository {
+
+    private static final String SELECT = "SELECT PLAYERID, BIRTHYEAR, BIRTHMONTH, BIRTHDAY, BIRTHCOUNTRY, BIRTHSTATE,"
+            + " BIRTHCITY, DEATHYEAR, DEATHMONTH, DEATHDAY, DEATHCOUNTRY, DEATHSTATE, DEATHCITY, NAMEFIRST, NAMELAST,"
+            + " NAMEGIVEN, WEIGHT, HEIGHT, BATS, THROWS, DEBUT, FINALGAME, RETROID, BBREFID, VERSION FROM PLAYERS";
+
+    private static final String LAST_NAME_CONTAINS = " WHERE LOWER(NAMELAST) LIKE :pattern ESCAPE '\\'";
+    private static final String BIRTH_YEAR_BETWEEN = " WHERE BIRTHYEAR BETWEEN :from AND :to";
+    private static final String PAGE = " ORDER BY PLAYERID LIMIT :limit OFFSET :offset";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * Every player, in primary-key order. Rows are pulled from the cursor as the subscriber requests them.
+     */
+    public Flux<Player> findAll() {
+        return databaseClient.sql(SELECT + " ORDER BY PLAYERID").map(ReactivePlayerRepository::toPlayer).all();
+    }
+
+    public Flux<Player> findAll(long offset, int limit) {
+        return databaseClient.sql(SELECT + PAGE)
+                .bind("limit", limit).bind("offset", offset)
+                .map(ReactivePlayerRepository::toPlayer).all();
+    }
+
+    public Mono<Long> count() {
+        return databaseClient.sql("SELECT COUNT(*) FROM PLAYERS").map(row -> row.get(0, Long.class)).one();
+    }
+
+    public Mono<Player> findById(String playerId) {
+        return databaseClient.sql(SELECT + " WHERE PLAYERID = :id")
+                .bind("id", playerId)
+                .map(ReactivePlayerRepository::toPlayer).one();
+    }
+
+    /**
+     * In no particular order; callers that need one sort the result.
+     */
+    public Flux<Player> findAllById(Collection<String> playerIds) {
+        if (playerIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(SELECT + " WHERE PLAYERID IN (:ids)")
+                .bind("ids", playerIds)
+                .map(ReactivePlayerRepository::toPlayer).all();
+    }
+
+    /**
+     * Case-insensitive substring match on the last name, like {@link PlayerRepository#findByLastNameContainingIgnoreCase}.
+     */
+    public Flux<Player> findByLastNameContaining(String fragment, long offset, int limit) {
+        return databaseClient.sql(SELECT + LAST_NAME_CONTAINS + PAGE)
+                .bind("pattern", containing(fragment)).bind("limit", limit).bind("offset", offset)
+                .map(ReactivePlayerRepository::toPlayer).all();
+    }
+
+    public Mono<Long> countByLastNameContaining(String fragment) {
+        return databaseClient.sql("SELECT COUNT(*) FROM PLAYERS" + LAST_NAME_CONTAINS)
+                .bind("pattern", containing(fragment))
+                .map(row -> row.get(0, Long.class)).one();
+    }
+
+    public Flux<Player> findByBirthYearBetween(int fromYear, int toYear, long offset, int limit) {
+        return databaseClient.sql(SELECT + BIRTH_YEAR_BETWEEN + PAGE)
+                .bind("from", fromYear).bind("to", toYear).bind("limit", limit).bind("offset", offset)
+                .map(ReactivePlayerRepository::toPlayer).all();
+    }
+
+    public Mono<Long> countByBirthYearBetween(int fromYear, int toYear) {
+        return databaseClient.sql("SELECT COUNT(*) FROM PLAYERS" + BIRTH_YEAR_BETWEEN)
+                .bind("from", fromYear).bind("to", toYear)
+                .map(row -> row.get(0, Long.class)).one();
+    }
+
+    /* LIKE pattern matching the fragment anywhere, with its own wildcards taken literally */
+    static String containing(String fragment) {
+        String escaped = fragment.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    static Player toPlayer(Readable row) {
+        Player player = new Player();
+        player.setPlayerId(text(row, "PLAYERID"));
+        player.setBirthYear(text(row, "BIRTHYEAR"));
+        player.setBirthMonth(text(row, "BIRTHMONTH"));
+        player.setBirthDay(text(row, "BIRTHDAY"));
+        player.setBirthCountry(text(row, "BIRTHCOUNTRY"));
+        player.setBirthState(text(row, "BIRTHSTATE"));
+        player.setBirthCity(text(row, "BIRTHCITY"));
+        player.setDeathYear(text(row, "DEATHYEAR"));
+        player.setDeathMonth(text(row, "DEATHMONTH"));
+        player.setDeathDay(text(row, "DEATHDAY"));
+        player.setDeathCountry(text(row, "DEATHCOUNTRY"));
+        player.setDeathState(text(row, "DEATHSTATE"));
+        player.setDeathCity(text(row, "DEATHCITY"));
+        player.setFirstName(text(row, "NAMEFIRST"));
+        player.setLastName(text(row, "NAMELAST"));
+        player.setGivenName(text(row, "NAMEGIVEN"));
+        player.setWeight(text(row, "WEIGHT"));
+        player.setHeight(text(row, "HEIGHT"));
+        player.setBats(text(row, "BATS"));
+        player.setThrowStats(text(row, "THROWS"));
+        player.setDebut(text(row, "DEBUT"));
+        player.setFinalGame(text(row, "FINALGAME"));
+        player.setRetroId(text(row, "RETROID"));
+        player.setBbrefId(text(row, "BBREFID"));
+        player.setVersion(row.get("VERSION", Long.class));
+        return player;
+    }
+
+    /* numbers and ISO dates print the way NumericStringConverter and IsoDateStringConverter read them back */
+    private static String text(Readable row, String column) {
+        Object value = row.get(column);
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.app.playerservicejava.service;
+
+import com.app.playerservicejava.exception.InvalidCursorException;
+import com.app.playerservicejava.model.Player;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination: the sort key of the last row a client has seen.
+ * Encoded as url-safe base64 of {@code lastName NUL playerId}; an empty token means "from the start".
+ */
+public final class PlayerCursor {
+    private static final char SEPARATOR = '\0';
+
+    public static final PlayerCursor START = new PlayerCursor("", "");
+
+    private final String lastName;
+    private final String playerId;
+
+    private PlayerCursor(String lastName, String playerId) {
+        this.lastName = lastName;
+        this.playerId = playerId;
+    }
+
+    public static PlayerCursor after(Player player) {
+        return new PlayerCursor(player.getLastName() == null ? "" : player.getLastName(), player.getPlayerId());
+    }
+
+    public static PlayerCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return START;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor: " + token);
+        }
+        int split = raw.indexOf(SEPARATOR);
+        if (split < 0 || split == raw.length() - 1) {
+            throw new InvalidCursorException("Malformed cursor: " + token);
+        }
+        return new PlayerCursor(raw.substring(0, split), raw.substring(split + 1));
+    }
+
+    public String encode() {
+        String raw = lastName + SEPARATOR + playerId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+}
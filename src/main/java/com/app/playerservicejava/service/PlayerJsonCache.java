@@ -0,0 +1,144 @@
+package com.app.playerservicejava.service;
+
+import com.app.playerservicejava.config.CacheConfiguration;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerVersions;
+import com.app.playerservicejava.service.ingest.PlayersReloadedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ETag;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GET /v1/players/{id} response bodies, already encoded, in the {@code player-json} cache: the JSON bytes,
+ * their gzip encoding (made on first request for it) and a strong ETag per encoding. Entries are evicted
+ * together with the {@code players} cache on every write and cleared on reload; absent players are not cached.
+ * ETags read {@code "<version>-<hash of the JSON>"}, so an {@code If-Match} can be checked against the row's
+ * version without loading it. That is safe because {@link PlayerVersions} never issues a version twice, across
+ * writes, deletes and re-creates, and reloads alike.
+ */
+@Component
+public class PlayerJsonCache {
+    private static final Pattern ETAG = Pattern.compile("(\\d{1,18})-[0-9a-f]{32}(-gzip)?");
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public static final class Body {
+        private final byte[] json;
+        private final String etag;
+        private volatile byte[] gzip;
+
+        Body(byte[] json, String etag) {
+            this.json = json;
+            this.etag = etag;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        /* a different encoding is a different representation, so it gets its own strong validator */
+        public String getGzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+
+        public byte[] getGzip() {
+            byte[] encoded = gzip;
+            if (encoded == null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+                try (GZIPOutputStream zip = new GZIPOutputStream(out)) {
+                    zip.write(json);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                encoded = out.toByteArray();
+                gzip = encoded;
+            }
+            return encoded;
+        }
+    }
+
+    /**
+     * The cached body for {@code playerId}, else the player from {@code loader} serialized and cached.
+     */
+    public Optional<Body> get(String playerId, Function<String, Optional<Player>> loader) {
+        Optional<Body> cached = getIfPresent(playerId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return loader.apply(playerId).map(this::put);
+    }
+
+    public Optional<Body> getIfPresent(String playerId) {
+        Cache cache = cacheManager.getCache(CacheConfiguration.PLAYER_JSON_CACHE);
+        Cache.ValueWrapper cached = cache == null ? null : cache.get(playerId);
+        return cached != null && cached.get() instanceof Body body ? Optional.of(body) : Optional.empty();
+    }
+
+    /**
+     * Serializes and caches {@code player}, for callers that load it themselves (the reactive controller).
+     */
+    public Body put(Player player) {
+        Body body = encode(player);
+        Cache cache = cacheManager.getCache(CacheConfiguration.PLAYER_JSON_CACHE);
+        if (cache != null) {
+            cache.put(player.getPlayerId(), body);
+        }
+        return body;
+    }
+
+    /**
+     * The player version that {@code etag} (either encoding) was issued for, or null if it is weak or not one of ours.
+     */
+    public static Long version(ETag etag) {
+        Matcher matcher = ETAG.matcher(etag.tag());
+        return !etag.weak() && matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    @EventListener(PlayersReloadedEvent.class)
+    public void clear() {
+        Cache cache = cacheManager.getCache(CacheConfiguration.PLAYER_JSON_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * The body and ETags for {@code player}, without caching them (write responses).
+     */
+    public Body encode(Player player) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(player);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return new Body(json, "\"" + player.getVersion() + "-" + HexFormat.of().formatHex(digest, 0, 16) + '"');
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Player " + player.getPlayerId() + " cannot be serialized", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,26 +1,128 @@
 package com.app.playerservicejava.service;
 
+import com.app.playerservicejava.config.CacheConfiguration;
+import com.app.playerservicejava.exception.InvalidFilterException;
+import com.app.playerservicejava.exception.PlayerAlreadyExistsException;
 import com.app.playerservicejava.exception.PlayerNotFoundException;
+import com.app.playerservicejava.exception.PlayerVersionMismatchException;
+import com.app.playerservicejava.model.BulkItemResult;
 import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerChange;
+import com.app.playerservicejava.model.PlayerFilter;
+import com.app.playerservicejava.model.PlayerSlice;
+import com.app.playerservicejava.model.PlayerVersions;
 import com.app.playerservicejava.model.Players;
 import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.repository.PlayerSpecifications;
+import com.app.playerservicejava.service.changes.PlayerChangeFeed;
+import com.app.playerservicejava.service.search.PlayerNameIndex;
+import com.app.playerservicejava.service.snapshot.PlayerSnapshotStore;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Service;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Observed(name = "players.service")
 public class PlayerService {
     private static final Logger LOGGER = LoggerFactory.getLogger(PlayerService.class);
 
+    /* every attribute a PUT or PATCH may write: all but playerId and version */
+    private static final Map<String, Function<Player, String>> WRITABLE_FIELDS = new LinkedHashMap<>();
+
+    static {
+        WRITABLE_FIELDS.put("birthYear", Player::getBirthYear);
+        WRITABLE_FIELDS.put("birthMonth", Player::getBirthMonth);
+        WRITABLE_FIELDS.put("birthDay", Player::getBirthDay);
+        WRITABLE_FIELDS.put("birthCountry", Player::getBirthCountry);
+        WRITABLE_FIELDS.put("birthState", Player::getBirthState);
+        WRITABLE_FIELDS.put("birthCity", Player::getBirthCity);
+        WRITABLE_FIELDS.put("deathYear", Player::getDeathYear);
+        WRITABLE_FIELDS.put("deathMonth", Player::getDeathMonth);
+        WRITABLE_FIELDS.put("deathDay", Player::getDeathDay);
+        WRITABLE_FIELDS.put("deathCountry", Player::getDeathCountry);
+        WRITABLE_FIELDS.put("deathState", Player::getDeathState);
+        WRITABLE_FIELDS.put("deathCity", Player::getDeathCity);
+        WRITABLE_FIELDS.put("firstName", Player::getFirstName);
+        WRITABLE_FIELDS.put("lastName", Player::getLastName);
+        WRITABLE_FIELDS.put("givenName", Player::getGivenName);
+        WRITABLE_FIELDS.put("weight", Player::getWeight);
+        WRITABLE_FIELDS.put("height", Player::getHeight);
+        WRITABLE_FIELDS.put("bats", Player::getBats);
+        WRITABLE_FIELDS.put("throwStats", Player::getThrowStats);
+        WRITABLE_FIELDS.put("debut", Player::getDebut);
+        WRITABLE_FIELDS.put("finalGame", Player::getFinalGame);
+        WRITABLE_FIELDS.put("retroId", Player::getRetroId);
+        WRITABLE_FIELDS.put("bbrefId", Player::getBbrefId);
+    }
+
     @Autowired
     private PlayerRepository playerRepository;
 
+    @Autowired
+    private PlayerNameIndex playerNameIndex;
+
+    @Autowired
+    private PlayerSnapshotStore playerSnapshotStore;
+
+    @Autowired
+    private PlayerChangeFeed playerChangeFeed;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${players.bulk.chunk-size:1000}")
+    private int bulkChunkSize = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public Players getPlayers() {
         Players players = new Players();
         playerRepository.findAll()
@@ -28,79 +130,498 @@ public class PlayerService {
         return players;
     }
 
+    /**
+     * Hands every player to the consumer one at a time off a database cursor.
+     * Each entity is detached once consumed so the persistence context stays bounded.
+     */
+    @Transactional(readOnly = true)
+    public void streamPlayers(Consumer<Player> consumer) {
+        try (Stream<Player> players = playerRepository.streamAll()) {
+            players.forEach(player -> {
+                consumer.accept(player);
+                entityManager.detach(player);
+            });
+        }
+    }
+
     public Page<Player> getPlayers(Pageable pageable) {
         return playerRepository.findAll(pageable);
     }
 
+    /**
+     * Served from the in-memory name index when it is built and no explicit sort is requested;
+     * only the requested page is then loaded, by primary key.
+     */
     public Page<Player> searchByLastName(String fragment, Pageable pageable) {
-        return playerRepository.findByLastNameContainingIgnoreCase(fragment, pageable);
+        if (!playerNameIndex.isReady() || pageable.getSort().isSorted()) {
+            return playerRepository.findByLastNameContainingIgnoreCase(fragment, pageable);
+        }
+        List<String> matches = playerNameIndex.search(PlayerNameIndex.Field.LAST_NAME, fragment);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(loadInOrder(matches), pageable, matches.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(loadInOrder(matches.subList(from, to)), pageable, matches.size());
+    }
+
+    private List<Player> loadInOrder(List<String> ids) {
+        Map<String, Integer> position = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            position.put(ids.get(i), i);
+        }
+        List<Player> players = playerRepository.findAllById(ids);
+        players.sort(Comparator.comparing(player -> position.get(player.getPlayerId())));
+        return players;
     }
 
     public Page<Player> filterByBirthYear(String year, Pageable pageable) {
         return playerRepository.findByBirthYear(year, pageable);
     }
 
-    public Optional<Player> getPlayerById(String playerId) {
-        Optional<Player> player = null;
+    /**
+     * Players born in {@code [fromYear, toYear]}; either bound may be null for an open range.
+     */
+    public Page<Player> filterByBirthYearBetween(String fromYear, String toYear, Pageable pageable) {
+        return playerRepository.findByBirthYearBetween(fromYear != null ? fromYear : "0", toYear != null ? toYear : "9999", pageable);
+    }
+
+    /**
+     * All criteria of the filter combined into one query.
+     */
+    public Page<Player> filterPlayers(PlayerFilter filter, Pageable pageable) {
+        checkFields(pageable.getSort().map(Sort.Order::getProperty));
+        return playerRepository.findAll(PlayerSpecifications.matching(filter), pageable);
+    }
+
+    /**
+     * Like {@link #filterPlayers(PlayerFilter, Pageable)}, but only the given fields are selected and
+     * returned, in that order.
+     */
+    public Page<Map<String, Object>> filterPlayers(PlayerFilter filter, List<String> fields, Pageable pageable) {
+        checkFields(fields);
+        checkFields(pageable.getSort().map(Sort.Order::getProperty));
+        return playerRepository.findAll(PlayerSpecifications.matching(filter), fields, pageable);
+    }
+
+    private static void checkFields(Iterable<String> names) {
+        String unknown = PlayerSpecifications.unknownField(names);
+        if (unknown != null) {
+            throw new InvalidFilterException("Unknown player field: " + unknown);
+        }
+    }
+
+    public PlayerSlice getPlayersAfter(String cursor, int size) {
+        PlayerCursor after = PlayerCursor.decode(cursor);
+        return toSlice(playerRepository.findByPlayerIdGreaterThanOrderByPlayerIdAsc(
+                after.getPlayerId(), Limit.of(size + 1)), size);
+    }
+
+    public PlayerSlice searchByLastNameAfter(String fragment, String cursor, int size) {
+        PlayerCursor after = PlayerCursor.decode(cursor);
+        return toSlice(playerRepository.findByLastNameContainingAfter(
+                fragment, after.getLastName(), after.getPlayerId(), Limit.of(size + 1)), size);
+    }
+
+    public PlayerSlice filterByBirthYearAfter(String year, String cursor, int size) {
+        PlayerCursor after = PlayerCursor.decode(cursor);
+        return toSlice(playerRepository.findByBirthYearAndPlayerIdGreaterThanOrderByPlayerIdAsc(
+                year, after.getPlayerId(), Limit.of(size + 1)), size);
+    }
+
+    /* the repository is asked for one extra row; its presence is what tells us there is a next page */
+    private PlayerSlice toSlice(List<Player> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<Player> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? PlayerCursor.after(content.get(size - 1)).encode() : null;
+        return new PlayerSlice(content, size, hasNext, nextCursor);
+    }
 
-        /* simulated network delay */
+    /**
+     * Answered from the off-heap snapshot once it is built (the players cache is then bypassed);
+     * otherwise read-through: hits are answered from the players cache; absent players are not cached.
+     */
+    @Cacheable(cacheNames = CacheConfiguration.PLAYERS_CACHE, key = "#playerId", unless = "#result == null",
+            condition = "!@playerSnapshotStore.isReady()")
+    public Optional<Player> getPlayerById(String playerId) {
+        if (playerSnapshotStore.isReady()) {
+            return playerSnapshotStore.findById(playerId);
+        }
         try {
-            player = playerRepository.findById(playerId);
-            Thread.sleep((long)(Math.random() * 2000));
+            return playerRepository.findById(playerId);
         } catch (Exception e) {
             LOGGER.error("message=Exception in getPlayerById; exception={}", e.toString());
             return Optional.empty();
         }
-        return player;
     }
 
+    /**
+     * Inserts {@code player}, keeping the client's playerId if it sent one.
+     *
+     * @throws PlayerAlreadyExistsException if that playerId is taken; the existing player is left as it was
+     */
+    @CacheEvict(cacheNames = { CacheConfiguration.PLAYERS_CACHE, CacheConfiguration.PLAYER_JSON_CACHE },
+            key = "#player.playerId", condition = "#player.playerId != null")
     public Player createPlayer(Player player) {
-        return playerRepository.save(player);
-    }
-
-    public Player replacePlayer(String id, Player replacement) {
-        return playerRepository.findById(id).map(existing -> {
-            // replace all fields; set id to path id
-            replacement.setPlayerId(id);
-            return playerRepository.save(replacement);
-        }).orElseThrow(() -> new PlayerNotFoundException("Player not found with id: " + id));
-    }
-
-    public Optional<Player> patchPlayer(String id, Player patch) {
-        return playerRepository.findById(id).map(existing -> {
-            if (patch.getBirthYear() != null) existing.setBirthYear(patch.getBirthYear());
-            if (patch.getBirthMonth() != null) existing.setBirthMonth(patch.getBirthMonth());
-            if (patch.getBirthDay() != null) existing.setBirthDay(patch.getBirthDay());
-            if (patch.getBirthCountry() != null) existing.setBirthCountry(patch.getBirthCountry());
-            if (patch.getBirthState() != null) existing.setBirthState(patch.getBirthState());
-            if (patch.getBirthCity() != null) existing.setBirthCity(patch.getBirthCity());
-            if (patch.getDeathYear() != null) existing.setDeathYear(patch.getDeathYear());
-            if (patch.getDeathMonth() != null) existing.setDeathMonth(patch.getDeathMonth());
-            if (patch.getDeathDay() != null) existing.setDeathDay(patch.getDeathDay());
-            if (patch.getDeathCountry() != null) existing.setDeathCountry(patch.getDeathCountry());
-            if (patch.getDeathState() != null) existing.setDeathState(patch.getDeathState());
-            if (patch.getDeathCity() != null) existing.setDeathCity(patch.getDeathCity());
-            if (patch.getFirstName() != null) existing.setFirstName(patch.getFirstName());
-            if (patch.getLastName() != null) existing.setLastName(patch.getLastName());
-            if (patch.getGivenName() != null) existing.setGivenName(patch.getGivenName());
-            if (patch.getWeight() != null) existing.setWeight(patch.getWeight());
-            if (patch.getHeight() != null) existing.setHeight(patch.getHeight());
-            if (patch.getBats() != null) existing.setBats(patch.getBats());
-            if (patch.getThrowStats() != null) existing.setThrowStats(patch.getThrowStats());
-            if (patch.getDebut() != null) existing.setDebut(patch.getDebut());
-            if (patch.getFinalGame() != null) existing.setFinalGame(patch.getFinalGame());
-            if (patch.getRetroId() != null) existing.setRetroId(patch.getRetroId());
-            if (patch.getBbrefId() != null) existing.setBbrefId(patch.getBbrefId());
-            return playerRepository.save(existing);
+        player.setVersion(PlayerVersions.next());
+        String requestedId = player.getPlayerId();
+        Player created;
+        try {
+            created = transactionTemplate.execute(status -> {
+                playerRepository.insert(List.of(player));
+                playerChangeFeed.record(PlayerChange.Operation.CREATE, player.getPlayerId(), player);
+                return player;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (requestedId != null && playerRepository.existsById(requestedId)) {
+                throw new PlayerAlreadyExistsException("Player already exists with id: " + requestedId);
+            }
+            throw e;
+        }
+        published(List.of(created), List.of());
+        return created;
+    }
+
+    /**
+     * Writes every column of {@code replacement} in one UPDATE, without loading the player first.
+     *
+     * @param expectedVersion the version the player must still have (from {@code If-Match}), or null
+     * @throws PlayerVersionMismatchException if the player has another version; nothing is written
+     */
+    @CacheEvict(cacheNames = { CacheConfiguration.PLAYERS_CACHE, CacheConfiguration.PLAYER_JSON_CACHE }, key = "#id")
+    public Player replacePlayer(String id, Player replacement, Long expectedVersion) {
+        // replace all fields; set id to path id
+        replacement.setPlayerId(id);
+        long version = PlayerVersions.next();
+        Player replaced = transactionTemplate.execute(status -> {
+            if (playerRepository.updateColumns(id, changes(replacement, true), expectedVersion, version) == 0) {
+                throw notUpdated(id, expectedVersion);
+            }
+            Player written;
+            if (expectedVersion == null) {
+                // only the version is unknown, but reading the row is the one way to learn it
+                written = playerRepository.findById(id).orElseThrow(() -> new PlayerNotFoundException("Player not found with id: " + id));
+            } else {
+                replacement.setVersion(version);
+                written = replacement;
+            }
+            playerChangeFeed.record(PlayerChange.Operation.UPDATE, id, written);
+            return written;
         });
+        published(List.of(replaced), List.of());
+        return replaced;
     }
 
-    public boolean deletePlayer(String id) {
-        if (playerRepository.existsById(id)) {
-            playerRepository.deleteById(id);
-            return true;
+    /**
+     * Writes only the fields {@code patch} sets, in one UPDATE that also checks {@code expectedVersion}; the
+     * patched player is then read back in the same transaction for the response and the in-memory views.
+     *
+     * @param expectedVersion the version the player must still have (from {@code If-Match}), or null
+     * @throws PlayerVersionMismatchException if the player has another version; nothing is written
+     */
+    @CacheEvict(cacheNames = { CacheConfiguration.PLAYERS_CACHE, CacheConfiguration.PLAYER_JSON_CACHE }, key = "#id")
+    public Optional<Player> patchPlayer(String id, Player patch, Long expectedVersion) {
+        Set<ConstraintViolation<Player>> violations = patchViolations(patch);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
         }
-        return false;
+        Map<String, String> changes = changes(patch, false);
+        Optional<Player> patched = transactionTemplate.execute(status -> {
+            if (changes.isEmpty()) {
+                // nothing to write: the version is still checked, against the current row
+                Optional<Player> current = playerRepository.findById(id);
+                if (current.isPresent() && expectedVersion != null && current.get().getVersion() != expectedVersion) {
+                    throw versionMismatch(id, expectedVersion);
+                }
+                return current;
+            }
+            if (playerRepository.updateColumns(id, changes, expectedVersion, PlayerVersions.next()) == 0) {
+                if (expectedVersion != null && playerRepository.existsById(id)) {
+                    throw versionMismatch(id, expectedVersion);
+                }
+                return Optional.<Player>empty();
+            }
+            Optional<Player> written = playerRepository.findById(id);
+            written.ifPresent(player -> playerChangeFeed.record(PlayerChange.Operation.UPDATE, id, player));
+            return written;
+        });
+        patched.ifPresent(player -> published(List.of(player), List.of()));
+        return patched;
+    }
+
+    /**
+     * @param expectedVersion the version the player must still have (from {@code If-Match}), or null
+     * @throws PlayerVersionMismatchException if the player has another version; nothing is deleted
+     */
+    @CacheEvict(cacheNames = { CacheConfiguration.PLAYERS_CACHE, CacheConfiguration.PLAYER_JSON_CACHE }, key = "#id")
+    public boolean deletePlayer(String id, Long expectedVersion) {
+        boolean deleted = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            boolean removed;
+            if (expectedVersion == null) {
+                removed = playerRepository.existsById(id);
+                if (removed) {
+                    playerRepository.deleteById(id);
+                }
+            } else {
+                removed = playerRepository.deleteByIdAndVersion(id, expectedVersion) == 1;
+                if (!removed && playerRepository.existsById(id)) {
+                    throw versionMismatch(id, expectedVersion);
+                }
+            }
+            if (removed) {
+                playerChangeFeed.record(PlayerChange.Operation.DELETE, id, null);
+            }
+            return removed;
+        }));
+        if (deleted) {
+            published(List.of(), List.of(id));
+        }
+        return deleted;
     }
-}
 
+    /* zero rows updated: a conditional write tells a stale version (412) from a missing player (404) */
+    private RuntimeException notUpdated(String id, Long expectedVersion) {
+        if (expectedVersion != null && playerRepository.existsById(id)) {
+            return versionMismatch(id, expectedVersion);
+        }
+        return new PlayerNotFoundException("Player not found with id: " + id);
+    }
+
+    private static PlayerVersionMismatchException versionMismatch(String id, long expectedVersion) {
+        return new PlayerVersionMismatchException("Player " + id + " is no longer at version " + expectedVersion);
+    }
+
+    /**
+     * Creates players in chunks of {@code players.bulk.chunk-size}, one transaction per chunk, so
+     * Hibernate can send each chunk as batched INSERTs. Items failing bean validation are reported
+     * as 400 without touching the database, and ids that are already taken (one lookup per chunk) as
+     * 409; a chunk that fails to commit reports all its items as 500.
+     */
+    public List<BulkItemResult> createPlayers(List<Player> players) {
+        BulkItemResult[] results = new BulkItemResult[players.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < players.size(); i++) {
+            Set<ConstraintViolation<Player>> violations = validator.validate(players.get(i));
+            if (violations.isEmpty()) {
+                valid.add(i);
+            } else {
+                results[i] = new BulkItemResult(i, players.get(i).getPlayerId(), HttpStatus.BAD_REQUEST.value(),
+                        violations.iterator().next().getMessage());
+            }
+        }
+        Map<Integer, Player> created = new HashMap<>();
+        inChunks(valid, results, chunk -> {
+            Set<String> taken = new HashSet<>(playerRepository.findExistingIds(chunk.stream()
+                    .map(i -> players.get(i).getPlayerId()).filter(Objects::nonNull).collect(Collectors.toSet())));
+            List<BulkItemResult> chunkResults = new ArrayList<>();
+            List<Integer> inserted = new ArrayList<>();
+            for (int i : chunk) {
+                String id = players.get(i).getPlayerId();
+                // an id repeated within the request is taken by its first occurrence
+                if (id != null && !taken.add(id)) {
+                    chunkResults.add(new BulkItemResult(i, id, HttpStatus.CONFLICT.value(), "Player already exists with id: " + id));
+                } else {
+                    players.get(i).setVersion(PlayerVersions.next());
+                    inserted.add(i);
+                }
+            }
+            playerRepository.insert(inserted.stream().map(players::get).toList());
+            for (int i : inserted) {
+                Player saved = players.get(i);
+                playerChangeFeed.record(PlayerChange.Operation.CREATE, saved.getPlayerId(), saved);
+                created.put(i, saved);
+                chunkResults.add(new BulkItemResult(i, saved.getPlayerId(), HttpStatus.CREATED.value(), null));
+            }
+            return chunkResults;
+        }, saved -> {
+            List<Player> written = new ArrayList<>();
+            for (BulkItemResult result : saved) {
+                if (result.getStatus() == HttpStatus.CREATED.value()) {
+                    evict(result.getPlayerId());
+                    written.add(created.get(result.getIndex()));
+                }
+            }
+            published(written, List.of());
+        });
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Applies partial updates (non-null fields, keyed by {@code playerId}) in chunks: one
+     * {@code findAllById} per chunk, then batched UPDATEs on flush.
+     */
+    public List<BulkItemResult> patchPlayers(List<Player> patches) {
+        BulkItemResult[] results = new BulkItemResult[patches.size()];
+        List<Integer> keyed = new ArrayList<>();
+        for (int i = 0; i < patches.size(); i++) {
+            Set<ConstraintViolation<Player>> violations = patchViolations(patches.get(i));
+            if (patches.get(i).getPlayerId() == null || patches.get(i).getPlayerId().isBlank()) {
+                results[i] = new BulkItemResult(i, null, HttpStatus.BAD_REQUEST.value(), "playerId is required");
+            } else if (!violations.isEmpty()) {
+                results[i] = new BulkItemResult(i, patches.get(i).getPlayerId(), HttpStatus.BAD_REQUEST.value(),
+                        violations.iterator().next().getMessage());
+            } else {
+                keyed.add(i);
+            }
+        }
+        Map<String, Player> patched = new HashMap<>();
+        inChunks(keyed, results, chunk -> {
+            Map<String, Player> existing = new HashMap<>();
+            playerRepository.findAllById(chunk.stream().map(i -> patches.get(i).getPlayerId()).collect(Collectors.toSet()))
+                    .forEach(player -> existing.put(player.getPlayerId(), player));
+            List<BulkItemResult> chunkResults = new ArrayList<>();
+            for (int i : chunk) {
+                String id = patches.get(i).getPlayerId();
+                Player player = existing.get(id);
+                if (player == null) {
+                    chunkResults.add(new BulkItemResult(i, id, HttpStatus.NOT_FOUND.value(), "Player not found with id: " + id));
+                } else {
+                    applyPatch(player, patches.get(i));
+                    player.setVersion(PlayerVersions.next());
+                    chunkResults.add(new BulkItemResult(i, id, HttpStatus.OK.value(), null));
+                }
+            }
+            // flushed first: a player written since it was read no longer has its old VERSION, and fails the chunk
+            entityManager.flush();
+            existing.values().forEach(player -> {
+                playerChangeFeed.record(PlayerChange.Operation.UPDATE, player.getPlayerId(), player);
+                patched.put(player.getPlayerId(), player);
+            });
+            return chunkResults;
+        }, updated -> {
+            List<Player> written = new ArrayList<>();
+            for (BulkItemResult result : updated) {
+                if (result.getStatus() == HttpStatus.OK.value()) {
+                    evict(result.getPlayerId());
+                    written.add(patched.get(result.getPlayerId()));
+                }
+            }
+            published(written, List.of());
+        });
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Deletes by id in chunks: one id lookup and one {@code DELETE ... WHERE PLAYERID IN (...)} per chunk.
+     */
+    public List<BulkItemResult> deletePlayers(List<String> ids) {
+        BulkItemResult[] results = new BulkItemResult[ids.size()];
+        List<Integer> all = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            all.add(i);
+        }
+        inChunks(all, results, chunk -> {
+            Set<String> existing = new HashSet<>(playerRepository.findExistingIds(chunk.stream().map(ids::get).collect(Collectors.toSet())));
+            playerRepository.deleteAllByIdInBatch(existing);
+            existing.forEach(id -> playerChangeFeed.record(PlayerChange.Operation.DELETE, id, null));
+            List<BulkItemResult> chunkResults = new ArrayList<>();
+            for (int i : chunk) {
+                // a repeated id counts as deleted only the first time
+                boolean deleted = existing.remove(ids.get(i));
+                chunkResults.add(deleted
+                        ? new BulkItemResult(i, ids.get(i), HttpStatus.NO_CONTENT.value(), null)
+                        : new BulkItemResult(i, ids.get(i), HttpStatus.NOT_FOUND.value(), "Player not found with id: " + ids.get(i)));
+            }
+            return chunkResults;
+        }, deleted -> {
+            List<String> removed = new ArrayList<>();
+            for (BulkItemResult result : deleted) {
+                if (result.getStatus() == HttpStatus.NO_CONTENT.value()) {
+                    evict(result.getPlayerId());
+                    removed.add(result.getPlayerId());
+                }
+            }
+            published(List.of(), removed);
+        });
+        return Arrays.asList(results);
+    }
+
+    private void inChunks(List<Integer> indexes, BulkItemResult[] results,
+                          Function<List<Integer>, List<BulkItemResult>> writeChunk,
+                          Consumer<List<BulkItemResult>> afterCommit) {
+        for (int from = 0; from < indexes.size(); from += bulkChunkSize) {
+            List<Integer> chunk = indexes.subList(from, Math.min(from + bulkChunkSize, indexes.size()));
+            List<BulkItemResult> chunkResults;
+            try {
+                chunkResults = transactionTemplate.execute(status -> {
+                    List<BulkItemResult> written = writeChunk.apply(chunk);
+                    // the chunk's entities are flushed; dropping them keeps the persistence context one chunk big
+                    entityManager.clear();
+                    return written;
+                });
+            } catch (RuntimeException e) {
+                LOGGER.error("message=Bulk chunk failed; items={}; exception={}", chunk.size(), e.toString());
+                for (int i : chunk) {
+                    results[i] = new BulkItemResult(i, null, HttpStatus.INTERNAL_SERVER_ERROR.value(), "Batch write failed");
+                }
+                continue;
+            }
+            chunkResults.forEach(result -> results[result.getIndex()] = result);
+            afterCommit.accept(chunkResults);
+        }
+    }
+
+    /* only once the write has committed, so no in-memory view ever shows one that was rolled back */
+    private void published(List<Player> written, List<String> deleted) {
+        if (!written.isEmpty() || !deleted.isEmpty()) {
+            eventPublisher.publishEvent(new PlayersWrittenEvent(written, deleted));
+        }
+    }
+
+    private void evict(String playerId) {
+        for (String name : List.of(CacheConfiguration.PLAYERS_CACHE, CacheConfiguration.PLAYER_JSON_CACHE)) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && playerId != null) {
+                cache.evict(playerId);
+            }
+        }
+    }
+
+    /* only the fields a patch sets are checked, so required fields it leaves out are not reported */
+    private Set<ConstraintViolation<Player>> patchViolations(Player patch) {
+        return validator.validate(patch).stream()
+                .filter(violation -> violation.getInvalidValue() != null)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Attribute name to new value for {@link PlayerRepository#updateColumns}: the non-null fields of a patch,
+     * or every field of a replacement. Keys come in column order, so equal field sets produce the same SQL.
+     */
+    private static Map<String, String> changes(Player player, boolean includeNulls) {
+        Map<String, String> changes = new LinkedHashMap<>();
+        WRITABLE_FIELDS.forEach((field, getter) -> {
+            String value = getter.apply(player);
+            if (value != null || includeNulls) {
+                changes.put(field, value);
+            }
+        });
+        return changes;
+    }
+
+    private static void applyPatch(Player existing, Player patch) {
+        if (patch.getBirthYear() != null) existing.setBirthYear(patch.getBirthYear());
+        if (patch.getBirthMonth() != null) existing.setBirthMonth(patch.getBirthMonth());
+        if (patch.getBirthDay() != null) existing.setBirthDay(patch.getBirthDay());
+        if (patch.getBirthCountry() != null) existing.setBirthCountry(patch.getBirthCountry());
+        if (patch.getBirthState() != null) existing.setBirthState(patch.getBirthState());
+        if (patch.getBirthCity() != null) existing.setBirthCity(patch.getBirthCity());
+        if (patch.getDeathYear() != null) existing.setDeathYear(patch.getDeathYear());
+        if (patch.getDeathMonth() != null) existing.setDeathMonth(patch.getDeathMonth());
+        if (patch.getDeathDay() != null) existing.setDeathDay(patch.getDeathDay());
+        if (patch.getDeathCountry() != null) existing.setDeathCountry(patch.getDeathCountry());
+        if (patch.getDeathState() != null) existing.setDeathState(patch.getDeathState());
+        if (patch.getDeathCity() != null) existing.setDeathCity(patch.getDeathCity());
+        if (patch.getFirstName() != null) existing.setFirstName(patch.getFirstName());
+        if (patch.getLastName() != null) existing.setLastName(patch.getLastName());
+        if (patch.getGivenName() != null) existing.setGivenName(patch.getGivenName());
+        if (patch.getWeight() != null) existing.setWeight(patch.getWeight());
+        if (patch.getHeight() != null) existing.setHeight(patch.getHeight());
+        if (patch.getBats() != null) existing.setBats(patch.getBats());
+        if (patch.getThrowStats() != null) existing.setThrowStats(patch.getThrowStats());
+        if (patch.getDebut() != null) existing.setDebut(patch.getDebut());
+        if (patch.getFinalGame() != null) existing.setFinalGame(patch.getFinalGame());
+        if (patch.getRetroId() != null) existing.setRetroId(patch.getRetroId());
+        if (patch.getBbrefId() != null) existing.setBbrefId(patch.getBbrefId());
+    }
+}
@@ -0,0 +1,28 @@
+package com.app.playerservicejava.service;
+
+import com.app.playerservicejava.model.Player;
+
+import java.util.List;
+
+/**
+ * Published by {@link PlayerService} once a write has committed, so in-memory views of PLAYERS can apply it
+ * in place; a bulk write publishes one per committed chunk.
+ */
+public class PlayersWrittenEvent {
+    private final List<Player> written;
+    private final List<String> deleted;
+
+    public PlayersWrittenEvent(List<Player> written, List<String> deleted) {
+        this.written = written;
+        this.deleted = deleted;
+    }
+
+    /* created or updated, as they now are in PLAYERS */
+    public List<Player> getWritten() {
+        return written;
+    }
+
+    public List<String> getDeleted() {
+        return deleted;
+    }
+}
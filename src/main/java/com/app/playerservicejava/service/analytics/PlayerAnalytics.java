@@ -0,0 +1,667 @@
+package com.app.playerservicejava.service.analytics;
+
+import com.app.playerservicejava.exception.InvalidStatsQueryException;
+import com.app.playerservicejava.exception.StatsUnavailableException;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.stats.PlayerGroupStats;
+import com.app.playerservicejava.model.stats.PlayerHistogram;
+import com.app.playerservicejava.model.stats.PlayerStatsFilter;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.PlayersWrittenEvent;
+import com.app.playerservicejava.service.ingest.PlayersReloadedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Column-oriented copy of the PLAYERS fields worth aggregating, so stats never load entities.
+ *
+ * Every player gets a dense int doc id; numeric fields (birth year, debut year, height, weight) are
+ * parsed once into {@code short} arrays with 0 meaning "unknown", and low-cardinality strings
+ * (birth country, bats, throws) are dictionary-encoded into {@code int} code arrays with code 0 for
+ * null. Writes update a row in place and a deleted doc id is reused by the next insert. Queries scan
+ * the arrays in {@link #CHUNK}-sized ranges on the common fork-join pool, each range filling its own
+ * accumulator, and merge the accumulators at the end.
+ */
+@Component
+public class PlayerAnalytics {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerAnalytics.class);
+
+    /* docs per parallel task; smaller tables are scanned on the calling thread */
+    static final int CHUNK = 16_384;
+    /* group-by cells (product of the dimensions' cardinalities) one query may allocate */
+    static final int MAX_GROUPS = 1 << 16;
+    /* per group: count, height sum, heights known, weight sum, weights known */
+    private static final int STRIDE = 5;
+
+    public enum Dimension {
+        BIRTH_COUNTRY("birthCountry"),
+        BATS("bats"),
+        THROWS("throws"),
+        BIRTH_YEAR("birthYear"),
+        BIRTH_DECADE("birthDecade"),
+        DEBUT_YEAR("debutYear");
+
+        private final String param;
+
+        Dimension(String param) {
+            this.param = param;
+        }
+
+        public String getParam() {
+            return param;
+        }
+
+        public static Dimension fromParam(String param) {
+            for (Dimension dimension : values()) {
+                if (dimension.param.equalsIgnoreCase(param.trim())) {
+                    return dimension;
+                }
+            }
+            throw new InvalidStatsQueryException("Unknown dimension: " + param);
+        }
+    }
+
+    public enum Measure {
+        HEIGHT("height", 1),
+        WEIGHT("weight", 10),
+        BIRTH_YEAR("birthYear", 10),
+        DEBUT_YEAR("debutYear", 10);
+
+        private final String param;
+        private final int defaultBucketWidth;
+
+        Measure(String param, int defaultBucketWidth) {
+            this.param = param;
+            this.defaultBucketWidth = defaultBucketWidth;
+        }
+
+        public String getParam() {
+            return param;
+        }
+
+        public static Measure fromParam(String param) {
+            for (Measure measure : values()) {
+                if (measure.param.equalsIgnoreCase(param.trim())) {
+                    return measure;
+                }
+            }
+            throw new InvalidStatsQueryException("Unknown measure: " + param);
+        }
+    }
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${players.stats.enabled:true}")
+    private boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> docsById = new HashMap<>();
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    private int size;
+    private boolean[] live = new boolean[0];
+    private final ShortColumn birthYear = new ShortColumn();
+    private final ShortColumn debutYear = new ShortColumn();
+    private final ShortColumn height = new ShortColumn();
+    private final ShortColumn weight = new ShortColumn();
+    private final DictionaryColumn birthCountry = new DictionaryColumn();
+    private final DictionaryColumn bats = new DictionaryColumn();
+    private final DictionaryColumn throwStats = new DictionaryColumn();
+    private volatile boolean ready;
+
+    @EventListener({ ApplicationReadyEvent.class, PlayersReloadedEvent.class })
+    @Transactional(readOnly = true)
+    public void build() {
+        if (!enabled) {
+            LOGGER.info("message=Player analytics disabled");
+            return;
+        }
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            clear();
+            try (Stream<Player> players = playerRepository.streamAll()) {
+                players.forEach(this::putLocked);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        LOGGER.info("message=Player analytics columns built; players={}; millis={}", docsById.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener
+    public void apply(PlayersWrittenEvent event) {
+        event.getWritten().forEach(this::put);
+        event.getDeleted().forEach(this::remove);
+    }
+
+    public void put(Player player) {
+        if (!enabled || player == null || player.getPlayerId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                putLocked(player);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String playerId) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer doc = ready ? docsById.remove(playerId) : null;
+            if (doc == null) {
+                return;
+            }
+            live[doc] = false;
+            freeDocs.push(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return docsById.size();
+    }
+
+    /**
+     * Players counted per value of one dimension, or per pair of values of two, with average
+     * height and weight per group. At most {@code limit} groups are returned, largest first.
+     */
+    public PlayerGroupStats groupBy(List<Dimension> dimensions, PlayerStatsFilter filter, int limit) {
+        if (dimensions.isEmpty() || dimensions.size() > 2) {
+            throw new InvalidStatsQueryException("Group by one or two dimensions");
+        }
+        requireReady();
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            List<String> names = dimensions.stream().map(Dimension::getParam).toList();
+            Filter matcher = filter(filter);
+            if (matcher == null) {
+                return new PlayerGroupStats(names, 0, new ArrayList<>());
+            }
+            Axis outer = axis(dimensions.get(0));
+            Axis inner = dimensions.size() > 1 ? axis(dimensions.get(1)) : Axis.NONE;
+            long cells = (long) outer.slots * inner.slots;
+            if (cells > MAX_GROUPS) {
+                throw new InvalidStatsQueryException("Too many groups: " + cells);
+            }
+            boolean[] alive = live;
+            short[] heights = height.values;
+            short[] weights = weight.values;
+            int innerSlots = inner.slots;
+            long[] totals = scan((int) cells * STRIDE, (from, to, acc) -> {
+                for (int doc = from; doc < to; doc++) {
+                    if (!alive[doc] || !matcher.matches(doc)) {
+                        continue;
+                    }
+                    int cell = (outer.slot(doc) * innerSlots + inner.slot(doc)) * STRIDE;
+                    acc[cell]++;
+                    short h = heights[doc];
+                    if (h != 0) {
+                        acc[cell + 1] += h;
+                        acc[cell + 2]++;
+                    }
+                    short w = weights[doc];
+                    if (w != 0) {
+                        acc[cell + 3] += w;
+                        acc[cell + 4]++;
+                    }
+                }
+            });
+
+            long matched = 0;
+            List<PlayerGroupStats.Group> groups = new ArrayList<>();
+            for (int cell = 0; cell < cells; cell++) {
+                int at = cell * STRIDE;
+                if (totals[at] == 0) {
+                    continue;
+                }
+                matched += totals[at];
+                List<String> key = new ArrayList<>();
+                key.add(outer.label(cell / innerSlots));
+                if (inner != Axis.NONE) {
+                    key.add(inner.label(cell % innerSlots));
+                }
+                groups.add(new PlayerGroupStats.Group(key, totals[at], average(totals[at + 1], totals[at + 2]), average(totals[at + 3], totals[at + 4])));
+            }
+            // stable sort keeps slot order (dictionary or numeric order) among equal counts
+            groups.sort(Comparator.comparingLong(PlayerGroupStats.Group::getCount).reversed());
+            return new PlayerGroupStats(names, matched, groups.size() > limit ? new ArrayList<>(groups.subList(0, limit)) : groups);
+        } finally {
+            lock.readLock().unlock();
+            timer("group_by").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Distribution of a numeric column in buckets of {@code bucketWidth} (the measure's default when null).
+     */
+    public PlayerHistogram histogram(Measure measure, Integer bucketWidth, PlayerStatsFilter filter) {
+        int width = bucketWidth == null ? measure.defaultBucketWidth : bucketWidth;
+        if (width < 1) {
+            throw new InvalidStatsQueryException("Bucket width must be positive");
+        }
+        requireReady();
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            ShortColumn column = column(measure);
+            Filter matcher = filter(filter);
+            if (matcher == null || column.isEmpty()) {
+                return new PlayerHistogram(measure.getParam(), width, 0, 0, null, null, null, new ArrayList<>());
+            }
+            // count every distinct value first; exact min, max and mean fall out of that, then re-bucket
+            boolean[] alive = live;
+            short[] values = column.values;
+            int base = column.min;
+            long[] counts = scan(column.max - base + 2, (from, to, acc) -> {
+                for (int doc = from; doc < to; doc++) {
+                    if (!alive[doc] || !matcher.matches(doc)) {
+                        continue;
+                    }
+                    short value = values[doc];
+                    acc[value == 0 ? 0 : value - base + 1]++;
+                }
+            });
+
+            long count = 0;
+            long sum = 0;
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int slot = 1; slot < counts.length; slot++) {
+                if (counts[slot] == 0) {
+                    continue;
+                }
+                int value = slot - 1 + base;
+                count += counts[slot];
+                sum += counts[slot] * value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (count == 0) {
+                return new PlayerHistogram(measure.getParam(), width, 0, counts[0], null, null, null, new ArrayList<>());
+            }
+            List<PlayerHistogram.Bucket> buckets = new ArrayList<>();
+            for (int from = Math.floorDiv(min, width) * width; from <= max; from += width) {
+                long inBucket = 0;
+                for (int value = Math.max(from, min); value < from + width && value <= max; value++) {
+                    inBucket += counts[value - base + 1];
+                }
+                buckets.add(new PlayerHistogram.Bucket(from, from + width, inBucket));
+            }
+            return new PlayerHistogram(measure.getParam(), width, count, counts[0], min, max, (double) sum / count, buckets);
+        } finally {
+            lock.readLock().unlock();
+            timer("histogram").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @FunctionalInterface
+    interface RangeScan {
+        void scan(int from, int to, long[] acc);
+    }
+
+    /* splits [0, size) into CHUNK ranges scanned in parallel, each into its own accumulator, then sums them */
+    private long[] scan(int width, RangeScan rangeScan) {
+        int docs = size;
+        int chunks = (docs + CHUNK - 1) / CHUNK;
+        if (chunks <= 1) {
+            long[] acc = new long[width];
+            rangeScan.scan(0, docs, acc);
+            return acc;
+        }
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    long[] acc = new long[width];
+                    rangeScan.scan(chunk * CHUNK, Math.min(docs, (chunk + 1) * CHUNK), acc);
+                    return acc;
+                })
+                .reduce((left, right) -> {
+                    for (int i = 0; i < left.length; i++) {
+                        left[i] += right[i];
+                    }
+                    return left;
+                })
+                .orElseGet(() -> new long[width]);
+    }
+
+    private void requireReady() {
+        if (!enabled || !ready) {
+            throw new StatsUnavailableException("Player stats are not available yet");
+        }
+    }
+
+    private Axis axis(Dimension dimension) {
+        switch (dimension) {
+            case BIRTH_COUNTRY: return new DictionaryAxis(birthCountry);
+            case BATS: return new DictionaryAxis(bats);
+            case THROWS: return new DictionaryAxis(throwStats);
+            case BIRTH_DECADE: return new NumericAxis(birthYear, 10);
+            case DEBUT_YEAR: return new NumericAxis(debutYear, 1);
+            default: return new NumericAxis(birthYear, 1);
+        }
+    }
+
+    private ShortColumn column(Measure measure) {
+        switch (measure) {
+            case HEIGHT: return height;
+            case WEIGHT: return weight;
+            case DEBUT_YEAR: return debutYear;
+            default: return birthYear;
+        }
+    }
+
+    /* null when a requested value does not occur at all, so nothing can match */
+    private Filter filter(PlayerStatsFilter filter) {
+        if (filter == null) {
+            return new Filter(null, 0, 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        boolean[] countries = filter.getBirthCountry() == null ? null : birthCountry.codesIgnoreCase(filter.getBirthCountry());
+        int batsCode = filter.getBats() == null ? 0 : bats.code(filter.getBats());
+        int throwsCode = filter.getThrowStats() == null ? 0 : throwStats.code(filter.getThrowStats());
+        if (countries == null && filter.getBirthCountry() != null || batsCode < 0 || throwsCode < 0) {
+            return null;
+        }
+        return new Filter(countries, batsCode, throwsCode,
+                filter.getBirthYearFrom() == null ? Integer.MIN_VALUE : filter.getBirthYearFrom(),
+                filter.getBirthYearTo() == null ? Integer.MAX_VALUE : filter.getBirthYearTo());
+    }
+
+    private void putLocked(Player player) {
+        Integer doc = docsById.get(player.getPlayerId());
+        if (doc == null) {
+            doc = freeDocs.isEmpty() ? size++ : freeDocs.pop();
+            ensureCapacity(size);
+            docsById.put(player.getPlayerId(), doc);
+        }
+        live[doc] = true;
+        birthYear.set(doc, parse(player.getBirthYear(), 4));
+        debutYear.set(doc, parse(player.getDebut(), 4));
+        height.set(doc, parse(player.getHeight(), Integer.MAX_VALUE));
+        weight.set(doc, parse(player.getWeight(), Integer.MAX_VALUE));
+        birthCountry.set(doc, player.getBirthCountry());
+        bats.set(doc, player.getBats());
+        throwStats.set(doc, player.getThrowStats());
+    }
+
+    private void ensureCapacity(int docs) {
+        if (docs <= live.length) {
+            return;
+        }
+        int capacity = Math.max(docs, Math.max(1024, live.length * 2));
+        live = Arrays.copyOf(live, capacity);
+        for (ShortColumn column : List.of(birthYear, debutYear, height, weight)) {
+            column.values = Arrays.copyOf(column.values, capacity);
+        }
+        for (DictionaryColumn column : List.of(birthCountry, bats, throwStats)) {
+            column.codes = Arrays.copyOf(column.codes, capacity);
+        }
+    }
+
+    private void clear() {
+        ready = false;
+        docsById.clear();
+        freeDocs.clear();
+        size = 0;
+        live = new boolean[0];
+        for (ShortColumn column : List.of(birthYear, debutYear, height, weight)) {
+            column.clear();
+        }
+        for (DictionaryColumn column : List.of(birthCountry, bats, throwStats)) {
+            column.clear();
+        }
+    }
+
+    private Timer timer(String kind) {
+        return Timer.builder("players.stats.scan").tag("kind", kind).publishPercentileHistogram().register(meterRegistry);
+    }
+
+    private static Double average(long sum, long known) {
+        return known == 0 ? null : (double) sum / known;
+    }
+
+    /* leading digits (at most maxDigits, e.g. the year of "2004-04-06") as a positive short, else 0 */
+    static short parse(String value, int maxDigits) {
+        if (value == null) {
+            return 0;
+        }
+        int result = 0;
+        int digits = 0;
+        for (int i = 0; i < value.length() && digits < maxDigits; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            result = result * 10 + (c - '0');
+            if (result > Short.MAX_VALUE) {
+                return 0;
+            }
+            digits++;
+        }
+        return (short) result;
+    }
+
+    static final class ShortColumn {
+        short[] values = new short[0];
+        /* bounds of every value ever stored; deletes do not shrink them, scans just see empty slots */
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+
+        void set(int doc, short value) {
+            values[doc] = value;
+            if (value != 0) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+
+        boolean isEmpty() {
+            return min > max;
+        }
+
+        void clear() {
+            values = new short[0];
+            min = Integer.MAX_VALUE;
+            max = Integer.MIN_VALUE;
+        }
+    }
+
+    /* append-only dictionary; code 0 is null and codes are never reassigned while the column lives */
+    static final class DictionaryColumn {
+        int[] codes = new int[0];
+        final List<String> dictionary = new ArrayList<>();
+        final Map<String, Integer> codesByValue = new HashMap<>();
+
+        DictionaryColumn() {
+            dictionary.add(null);
+        }
+
+        void set(int doc, String value) {
+            if (value == null || value.isEmpty()) {
+                codes[doc] = 0;
+                return;
+            }
+            Integer code = codesByValue.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                codesByValue.put(value, code);
+            }
+            codes[doc] = code;
+        }
+
+        int code(String value) {
+            return codesByValue.getOrDefault(value, -1);
+        }
+
+        /* indexed by code: true for every spelling of value that differs only in case; null when there is none */
+        boolean[] codesIgnoreCase(String value) {
+            boolean[] mask = new boolean[dictionary.size()];
+            boolean any = false;
+            for (int code = 1; code < dictionary.size(); code++) {
+                if (dictionary.get(code).equalsIgnoreCase(value)) {
+                    mask[code] = true;
+                    any = true;
+                }
+            }
+            return any ? mask : null;
+        }
+
+        void clear() {
+            codes = new int[0];
+            dictionary.clear();
+            dictionary.add(null);
+            codesByValue.clear();
+        }
+    }
+
+    private final class Filter {
+        private final int[] countries = birthCountry.codes;
+        private final int[] batting = bats.codes;
+        private final int[] throwing = throwStats.codes;
+        private final short[] years = birthYear.values;
+        private final boolean[] country;
+        private final int batsCode;
+        private final int throwsCode;
+        private final int yearFrom;
+        private final int yearTo;
+        private final boolean byYear;
+
+        Filter(boolean[] country, int batsCode, int throwsCode, int yearFrom, int yearTo) {
+            this.country = country;
+            this.batsCode = batsCode;
+            this.throwsCode = throwsCode;
+            this.yearFrom = yearFrom;
+            this.yearTo = yearTo;
+            this.byYear = yearFrom != Integer.MIN_VALUE || yearTo != Integer.MAX_VALUE;
+        }
+
+        boolean matches(int doc) {
+            if (country != null && !country[countries[doc]]) {
+                return false;
+            }
+            if (batsCode != 0 && batting[doc] != batsCode) {
+                return false;
+            }
+            if (throwsCode != 0 && throwing[doc] != throwsCode) {
+                return false;
+            }
+            if (byYear) {
+                short year = years[doc];
+                return year != 0 && year >= yearFrom && year <= yearTo;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Maps a doc to a group slot in [0, slots); slot 0 holds players with no value.
+     */
+    abstract static class Axis {
+        static final Axis NONE = new Axis(1) {
+            @Override
+            int slot(int doc) {
+                return 0;
+            }
+
+            @Override
+            String label(int slot) {
+                return null;
+            }
+        };
+
+        final int slots;
+
+        Axis(int slots) {
+            this.slots = slots;
+        }
+
+        abstract int slot(int doc);
+
+        abstract String label(int slot);
+    }
+
+    static final class DictionaryAxis extends Axis {
+        private final int[] codes;
+        private final List<String> dictionary;
+
+        DictionaryAxis(DictionaryColumn column) {
+            super(column.dictionary.size());
+            this.codes = column.codes;
+            this.dictionary = column.dictionary;
+        }
+
+        @Override
+        int slot(int doc) {
+            return codes[doc];
+        }
+
+        @Override
+        String label(int slot) {
+            return dictionary.get(slot);
+        }
+    }
+
+    static final class NumericAxis extends Axis {
+        private final short[] values;
+        private final int divisor;
+        private final int base;
+
+        NumericAxis(ShortColumn column, int divisor) {
+            super(column.isEmpty() ? 1 : column.max / divisor - column.min / divisor + 2);
+            this.values = column.values;
+            this.divisor = divisor;
+            this.base = column.isEmpty() ? 0 : column.min / divisor;
+        }
+
+        @Override
+        int slot(int doc) {
+            short value = values[doc];
+            return value == 0 ? 0 : value / divisor - base + 1;
+        }
+
+        @Override
+        String label(int slot) {
+            return slot == 0 ? null : String.valueOf((slot - 1 + base) * divisor);
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package com.app.playerservicejava.service.changes;
+
+import com.app.playerservicejava.exception.ChangeCursorExpiredException;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerChange;
+import com.app.playerservicejava.model.PlayerChanges;
+import com.app.playerservicejava.repository.PlayerChangeRepository;
+import com.app.playerservicejava.service.ingest.PlayersReloadedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The PLAYER_CHANGES outbox and the feeds read from it. Writers call {@link #record} inside their transaction,
+ * so a change row commits or rolls back with the write it describes.
+ * <p>
+ * Sequence numbers are handed out here, in allocation order, which is not commit order: a transaction holding
+ * seq 7 may commit after the one holding seq 8. A change is therefore only published once every lower seq has
+ * committed or rolled back; readers never see past that point, so a cursor never skips a change that commits
+ * later. Rolled-back changes leave gaps. When the log is empty at startup (always, with the in-memory database)
+ * the sequence starts from the clock, so a cursor kept across a restart is older than the new log and gets 410
+ * instead of silently missing changes.
+ */
+@Component
+public class PlayerChangeFeed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerChangeFeed.class);
+
+    /* rows per query when a subscription replays the log */
+    private static final int REPLAY_PAGE_SIZE = 500;
+
+    @Autowired
+    private PlayerChangeRepository playerChangeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${players.changes.retention:24h}")
+    private Duration retention = Duration.ofHours(24);
+
+    @Value("${players.changes.prune-interval:10m}")
+    private Duration pruneInterval = Duration.ofMinutes(10);
+
+    @Value("${players.changes.subscriber-buffer:1000}")
+    private int subscriberBuffer = 1000;
+
+    /* key of the current transaction's change list in TransactionSynchronizationManager */
+    private final Object transactionKey = new Object();
+
+    private final Object lock = new Object();
+    /* guarded by lock */
+    private long lastAllocated;
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    private final TreeMap<Long, PlayerChange> committed = new TreeMap<>();
+    /* written under lock: every change up to here has committed or rolled back */
+    private volatile long published;
+    private volatile long prunedThrough;
+
+    private final Set<Subscription> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newCachedThreadPool(new SenderThreadFactory());
+
+    @PostConstruct
+    void start() {
+        Long first = playerChangeRepository.findFirstSeq();
+        long last = playerChangeRepository.findLastSeq();
+        synchronized (lock) {
+            lastAllocated = Math.max(last, System.currentTimeMillis() * 1000);
+            published = lastAllocated;
+            prunedThrough = first == null ? lastAllocated : first - 1;
+        }
+        Gauge.builder("players.changes.subscribers", subscribers, Set::size).register(meterRegistry);
+        Gauge.builder("players.changes.pending", this, feed -> {
+            synchronized (feed.lock) {
+                return feed.inFlight.size() + feed.committed.size();
+            }
+        }).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPruning() {
+        taskScheduler.scheduleWithFixedDelay(this::prune, pruneInterval);
+    }
+
+    @PreDestroy
+    void stop() {
+        senders.shutdownNow();
+    }
+
+    /**
+     * Adds a change to the current transaction; it is published once that transaction commits.
+     *
+     * @param player the player as written, with its new version; null for deletes and reloads
+     */
+    public void record(PlayerChange.Operation operation, String playerId, Player player) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Player changes must be recorded in the transaction that makes them");
+        }
+        String json = player == null ? null : toJson(player);
+        List<PlayerChange> changes = transactionChanges();
+        PlayerChange change = new PlayerChange(allocate(), operation, playerId,
+                player == null ? null : player.getVersion(), Instant.now(), json);
+        changes.add(change);
+        entityManager.persist(change);
+    }
+
+    /**
+     * PLAYERS was replaced from the CSV; replicas cannot follow that row by row.
+     */
+    @EventListener(PlayersReloadedEvent.class)
+    public void recordReload() {
+        transactionTemplate.executeWithoutResult(status -> record(PlayerChange.Operation.RELOAD, null, null));
+    }
+
+    /**
+     * The seq a new replica should start from: take it, then load GET /v1/players, then follow the changes
+     * after it. Changes that land between the two steps are seen twice; their versions tell which is newer.
+     */
+    public long head() {
+        return published;
+    }
+
+    /**
+     * Up to {@code limit} published changes after {@code since}, oldest first.
+     *
+     * @throws ChangeCursorExpiredException if the log no longer reaches back to {@code since}, or never had it
+     */
+    public PlayerChanges changesSince(long since, int limit) {
+        long head = published;
+        checkCursor(since, head);
+        List<PlayerChange> rows = since == head
+                ? List.of()
+                : playerChangeRepository.findBySeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(since, head, Limit.of(limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<PlayerChange> changes = hasMore ? rows.subList(0, limit) : rows;
+        return new PlayerChanges(changes, hasMore ? changes.get(limit - 1).getSeq() : head, hasMore);
+    }
+
+    /**
+     * Sends the published changes after {@code since} (from the head when null), then every change as it is
+     * published, until {@link Subscription#cancel()} or the listener is closed.
+     *
+     * @throws ChangeCursorExpiredException if the log no longer reaches back to {@code since}, or never had it
+     */
+    public Subscription subscribe(Long since, PlayerChangeListener listener) {
+        Subscription subscription;
+        // registered under the lock, so nothing is published between the replay and the first live change
+        synchronized (lock) {
+            long head = published;
+            long from = since == null ? head : since;
+            checkCursor(from, head);
+            subscription = new Subscription(from, head, listener);
+            subscribers.add(subscription);
+        }
+        subscription.schedule();
+        return subscription;
+    }
+
+    /**
+     * Deletes changes older than {@code players.changes.retention}; cursors before them then get 410.
+     */
+    public void prune() {
+        Long last = playerChangeRepository.findLastSeqBefore(Instant.now().minus(retention));
+        if (last == null) {
+            return;
+        }
+        long through = Math.min(last, published);
+        // raised first, so a reader racing the delete gets 410 rather than a page with a hole in it
+        prunedThrough = Math.max(prunedThrough, through);
+        Integer deleted = transactionTemplate.execute(status -> playerChangeRepository.deleteThrough(through));
+        LOGGER.info("message=Player changes pruned; through={}; deleted={}", through, deleted);
+    }
+
+    private void checkCursor(long since, long head) {
+        if (since > head) {
+            throw new ChangeCursorExpiredException("Change cursor " + since + " is ahead of this server's log;"
+                    + " reload GET /v1/players and start from the current head");
+        }
+        if (since < prunedThrough) {
+            throw new ChangeCursorExpiredException("Changes after " + since + " are no longer kept;"
+                    + " reload GET /v1/players and start from the current head");
+        }
+    }
+
+    long allocate() {
+        synchronized (lock) {
+            long seq = ++lastAllocated;
+            inFlight.add(seq);
+            return seq;
+        }
+    }
+
+    /**
+     * A transaction holding these changes ended. Committed changes are published in seq order, up to just
+     * before the oldest seq still in flight.
+     */
+    void completed(List<PlayerChange> changes, boolean committed) {
+        synchronized (lock) {
+            for (PlayerChange change : changes) {
+                inFlight.remove(change.getSeq());
+                if (committed) {
+                    this.committed.put(change.getSeq(), change);
+                }
+            }
+            long horizon = inFlight.isEmpty() ? lastAllocated : inFlight.first() - 1;
+            while (!this.committed.isEmpty() && this.committed.firstKey() <= horizon) {
+                PlayerChange change = this.committed.pollFirstEntry().getValue();
+                subscribers.forEach(subscription -> subscription.offer(change));
+            }
+            published = horizon;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PlayerChange> transactionChanges() {
+        List<PlayerChange> changes = (List<PlayerChange>) TransactionSynchronizationManager.getResource(transactionKey);
+        if (changes == null) {
+            List<PlayerChange> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(transactionKey, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(transactionKey);
+                    completed(created, status == STATUS_COMMITTED);
+                }
+            });
+            changes = created;
+        }
+        return changes;
+    }
+
+    private String toJson(Player player) {
+        try {
+            return objectMapper.writeValueAsString(player);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Player could not be encoded", e);
+        }
+    }
+
+    /**
+     * One subscriber: a replay of the log up to the head it subscribed at, then live changes from a bounded
+     * queue. Sending runs on the feed's sender threads, one drain at a time per subscription, so a slow client
+     * holds neither the writers nor other subscribers; one that lets the queue fill is closed and resubscribes.
+     */
+    public final class Subscription {
+        private final long replayThrough;
+        private final PlayerChangeListener listener;
+        private final BlockingQueue<PlayerChange> live;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile boolean cancelled;
+        /* only touched by the drain holding scheduled */
+        private long cursor;
+        private boolean replayed;
+
+        private Subscription(long since, long replayThrough, PlayerChangeListener listener) {
+            this.cursor = since;
+            this.replayThrough = replayThrough;
+            this.listener = listener;
+            this.live = new ArrayBlockingQueue<>(subscriberBuffer);
+        }
+
+        /**
+         * The subscriber went away; the listener is not called again.
+         */
+        public void cancel() {
+            cancelled = true;
+            closed = true;
+            subscribers.remove(this);
+            live.clear();
+        }
+
+        private void offer(PlayerChange change) {
+            if (closed) {
+                return;
+            }
+            if (!live.offer(change)) {
+                LOGGER.info("message=Change subscriber fell behind; buffered={}", subscriberBuffer);
+                closed = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // shutting down
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                try {
+                    if (!replayed) {
+                        replay();
+                        replayed = true;
+                    }
+                    PlayerChange change;
+                    while (!closed && (change = live.poll()) != null) {
+                        send(change);
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // the client disconnected; its connection cannot be closed from here either
+                    LOGGER.info("message=Change subscriber dropped; cursor={}; exception={}", cursor, e.toString());
+                    cancel();
+                } catch (RuntimeException e) {
+                    LOGGER.error("message=Change replay failed; cursor={}; exception={}", cursor, e.toString());
+                    closed = true;
+                }
+                if (closed) {
+                    end();
+                    return;
+                }
+                scheduled.set(false);
+                if ((live.isEmpty() && !closed) || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+
+        private void replay() throws IOException {
+            while (!closed && cursor < replayThrough) {
+                List<PlayerChange> page = playerChangeRepository.findBySeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(
+                        cursor, replayThrough, Limit.of(REPLAY_PAGE_SIZE));
+                for (PlayerChange change : page) {
+                    send(change);
+                }
+                if (page.size() < REPLAY_PAGE_SIZE) {
+                    cursor = replayThrough;
+                }
+            }
+        }
+
+        private void send(PlayerChange change) throws IOException {
+            if (change.getSeq() > cursor) {
+                listener.onChange(change);
+                cursor = change.getSeq();
+            }
+        }
+
+        private void end() {
+            subscribers.remove(this);
+            live.clear();
+            if (!cancelled) {
+                cancelled = true;
+                listener.onClosed();
+            }
+        }
+    }
+
+    private static final class SenderThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "player-changes-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.app.playerservicejava.service.changes;
+
+import com.app.playerservicejava.model.PlayerChange;
+
+import java.io.IOException;
+
+/**
+ * Receives a change feed subscription. Called from the feed's sender threads, never concurrently.
+ */
+public interface PlayerChangeListener {
+
+    /**
+     * The next change, in {@code seq} order; throwing ends the subscription.
+     */
+    void onChange(PlayerChange change) throws IOException;
+
+    /**
+     * The feed stopped sending, because the subscriber fell behind or a send failed. The subscriber
+     * resumes by subscribing again from the last {@code seq} it received.
+     */
+    void onClosed();
+}
@@ -1,45 +1,211 @@
 package com.app.playerservicejava.service.chat;
 
-import io.github.ollama4j.OllamaAPI;
+import com.app.playerservicejava.model.chat.ChatRequest;
+import com.app.playerservicejava.model.chat.ChatStreamSummary;
+import com.app.playerservicejava.service.chat.backend.ChatBackendRouter;
+import com.app.playerservicejava.service.chat.cache.CompletionCache;
+import com.app.playerservicejava.service.chat.dispatch.ChatDispatcher;
+import com.app.playerservicejava.service.chat.dispatch.ModelLane;
 import io.github.ollama4j.exceptions.OllamaBaseException;
-import io.github.ollama4j.models.Model;
 import io.github.ollama4j.models.OllamaResult;
-import io.github.ollama4j.types.OllamaModelType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.stereotype.Service;
-import io.github.ollama4j.utils.OptionsBuilder;
+import io.github.ollama4j.utils.Options;
 import io.github.ollama4j.utils.PromptBuilder;
 
 import java.io.IOException;
-import java.net.URISyntaxException;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class ChatClientService {
     private static final Logger LOGGER = LoggerFactory.getLogger(ChatClientService.class);
 
     @Autowired
-    private OllamaAPI ollamaAPI;
+    private ChatBackendRouter chatBackendRouter;
 
-    public List<Model> listModels() throws OllamaBaseException, IOException, URISyntaxException, InterruptedException {
-        List<Model> models = ollamaAPI.listModels();
-        return models;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private PlayerContextRetriever playerContextRetriever;
+
+    @Autowired
+    private CompletionCache completionCache;
+
+    @Autowired
+    private ChatDispatcher chatDispatcher;
+
+    @Autowired
+    private ModelCatalog modelCatalog;
+
+    /* one thread per stream; how many may run at once is capped by the chat bulkhead */
+    private SimpleAsyncTaskExecutor streamExecutor;
+
+    @PostConstruct
+    void initStreamExecutor() {
+        streamExecutor = new SimpleAsyncTaskExecutor("chat-stream-");
+        streamExecutor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
     }
 
-    public String chat() throws OllamaBaseException, IOException, InterruptedException {
-        String model = OllamaModelType.TINYLLAMA;
-        // "{{user_query}} you can use this player_dat as context {{xontext}}";
+    @Observed(name = "chat.service", contextualName = "chat")
+    public String chat(ChatRequest request) throws OllamaBaseException, IOException, InterruptedException {
+        String model = modelOf(request);
+        String context = playerContextRetriever.retrieve(request.getPrompt());
+        CompletionCache.Lookup cached = completionCache.lookup(model, request.getOptions(), context, request.getPrompt());
+        if (cached.getHit() != null) {
+            return cached.getHit().getResponse();
+        }
+
+        boolean raw = false;
+        return chatDispatcher.execute(model, request.getPriority(), cached.getId(), () -> {
+            long start = System.nanoTime();
+            OllamaResult response = chatBackendRouter.call(model,
+                    api -> api.generate(model, buildPrompt(request.getPrompt(), context), raw, optionsOf(request)));
+            completionCache.store(cached, response.getResponse(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return response.getResponse();
+        });
+    }
+
+    /**
+     * Starts a streamed generation on a worker thread and returns immediately. Tokens are pushed
+     * to the listener as Ollama emits them; cancelling the returned future (or the listener
+     * reporting {@link ChatStreamListener#isCancelled()}) closes the upstream connection. The stream is
+     * admitted to the model's dispatch queue before this returns, so an overloaded model fails fast with 429.
+     */
+    public Future<?> streamChat(ChatRequest request, ChatStreamListener listener) {
+        String model = modelOf(request);
+        String prompt = buildPrompt(request.getPrompt(), playerContextRetriever.retrieve(request.getPrompt()));
+        Options options = optionsOf(request);
+        ModelLane.Ticket ticket = chatDispatcher.admit(model, request.getPriority());
+        CompletableFuture<Void> handle = new CompletableFuture<>();
+        // the worker's span hangs off the request's, which has usually ended by the time tokens arrive
+        Observation parent = observationRegistry.getCurrentObservation();
+        Future<?> task = streamExecutor.submit(() -> {
+            long start = System.nanoTime();
+            long[] firstToken = {0};
+            int[] chunks = {0};
+            int[] sent = {0};
+            Observation observation = Observation.createNotStarted("chat.stream", observationRegistry)
+                    .contextualName("chat stream")
+                    .parentObservation(parent)
+                    .lowCardinalityKeyValue("model", model)
+                    .start();
+            Observation.Scope scope = observation.openScope();
+            try {
+                ticket.await();
+                chatBackendRouter.call(model, api -> api.generate(model, prompt, false, options, accumulated -> {
+                    if (listener.isCancelled() || Thread.currentThread().isInterrupted()) {
+                        throw new CancellationException("Client went away");
+                    }
+                    if (accumulated.length() <= sent[0]) {
+                        return;
+                    }
+                    if (chunks[0]++ == 0) {
+                        firstToken[0] = System.nanoTime();
+                        timer("chat.stream.time_to_first_token", model).record(firstToken[0] - start, TimeUnit.NANOSECONDS);
+                    }
+                    listener.onToken(accumulated.substring(sent[0]));
+                    sent[0] = accumulated.length();
+                }));
+                long end = System.nanoTime();
+                timer("chat.stream.duration", model).record(end - start, TimeUnit.NANOSECONDS);
+                if (chunks[0] > 1 && end > firstToken[0]) {
+                    // Ollama streams one token per chunk; the first is excluded as its wait is time to first token
+                    tokenRate(model).record((chunks[0] - 1) / ((end - firstToken[0]) / 1e9));
+                }
+                long ttft = firstToken[0] == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(firstToken[0] - start);
+                listener.onComplete(new ChatStreamSummary(model, ttft, TimeUnit.NANOSECONDS.toMillis(end - start), chunks[0]));
+            } catch (CancellationException | InterruptedException e) {
+                counter("chat.stream.cancelled", model).increment();
+                LOGGER.info("message=Chat stream cancelled; model={}; chunks={}", model, chunks[0]);
+            } catch (Exception e) {
+                if (listener.isCancelled()) {
+                    counter("chat.stream.cancelled", model).increment();
+                    return;
+                }
+                LOGGER.error("message=Exception in streamChat; exception={}", e.toString());
+                observation.error(e);
+                listener.onError(e);
+            } finally {
+                scope.close();
+                observation.stop();
+                ticket.release();
+                handle.complete(null);
+            }
+        });
+        // cancelling before the worker reaches its turn must still give the queue place back
+        handle.whenComplete((ignored, error) -> {
+            if (handle.isCancelled()) {
+                ticket.abandon();
+                task.cancel(true);
+            }
+        });
+        return handle;
+    }
+
+    /**
+     * The user's prompt, preceded by the PLAYERS rows it mentions when there are any.
+     */
+    String buildPrompt(String prompt, String context) {
+        if (context.isEmpty()) {
+            return new PromptBuilder().addLine(prompt).build();
+        }
 
         // https://ollama4j.github.io/ollama4j/intro
         PromptBuilder promptBuilder =
                 new PromptBuilder()
-                        .addLine("Recite a haiku about recursion.");
+                        .addLine("You are a baseball assistant. Use these player records as context when they are relevant:")
+                        .add(context)
+                        .addSeparator()
+                        .addLine(prompt);
+        return promptBuilder.build();
+    }
 
-        boolean raw = false;
-        OllamaResult response = ollamaAPI.generate(model, promptBuilder.build(), raw, new OptionsBuilder().build());
-        return response.getResponse();
+    /* the requested model, once it is known to be served; see ModelCatalog#checkKnown */
+    private String modelOf(ChatRequest request) {
+        String model = request.getModel() == null || request.getModel().isBlank() ? chatBackendRouter.defaultModel() : request.getModel();
+        modelCatalog.checkKnown(model);
+        return model;
+    }
+
+    private static Options optionsOf(ChatRequest request) {
+        return new Options(new LinkedHashMap<>(request.getOptions()));
+    }
+
+    private Timer timer(String name, String model) {
+        return Timer.builder(name).tag("model", model).publishPercentileHistogram().register(meterRegistry);
+    }
+
+    private DistributionSummary tokenRate(String model) {
+        return DistributionSummary.builder("chat.stream.tokens_per_second").tag("model", model)
+                .publishPercentileHistogram().register(meterRegistry);
+    }
+
+    private Counter counter(String name, String model) {
+        return Counter.builder(name).tag("model", model).register(meterRegistry);
     }
 
 }
@@ -0,0 +1,23 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.model.chat.ChatStreamSummary;
+
+/**
+ * Receives a streamed completion. Called from the streaming worker thread, never concurrently.
+ */
+public interface ChatStreamListener {
+
+    /**
+     * Text the model produced since the previous call.
+     */
+    void onToken(String text);
+
+    void onComplete(ChatStreamSummary summary);
+
+    void onError(Exception e);
+
+    /**
+     * Polled before each token is delivered; returning true aborts the upstream Ollama request.
+     */
+    boolean isCancelled();
+}
@@ -0,0 +1,202 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.config.ChatDispatchProperties;
+import com.app.playerservicejava.config.ChatRouterProperties;
+import com.app.playerservicejava.exception.NoChatBackendException;
+import com.app.playerservicejava.exception.UnknownChatModelException;
+import com.app.playerservicejava.service.chat.backend.ChatBackend;
+import com.app.playerservicejava.service.chat.backend.ChatBackendRouter;
+import io.github.ollama4j.models.Model;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The models the chat backends serve, kept in memory and refreshed in the background so
+ * {@code list-models} never waits on Ollama. A request that finds the list older than the refresh
+ * interval still gets it immediately and kicks off a refresh (stale-while-revalidate); a failed
+ * refresh keeps serving the last list that was fetched.
+ */
+@Component
+public class ModelCatalog {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModelCatalog.class);
+
+    @Autowired
+    private ChatBackendRouter chatBackendRouter;
+
+    @Autowired
+    private ChatRouterProperties routerProperties;
+
+    @Autowired
+    private ChatDispatchProperties dispatchProperties;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${chat.catalog.refresh-interval:30s}")
+    private Duration refreshInterval;
+
+    private volatile Snapshot snapshot;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("chat.catalog.age", this, catalog -> {
+            Snapshot current = catalog.snapshot;
+            return current == null ? Double.NaN : TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - current.getRefreshedAtNanos());
+        }).baseUnit("seconds").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRefreshing() {
+        taskScheduler.scheduleWithFixedDelay(this::refreshInBackground, refreshInterval);
+    }
+
+    /**
+     * The current list. Only the very first call, when nothing has been fetched yet, goes to Ollama
+     * inline; if that fails there is nothing to fall back on and the backends are reported unavailable.
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return refresh();
+        }
+        if (System.nanoTime() - current.getRefreshedAtNanos() > refreshInterval.toNanos() && !refreshing.get()) {
+            taskScheduler.schedule(this::refreshInBackground, Instant.now());
+        }
+        return current;
+    }
+
+    /**
+     * Rejects a model the service does not know before it is queued, metered or sent to a backend, so request
+     * bodies cannot create dispatch lanes and meter tags without limit. Known models are the configured ones
+     * (the default model, those with a dispatch cap and those pinned to a backend) and those in the last list
+     * fetched; this never calls Ollama.
+     *
+     * @throws UnknownChatModelException if neither configured nor listed by any backend
+     * @throws NoChatBackendException if the model is not configured and no list has been fetched yet
+     */
+    public void checkKnown(String model) {
+        String canonical = ChatBackend.canonical(model);
+        if (ChatBackend.canonical(routerProperties.getDefaultModel()).equals(canonical)
+                || dispatchProperties.getModels().keySet().stream().map(ChatBackend::canonical).anyMatch(canonical::equals)
+                || routerProperties.getBackends().stream().flatMap(backend -> backend.getModels().stream())
+                        .map(ChatBackend::canonical).anyMatch(canonical::equals)) {
+            return;
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new NoChatBackendException("Chat models unavailable");
+        }
+        if (current.getModels().stream().map(Model::getName).map(ChatBackend::canonical).noneMatch(canonical::equals)) {
+            throw new UnknownChatModelException("Unknown chat model: " + model);
+        }
+    }
+
+    Snapshot refresh() {
+        List<Model> models;
+        try {
+            models = chatBackendRouter.listModels();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NoChatBackendException("Interrupted while listing chat models");
+        } catch (NoChatBackendException e) {
+            counter("failure").increment();
+            throw e;
+        } catch (Exception e) {
+            counter("failure").increment();
+            throw new NoChatBackendException("Chat models unavailable");
+        }
+        models = models.stream().sorted(Comparator.comparing(Model::getName)).toList();
+        String etag = etagOf(models);
+        Snapshot previous = snapshot;
+        // keep the same list instance when nothing changed so conditional requests keep matching
+        Snapshot next = previous != null && previous.getEtag().equals(etag)
+                ? new Snapshot(previous.getModels(), etag, System.nanoTime())
+                : new Snapshot(models, etag, System.nanoTime());
+        if (previous == null || !previous.getEtag().equals(etag)) {
+            LOGGER.info("message=Chat model catalog updated; models={}; etag={}", models.size(), etag);
+        }
+        snapshot = next;
+        counter("success").increment();
+        return next;
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            LOGGER.warn("message=Chat model catalog refresh failed, serving last known list; exception={}", e.toString());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private Counter counter(String outcome) {
+        return Counter.builder("chat.catalog.refreshes").tag("outcome", outcome).register(meterRegistry);
+    }
+
+    /* strong validator over what a client could see change: name, digest, size and modification time */
+    private static String etagOf(List<Model> models) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Model model : models) {
+                String line = model.getName() + '\0' + model.getDigest() + '\0' + model.getSize() + '\0' + model.getModifiedAt() + '\n';
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return '"' + HexFormat.of().formatHex(digest.digest(), 0, 16) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static final class Snapshot {
+        private final List<Model> models;
+        private final String etag;
+        private final long refreshedAtNanos;
+
+        Snapshot(List<Model> models, String etag, long refreshedAtNanos) {
+            this.models = models;
+            this.etag = etag;
+            this.refreshedAtNanos = refreshedAtNanos;
+        }
+
+        public List<Model> getModels() {
+            return models;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public long getRefreshedAtNanos() {
+            return refreshedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.config.CacheConfiguration;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.search.PlayerNameIndex;
+import com.app.playerservicejava.service.snapshot.PlayerSnapshotStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Picks the PLAYERS rows a chat prompt is about and renders them as a few compact lines of context.
+ *
+ * Names are resolved through the in-memory {@link PlayerNameIndex} (exact, case-insensitive), player ids
+ * and birth years through primary-key / indexed lookups. Candidate rows come from the {@code players}
+ * cache that {@code getPlayerById} fills, with misses loaded in one {@code findAllById}, so a warm turn
+ * costs a handful of index probes and no query at all.
+ */
+@Component
+public class PlayerContextRetriever {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerContextRetriever.class);
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}][\\p{L}'.-]*\\p{L}|[\\p{L}]");
+    private static final Pattern PLAYER_ID = Pattern.compile("\\b[a-z][a-z'.]{1,8}\\d{2}\\b");
+    private static final Pattern YEAR = Pattern.compile("\\b(18|19|20)\\d{2}\\b");
+
+    /* capitalised words that start questions rather than name players */
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "about", "all", "an", "and", "are", "born", "can", "compare", "describe", "did", "do", "does",
+            "for", "give", "hall", "he", "his", "how", "i", "in", "is", "it", "list", "me", "mlb", "of", "on",
+            "player", "players", "please", "she", "show", "tell", "the", "their", "they", "was", "were", "what",
+            "when", "where", "which", "who", "whom", "why", "with", "write");
+
+    private static final int ID_SCORE = 8;
+    private static final int LAST_NAME_SCORE = 4;
+    private static final int FIRST_NAME_SCORE = 2;
+    private static final int BIRTH_YEAR_SCORE = 1;
+
+    /* rows loaded per requested player, so birth-year matches can still re-rank name matches */
+    private static final int OVERFETCH = 4;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlayerNameIndex playerNameIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlayerSnapshotStore playerSnapshotStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${chat.retrieval.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${chat.retrieval.max-players:5}")
+    private int maxPlayers = 5;
+
+    @Value("${chat.retrieval.max-context-chars:1200}")
+    private int maxContextChars = 1200;
+
+    /**
+     * Context lines for the prompt, one player per line; empty when nothing relevant was found.
+     */
+    public String retrieve(String prompt) {
+        if (!enabled || prompt == null || prompt.isBlank()) {
+            return "";
+        }
+        long start = System.nanoTime();
+        List<Player> players = findRelevant(prompt);
+        StringBuilder context = new StringBuilder();
+        for (Player player : players) {
+            String line = describe(player);
+            if (context.length() + line.length() + 1 > maxContextChars) {
+                break;
+            }
+            context.append(line).append('\n');
+        }
+        long nanos = System.nanoTime() - start;
+        Timer.builder("chat.retrieval.duration").publishPercentileHistogram().register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        LOGGER.debug("message=Chat context retrieved; players={}; chars={}; micros={}",
+                players.size(), context.length(), nanos / 1_000);
+        return context.toString();
+    }
+
+    List<Player> findRelevant(String prompt) {
+        Map<String, Integer> scores = new LinkedHashMap<>();
+
+        Matcher ids = PLAYER_ID.matcher(prompt.toLowerCase(Locale.ROOT));
+        while (ids.find()) {
+            scores.merge(ids.group(), ID_SCORE, Integer::sum);
+        }
+
+        if (playerNameIndex.isReady()) {
+            List<String> names = nameWords(prompt);
+            for (String name : names) {
+                for (String id : playerNameIndex.findExact(PlayerNameIndex.Field.LAST_NAME, name)) {
+                    scores.merge(id, LAST_NAME_SCORE, Integer::sum);
+                }
+            }
+            // a first name alone ("John") matches too many players to add new candidates once a surname has
+            boolean narrowOnly = !scores.isEmpty();
+            for (String name : names) {
+                for (String id : playerNameIndex.findExact(PlayerNameIndex.Field.FIRST_NAME, name)) {
+                    if (!narrowOnly || scores.containsKey(id)) {
+                        scores.merge(id, FIRST_NAME_SCORE, Integer::sum);
+                    }
+                }
+            }
+        }
+
+        Set<String> years = new LinkedHashSet<>();
+        Matcher yearMatcher = YEAR.matcher(prompt);
+        while (yearMatcher.find()) {
+            years.add(yearMatcher.group());
+        }
+
+        if (scores.isEmpty()) {
+            List<Player> born = new ArrayList<>();
+            for (String year : years) {
+                born.addAll(playerRepository.findByBirthYearAndPlayerIdGreaterThanOrderByPlayerIdAsc(
+                        year, "", Limit.of(maxPlayers - born.size())));
+                if (born.size() >= maxPlayers) {
+                    break;
+                }
+            }
+            return born;
+        }
+
+        List<String> candidates = scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit((long) maxPlayers * OVERFETCH)
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<String, Integer> order = new HashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            order.put(candidates.get(i), i);
+        }
+        List<Player> players = load(candidates);
+        for (Player player : players) {
+            if (years.contains(player.getBirthYear())) {
+                scores.merge(player.getPlayerId(), BIRTH_YEAR_SCORE, Integer::sum);
+            }
+        }
+        players.sort(Comparator.<Player>comparingInt(player -> -scores.get(player.getPlayerId()))
+                .thenComparingInt(player -> order.get(player.getPlayerId())));
+        return players.size() > maxPlayers ? players.subList(0, maxPlayers) : players;
+    }
+
+    /*
+     * same source as PlayerService#getPlayerById: the snapshot when built, else the players cache, which holds
+     * the Player itself by id (Spring unwraps the Optional getPlayerById returns before caching it)
+     */
+    private List<Player> load(List<String> playerIds) {
+        if (playerSnapshotStore.isReady()) {
+            List<Player> players = new ArrayList<>(playerIds.size());
+            playerIds.forEach(playerId -> playerSnapshotStore.findById(playerId).ifPresent(players::add));
+            return players;
+        }
+        Cache cache = cacheManager.getCache(CacheConfiguration.PLAYERS_CACHE);
+        List<Player> players = new ArrayList<>(playerIds.size());
+        List<String> misses = new ArrayList<>();
+        for (String playerId : playerIds) {
+            Cache.ValueWrapper cached = cache == null ? null : cache.get(playerId);
+            if (cached != null && cached.get() instanceof Player player) {
+                players.add(player);
+            } else {
+                misses.add(playerId);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (Player player : playerRepository.findAllById(misses)) {
+                players.add(player);
+                if (cache != null) {
+                    cache.put(player.getPlayerId(), player);
+                }
+            }
+        }
+        return players;
+    }
+
+    /**
+     * One line, skipping unknown attributes, e.g.
+     * {@code ruthba01 | Babe Ruth (George Herman) | born 1895-2-6 Baltimore, MD, USA | died 1948-8-16 New York, NY, USA | bats L, throws L | 74 in, 215 lb | played 1914-07-11 to 1935-05-30}.
+     */
+    static String describe(Player player) {
+        StringBuilder line = new StringBuilder(player.getPlayerId());
+        line.append(" | ").append(join(" ", player.getFirstName(), player.getLastName()));
+        if (present(player.getGivenName())) {
+            line.append(" (").append(player.getGivenName()).append(')');
+        }
+        appendLifeEvent(line, "born", player.getBirthYear(), player.getBirthMonth(), player.getBirthDay(),
+                player.getBirthCity(), player.getBirthState(), player.getBirthCountry());
+        appendLifeEvent(line, "died", player.getDeathYear(), player.getDeathMonth(), player.getDeathDay(),
+                player.getDeathCity(), player.getDeathState(), player.getDeathCountry());
+        String handedness = join(", ",
+                present(player.getBats()) ? "bats " + player.getBats() : null,
+                present(player.getThrowStats()) ? "throws " + player.getThrowStats() : null);
+        if (!handedness.isEmpty()) {
+            line.append(" | ").append(handedness);
+        }
+        String build = join(", ",
+                present(player.getHeight()) ? player.getHeight() + " in" : null,
+                present(player.getWeight()) ? player.getWeight() + " lb" : null);
+        if (!build.isEmpty()) {
+            line.append(" | ").append(build);
+        }
+        if (present(player.getDebut())) {
+            line.append(" | played ").append(player.getDebut());
+            if (present(player.getFinalGame())) {
+                line.append(" to ").append(player.getFinalGame());
+            }
+        }
+        return line.toString();
+    }
+
+    private static List<String> nameWords(String prompt) {
+        List<String> words = new ArrayList<>();
+        Matcher matcher = WORD.matcher(prompt);
+        while (matcher.find()) {
+            String word = matcher.group();
+            if (Character.isUpperCase(word.charAt(0)) && !STOP_WORDS.contains(word.toLowerCase(Locale.ROOT))
+                    && !words.contains(word)) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static void appendLifeEvent(StringBuilder line, String label, String year, String month, String day,
+                                        String city, String state, String country) {
+        if (!present(year)) {
+            return;
+        }
+        line.append(" | ").append(label).append(' ').append(join("-", year, month, day));
+        String place = join(", ", city, state, country);
+        if (!place.isEmpty()) {
+            line.append(' ').append(place);
+        }
+    }
+
+    private static String join(String separator, String... parts) {
+        StringBuilder joined = new StringBuilder();
+        for (String part : parts) {
+            if (present(part)) {
+                if (joined.length() > 0) {
+                    joined.append(separator);
+                }
+                joined.append(part);
+            }
+        }
+        return joined.toString();
+    }
+
+    private static boolean present(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,209 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.model.chat.ChatRequest;
+import com.app.playerservicejava.model.chat.ChatStreamSummary;
+import com.app.playerservicejava.service.chat.backend.ChatBackendRouter;
+import com.app.playerservicejava.service.chat.cache.CompletionCache;
+import com.app.playerservicejava.service.chat.dispatch.ChatDispatcher;
+import com.app.playerservicejava.service.chat.dispatch.ModelLane;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link ChatClientService} for the {@code reactive} profile: Ollama's {@code /api/generate} is called with
+ * WebClient, and a request waiting for its model's slot holds no thread. Context retrieval and the completion
+ * cache still read through JPA and disk, so they run on the bounded elastic scheduler. Identical in-flight
+ * prompts are not coalesced here; repeats are served by the completion cache once the first one finishes.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveChatClientService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveChatClientService.class);
+
+    @Autowired
+    private ChatClientService chatClientService;
+
+    @Autowired
+    private ChatBackendRouter chatBackendRouter;
+
+    @Autowired
+    private PlayerContextRetriever playerContextRetriever;
+
+    @Autowired
+    private CompletionCache completionCache;
+
+    @Autowired
+    private ChatDispatcher chatDispatcher;
+
+    @Autowired
+    private ModelCatalog modelCatalog;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    /* upper bound on one generation, streamed or not; the upstream request is cancelled when it expires */
+    @Value("${chat.stream.timeout-ms:180000}")
+    private long timeoutMs;
+
+    private WebClient webClient;
+
+    /* the fields of Ollama's generate response this service reads */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Generated {
+        private String response;
+
+        public String getResponse() {
+            return response;
+        }
+
+        public void setResponse(String response) {
+            this.response = response;
+        }
+    }
+
+    @PostConstruct
+    void initWebClient() {
+        webClient = webClientBuilder.build();
+    }
+
+    public Mono<String> chat(ChatRequest request) {
+        String model = modelOf(request);
+        return Mono.fromCallable(() -> {
+                    String context = playerContextRetriever.retrieve(request.getPrompt());
+                    return new Prepared(context, completionCache.lookup(model, request.getOptions(), context, request.getPrompt()));
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(prepared -> {
+                    if (prepared.lookup.getHit() != null) {
+                        return Mono.just(prepared.lookup.getHit().getResponse());
+                    }
+                    long start = System.nanoTime();
+                    String prompt = chatClientService.buildPrompt(request.getPrompt(), prepared.context);
+                    return Mono.defer(() -> admitted(chatDispatcher.admit(model, request.getPriority()),
+                                    generate(model, prompt, request, false)).single())
+                            .map(Generated::getResponse)
+                            .publishOn(Schedulers.boundedElastic())
+                            .doOnNext(response -> completionCache.store(prepared.lookup, response,
+                                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+                });
+    }
+
+    /**
+     * The generation's text deltas as Ollama emits them; {@code onComplete} receives the timings just before
+     * the flux completes. The request takes its place in the model's queue now, so an overloaded model fails
+     * with 429 before the response starts. Cancelling the subscription closes the upstream connection.
+     */
+    public Flux<String> streamChat(ChatRequest request, Consumer<ChatStreamSummary> onComplete) {
+        String model = modelOf(request);
+        ModelLane.Ticket ticket = chatDispatcher.admit(model, request.getPriority());
+        long start = System.nanoTime();
+        long[] firstToken = {0};
+        int[] chunks = {0};
+        Flux<String> tokens = Mono.fromCallable(() -> chatClientService.buildPrompt(request.getPrompt(),
+                        playerContextRetriever.retrieve(request.getPrompt())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(prompt -> generate(model, prompt, request, true))
+                .map(Generated::getResponse)
+                .filter(text -> !text.isEmpty())
+                .doOnNext(text -> {
+                    if (chunks[0]++ == 0) {
+                        firstToken[0] = System.nanoTime();
+                        timer("chat.stream.time_to_first_token", model).record(firstToken[0] - start, TimeUnit.NANOSECONDS);
+                    }
+                })
+                .doOnComplete(() -> {
+                    long end = System.nanoTime();
+                    timer("chat.stream.duration", model).record(end - start, TimeUnit.NANOSECONDS);
+                    if (chunks[0] > 1 && end > firstToken[0]) {
+                        // as in ChatClientService, the first chunk's wait is time to first token
+                        tokenRate(model).record((chunks[0] - 1) / ((end - firstToken[0]) / 1e9));
+                    }
+                    long ttft = firstToken[0] == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(firstToken[0] - start);
+                    onComplete.accept(new ChatStreamSummary(model, ttft, TimeUnit.NANOSECONDS.toMillis(end - start), chunks[0]));
+                })
+                .doOnCancel(() -> {
+                    counter("chat.stream.cancelled", model).increment();
+                    LOGGER.info("message=Chat stream cancelled; model={}; chunks={}", model, chunks[0]);
+                })
+                .doOnError(e -> LOGGER.error("message=Exception in streamChat; exception={}", e.toString()));
+        return admitted(ticket, tokens);
+    }
+
+    /* runs {@code work} once the ticket holds a slot and gives the slot back however it ends */
+    private static <T> Flux<T> admitted(ModelLane.Ticket ticket, Flux<T> work) {
+        return Mono.fromFuture(ticket::granted)
+                .thenMany(work)
+                .doFinally(signal -> ticket.release());
+    }
+
+    private Flux<Generated> generate(String model, String prompt, ChatRequest request, boolean stream) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("model", model);
+        body.put("prompt", prompt);
+        body.put("stream", stream);
+        body.put("raw", false);
+        body.put("options", request.getOptions());
+        return chatBackendRouter.exchange(model, url -> webClient.post()
+                        .uri(url.endsWith("/") ? url + "api/generate" : url + "/api/generate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToFlux(Generated.class))
+                .timeout(Duration.ofMillis(timeoutMs));
+    }
+
+    /* the requested model, once it is known to be served; see ModelCatalog#checkKnown */
+    private String modelOf(ChatRequest request) {
+        String model = request.getModel() == null || request.getModel().isBlank() ? chatBackendRouter.defaultModel() : request.getModel();
+        modelCatalog.checkKnown(model);
+        return model;
+    }
+
+    private Timer timer(String name, String model) {
+        return Timer.builder(name).tag("model", model).publishPercentileHistogram().register(meterRegistry);
+    }
+
+    private DistributionSummary tokenRate(String model) {
+        return DistributionSummary.builder("chat.stream.tokens_per_second").tag("model", model)
+                .publishPercentileHistogram().register(meterRegistry);
+    }
+
+    private Counter counter(String name, String model) {
+        return Counter.builder(name).tag("model", model).register(meterRegistry);
+    }
+
+    private static final class Prepared {
+        final String context;
+        final CompletionCache.Lookup lookup;
+
+        Prepared(String context, CompletionCache.Lookup lookup) {
+            this.context = context;
+            this.lookup = lookup;
+        }
+    }
+}
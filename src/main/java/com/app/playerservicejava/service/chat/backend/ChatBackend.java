@@ -0,0 +1,87 @@
+package com.app.playerservicejava.service.chat.backend;
+
+import io.github.ollama4j.OllamaAPI;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * One Ollama instance: its client, outstanding request count, health and circuit state.
+ */
+public final class ChatBackend {
+    private final String name;
+    private final String url;
+    private final OllamaAPI api;
+    private final Set<String> pinnedModels;
+    private final CircuitBreaker circuit;
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    /* null until the first successful health check, meaning "assume it serves anything" */
+    private volatile Set<String> discoveredModels;
+    private volatile boolean healthy = true;
+
+    ChatBackend(String name, String url, OllamaAPI api, Collection<String> pinnedModels, CircuitBreaker circuit) {
+        this.name = name;
+        this.url = url;
+        this.api = api;
+        this.pinnedModels = canonical(pinnedModels);
+        this.circuit = circuit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public String getCircuitState() {
+        return circuit.state().name();
+    }
+
+    OllamaAPI api() {
+        return api;
+    }
+
+    CircuitBreaker circuit() {
+        return circuit;
+    }
+
+    AtomicInteger outstanding() {
+        return outstanding;
+    }
+
+    boolean serves(String model) {
+        Set<String> models = pinnedModels.isEmpty() ? discoveredModels : pinnedModels;
+        return models == null || models.contains(canonical(model));
+    }
+
+    void up(Collection<String> models) {
+        discoveredModels = canonical(models);
+        healthy = true;
+    }
+
+    void down() {
+        healthy = false;
+    }
+
+    /* "tinyllama" and "tinyllama:latest" name the same model */
+    public static String canonical(String model) {
+        return model.indexOf(':') >= 0 ? model : model + ":latest";
+    }
+
+    private static Set<String> canonical(Collection<String> models) {
+        return models == null ? Set.of() : models.stream().map(ChatBackend::canonical).collect(Collectors.toUnmodifiableSet());
+    }
+}
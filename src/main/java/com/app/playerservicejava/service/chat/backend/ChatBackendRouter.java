@@ -0,0 +1,302 @@
+package com.app.playerservicejava.service.chat.backend;
+
+import com.app.playerservicejava.config.ChatRouterProperties;
+import com.app.playerservicejava.exception.NoChatBackendException;
+import io.github.ollama4j.OllamaAPI;
+import io.github.ollama4j.exceptions.OllamaBaseException;
+import io.github.ollama4j.models.Model;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URISyntaxException;
+import java.net.http.HttpConnectTimeoutException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Spreads Ollama calls over the configured backends. A call goes to the backend with the fewest
+ * outstanding requests among those that are healthy, serve the requested model and whose circuit lets
+ * it through; a connection that cannot even be opened is retried once on another backend.
+ * Health is refreshed in the background by listing each backend's models.
+ */
+@Component
+public class ChatBackendRouter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChatBackendRouter.class);
+
+    @FunctionalInterface
+    public interface BackendCall<T> {
+        T call(OllamaAPI api) throws OllamaBaseException, IOException, InterruptedException;
+    }
+
+    @Autowired
+    private ChatRouterProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    private final List<ChatBackend> backends = new ArrayList<>();
+    /* rotates the starting point so ties in outstanding count do not always pick the first backend */
+    private final AtomicInteger rotation = new AtomicInteger();
+
+    @PostConstruct
+    void init() {
+        List<ChatRouterProperties.Backend> configured = properties.getBackends();
+        if (configured.isEmpty()) {
+            // Once you start the Ollama docker container - Ollama server runs locally on port 11434 at http://127.0.0.1:11434/
+            configured = List.of(new ChatRouterProperties.Backend("local", "http://127.0.0.1:11434/"));
+        }
+        for (ChatRouterProperties.Backend config : configured) {
+            String name = config.getName() == null ? config.getUrl() : config.getName();
+            OllamaAPI api = new OllamaAPI(config.getUrl());
+            api.setRequestTimeoutSeconds(config.getRequestTimeoutSeconds());
+            ChatBackend backend = new ChatBackend(name, config.getUrl(), api, config.getModels(),
+                    new CircuitBreaker(properties.getFailureThreshold(), properties.getOpenDuration().toNanos()));
+            backends.add(backend);
+            Gauge.builder("chat.backend.outstanding", backend, ChatBackend::getOutstanding).tag("backend", name).register(meterRegistry);
+            Gauge.builder("chat.backend.healthy", backend, b -> b.isHealthy() ? 1 : 0).tag("backend", name).register(meterRegistry);
+            Gauge.builder("chat.backend.circuit.open", backend, b -> b.circuit().state() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                    .tag("backend", name).register(meterRegistry);
+        }
+        LOGGER.info("message=Chat backends configured; backends={}", backends.stream().map(ChatBackend::getUrl).toList());
+    }
+
+    public String defaultModel() {
+        return properties.getDefaultModel();
+    }
+
+    public List<ChatBackend> backends() {
+        return List.copyOf(backends);
+    }
+
+    /**
+     * Runs {@code call} against the best backend for {@code model}. Throws {@link NoChatBackendException}
+     * when none is available.
+     */
+    public <T> T call(String model, BackendCall<T> call) throws OllamaBaseException, IOException, InterruptedException {
+        ChatBackend backend = acquire(model, null);
+        try {
+            return invoke(backend, model, call);
+        } catch (ConnectException | HttpConnectTimeoutException e) {
+            // nothing reached the first backend, so trying another cannot duplicate work
+            ChatBackend fallback = acquireOrNull(model, backend);
+            if (fallback == null) {
+                throw e;
+            }
+            LOGGER.warn("message=Chat backend unreachable, failing over; from={}; to={}", backend.getName(), fallback.getName());
+            return invoke(fallback, model, call);
+        }
+    }
+
+    /**
+     * Non-blocking {@link #call}: {@code call} is given the chosen backend's base URL and talks to it itself,
+     * e.g. with WebClient. Backend choice, failover on connection refused, circuit and outstanding accounting
+     * are the same; a cancelled subscription counts as neither success nor failure.
+     */
+    public <T> Flux<T> exchange(String model, Function<String, Flux<T>> call) {
+        return Flux.defer(() -> {
+            ChatBackend backend = acquire(model, null);
+            return invokeReactive(backend, model, call).onErrorResume(ChatBackendRouter::connectionRefused, e -> {
+                ChatBackend fallback = acquireOrNull(model, backend);
+                if (fallback == null) {
+                    return Flux.error(e);
+                }
+                LOGGER.warn("message=Chat backend unreachable, failing over; from={}; to={}", backend.getName(), fallback.getName());
+                return invokeReactive(fallback, model, call);
+            });
+        });
+    }
+
+    /**
+     * Models of every healthy backend, first occurrence of each name wins.
+     */
+    public List<Model> listModels() throws OllamaBaseException, IOException, InterruptedException {
+        Map<String, Model> models = new LinkedHashMap<>();
+        IOException lastFailure = null;
+        boolean anyAnswered = false;
+        for (ChatBackend backend : backends) {
+            if (!backend.isHealthy()) {
+                continue;
+            }
+            try {
+                for (Model model : backend.api().listModels()) {
+                    models.putIfAbsent(model.getName(), model);
+                }
+                anyAnswered = true;
+            } catch (IOException e) {
+                lastFailure = e;
+            } catch (URISyntaxException e) {
+                lastFailure = new IOException(e);
+            }
+        }
+        if (!anyAnswered && lastFailure != null) {
+            throw lastFailure;
+        }
+        if (!anyAnswered) {
+            throw new NoChatBackendException("No healthy chat backend");
+        }
+        return new ArrayList<>(models.values());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startHealthChecks() {
+        taskScheduler.scheduleWithFixedDelay(this::checkHealth, properties.getHealthCheckInterval());
+    }
+
+    public void checkHealth() {
+        for (ChatBackend backend : backends) {
+            boolean wasHealthy = backend.isHealthy();
+            try {
+                backend.up(backend.api().listModels().stream().map(Model::getName).toList());
+                if (!wasHealthy) {
+                    LOGGER.info("message=Chat backend healthy again; backend={}", backend.getName());
+                }
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backend.down();
+                if (wasHealthy) {
+                    LOGGER.warn("message=Chat backend failed health check; backend={}; exception={}", backend.getName(), e.toString());
+                }
+            }
+        }
+    }
+
+    /* one chat.backend.call observation per attempt: a timer per backend and model, and the Ollama span of the request's trace */
+    private <T> T invoke(ChatBackend backend, String model, BackendCall<T> call) throws OllamaBaseException, IOException, InterruptedException {
+        Observation observation = Observation.createNotStarted("chat.backend.call", observationRegistry)
+                .contextualName("ollama " + model)
+                .lowCardinalityKeyValue("backend", backend.getName())
+                .lowCardinalityKeyValue("model", model)
+                .start();
+        backend.outstanding().incrementAndGet();
+        // the span is current while the call runs, so the Ollama client's HTTP request joins it
+        Observation.Scope scope = observation.openScope();
+        try {
+            T result = call.call(backend.api());
+            backend.circuit().onSuccess();
+            outcome(backend, "success");
+            return result;
+        } catch (OllamaBaseException | IOException e) {
+            backend.circuit().onFailure(System.nanoTime());
+            outcome(backend, "failure");
+            observation.error(e);
+            throw e;
+        } catch (InterruptedException | CancellationException e) {
+            backend.circuit().onIgnored();
+            throw e;
+        } catch (RuntimeException e) {
+            backend.circuit().onFailure(System.nanoTime());
+            outcome(backend, "failure");
+            observation.error(e);
+            throw e;
+        } finally {
+            scope.close();
+            backend.outstanding().decrementAndGet();
+            observation.stop();
+        }
+    }
+
+    private <T> Flux<T> invokeReactive(ChatBackend backend, String model, Function<String, Flux<T>> call) {
+        return Flux.defer(() -> {
+            Observation observation = Observation.createNotStarted("chat.backend.call", observationRegistry)
+                    .contextualName("ollama " + model)
+                    .lowCardinalityKeyValue("backend", backend.getName())
+                    .lowCardinalityKeyValue("model", model)
+                    .start();
+            backend.outstanding().incrementAndGet();
+            return call.apply(backend.getUrl())
+                    .doOnComplete(() -> {
+                        backend.circuit().onSuccess();
+                        outcome(backend, "success");
+                    })
+                    .doOnError(e -> {
+                        backend.circuit().onFailure(System.nanoTime());
+                        outcome(backend, "failure");
+                        observation.error(e);
+                    })
+                    .doOnCancel(() -> backend.circuit().onIgnored())
+                    .doFinally(signal -> {
+                        backend.outstanding().decrementAndGet();
+                        observation.stop();
+                    });
+        });
+    }
+
+    /* nothing reached the backend, so trying another cannot duplicate work */
+    private static boolean connectionRefused(Throwable error) {
+        for (Throwable cause = Exceptions.unwrap(error); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ChatBackend acquire(String model, ChatBackend exclude) {
+        ChatBackend backend = acquireOrNull(model, exclude);
+        if (backend == null) {
+            throw new NoChatBackendException("No healthy chat backend serves model " + model);
+        }
+        return backend;
+    }
+
+    /* least outstanding among eligible backends; retried when another caller takes a half-open trial first */
+    private ChatBackend acquireOrNull(String model, ChatBackend exclude) {
+        int size = backends.size();
+        for (int attempt = 0; attempt < size; attempt++) {
+            long now = System.nanoTime();
+            int start = Math.floorMod(rotation.getAndIncrement(), size);
+            ChatBackend best = null;
+            for (int i = 0; i < size; i++) {
+                ChatBackend candidate = backends.get((start + i) % size);
+                if (candidate == exclude || !candidate.isHealthy() || !candidate.serves(model)
+                        || !candidate.circuit().isCallPermitted(now)) {
+                    continue;
+                }
+                if (best == null || candidate.getOutstanding() < best.getOutstanding()) {
+                    best = candidate;
+                }
+            }
+            if (best == null) {
+                return null;
+            }
+            if (best.circuit().tryAcquire(now)) {
+                return best;
+            }
+        }
+        return null;
+    }
+
+    private void outcome(ChatBackend backend, String outcome) {
+        Counter.builder("chat.backend.requests").tag("backend", backend.getName()).tag("outcome", outcome)
+                .register(meterRegistry).increment();
+    }
+}
@@ -0,0 +1,76 @@
+package com.app.playerservicejava.service.chat.backend;
+
+/**
+ * Classic three-state breaker. Closed until {@code failureThreshold} consecutive failures, then open
+ * for {@code openNanos}; after that a single trial call is let through (half-open) and its outcome
+ * closes or re-opens the circuit.
+ */
+final class CircuitBreaker {
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(int failureThreshold, long openNanos) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+    }
+
+    /**
+     * Whether a call could be made now; does not reserve the half-open trial.
+     */
+    synchronized boolean isCallPermitted(long now) {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> now - openedAt >= openNanos;
+            case HALF_OPEN -> !trialInFlight;
+        };
+    }
+
+    /**
+     * Reserves permission for one call; moves an expired open circuit to half-open.
+     */
+    synchronized boolean tryAcquire(long now) {
+        if (state == State.OPEN && now - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && !trialInFlight) {
+            trialInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    synchronized void onFailure(long now) {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = now;
+        }
+    }
+
+    /* a call that ended without saying anything about the backend (e.g. the client went away) */
+    synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
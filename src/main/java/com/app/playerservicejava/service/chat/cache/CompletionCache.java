@@ -0,0 +1,270 @@
+package com.app.playerservicejava.service.chat.cache;
+
+import com.app.playerservicejava.config.ChatCacheProperties;
+import com.app.playerservicejava.model.chat.CachedCompletion;
+import com.app.playerservicejava.service.chat.backend.ChatBackendRouter;
+import com.app.playerservicejava.service.chat.dispatch.ChatDispatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Caches Ollama completions keyed on (model, options, player context, normalized prompt).
+ *
+ * Lookups go memory (Caffeine LRU with TTL), then disk when enabled, then, when the similarity tier is on,
+ * the nearest earlier prompt with the same model, options and context whose embedding is within
+ * {@code chat.cache.semantic.threshold}. Only the similarity tier calls Ollama (for one embedding), and
+ * only after the exact tiers have missed. That call goes through the embedding model's dispatch lane and is
+ * skipped, along with the tier, when the lane has no free slot, so a burst of misses cannot bypass admission
+ * control.
+ */
+@Component
+public class CompletionCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompletionCache.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s?!.]+$");
+
+    @Autowired
+    private ChatCacheProperties properties;
+
+    @Autowired
+    private ChatBackendRouter chatBackendRouter;
+
+    @Autowired
+    private ChatDispatcher chatDispatcher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    private Cache<String, CachedCompletion> memory;
+    private DiskCompletionStore disk;
+    private SemanticCompletionIndex semantic;
+
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+
+    @PostConstruct
+    void init() throws IOException {
+        memory = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "chat.completions");
+        Gauge.builder("chat.cache.hit_ratio", this, CompletionCache::hitRatio).register(meterRegistry);
+        if (properties.getSemantic().isEnabled()) {
+            semantic = new SemanticCompletionIndex(properties.getSemantic().getMaxEntries(), properties.getSemantic().getThreshold());
+        }
+        if (properties.getDisk().isEnabled()) {
+            disk = new DiskCompletionStore(Path.of(properties.getDisk().getPath()), properties.getTtl().toMillis(),
+                    properties.getDisk().getMaxEntries(), objectMapper);
+            int live = disk.sweep(System.currentTimeMillis(), completion -> {
+                if (semantic != null && completion.getEmbedding() != null) {
+                    semantic.add(completion.getScope(), completion.getId(), completion.getEmbedding());
+                }
+            });
+            LOGGER.info("message=Chat cache loaded from disk; path={}; entries={}", properties.getDisk().getPath(), live);
+            Gauge.builder("chat.cache.disk.entries", disk, DiskCompletionStore::size).register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSweeping() {
+        if (disk != null) {
+            taskScheduler.scheduleWithFixedDelay(() -> disk.expire(System.currentTimeMillis()),
+                    properties.getDisk().getSweepInterval());
+        }
+    }
+
+    /**
+     * Looks the request up in every enabled tier. The returned lookup carries the hit, if any, and is
+     * what {@link #store} needs to file the fresh completion after a miss.
+     */
+    public Lookup lookup(String model, Map<String, Object> options, String context, String prompt) {
+        String scope = hash(model, canonical(options), context);
+        Lookup lookup = new Lookup(hash(scope, normalize(prompt)), scope, model, prompt);
+        if (!properties.isEnabled()) {
+            return lookup;
+        }
+        lookups.incrementAndGet();
+
+        CachedCompletion hit = memory.getIfPresent(lookup.id);
+        String tier = "memory";
+        if (hit == null && disk != null) {
+            hit = promote(disk.get(lookup.id, System.currentTimeMillis()));
+            tier = "disk";
+        }
+        if (hit == null && semantic != null) {
+            lookup.embedding = embed(prompt);
+            String nearest = lookup.embedding == null ? null : semantic.nearest(scope, lookup.embedding);
+            hit = nearest == null ? null : find(nearest);
+            tier = "semantic";
+        }
+
+        if (hit == null) {
+            counter("miss").increment();
+            return lookup;
+        }
+        hits.incrementAndGet();
+        counter(tier).increment();
+        Timer.builder("chat.cache.saved").description("Generation time avoided by cache hits")
+                .tag("model", model).register(meterRegistry)
+                .record(hit.getGenerationMillis(), TimeUnit.MILLISECONDS);
+        lookup.hit = hit;
+        return lookup;
+    }
+
+    public void store(Lookup lookup, String response, long generationMillis) {
+        if (!properties.isEnabled() || response == null) {
+            return;
+        }
+        if (semantic != null && lookup.embedding == null) {
+            lookup.embedding = embed(lookup.prompt);
+        }
+        CachedCompletion completion = new CachedCompletion(lookup.id, lookup.scope, lookup.model, lookup.prompt,
+                response, generationMillis, System.currentTimeMillis(), lookup.embedding);
+        memory.put(lookup.id, completion);
+        if (disk != null) {
+            disk.put(completion);
+        }
+        if (semantic != null && lookup.embedding != null) {
+            semantic.add(lookup.scope, lookup.id, lookup.embedding);
+        }
+    }
+
+    public double hitRatio() {
+        long total = lookups.get();
+        return total == 0 ? 0 : (double) hits.get() / total;
+    }
+
+    /**
+     * Case, Unicode form, runs of whitespace and trailing punctuation do not change the key.
+     */
+    static String normalize(String prompt) {
+        String text = Normalizer.normalize(prompt == null ? "" : prompt, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        text = WHITESPACE.matcher(text.trim()).replaceAll(" ");
+        return TRAILING_PUNCTUATION.matcher(text).replaceAll("");
+    }
+
+    private CachedCompletion find(String id) {
+        CachedCompletion completion = memory.getIfPresent(id);
+        if (completion == null && disk != null) {
+            completion = promote(disk.get(id, System.currentTimeMillis()));
+        }
+        return completion;
+    }
+
+    private CachedCompletion promote(CachedCompletion completion) {
+        if (completion != null) {
+            memory.put(completion.getId(), completion);
+        }
+        return completion;
+    }
+
+    /* null when the embedding model is busy or the call fails; the similarity tier is then skipped */
+    private float[] embed(String prompt) {
+        try {
+            String embeddingModel = properties.getSemantic().getModel();
+            List<Double> values = chatDispatcher.runIfIdle(embeddingModel,
+                    () -> chatBackendRouter.call(embeddingModel, api -> api.generateEmbeddings(embeddingModel, prompt)));
+            if (values == null) {
+                return null;
+            }
+            float[] embedding = new float[values.size()];
+            for (int i = 0; i < embedding.length; i++) {
+                embedding[i] = values.get(i).floatValue();
+            }
+            return embedding;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            LOGGER.warn("message=Prompt embedding failed, skipping similarity tier; exception={}", e.toString());
+            return null;
+        }
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("chat.cache.lookups").tag("result", result).register(meterRegistry);
+    }
+
+    /* options in key order, so {"a":1,"b":2} and {"b":2,"a":1} share entries */
+    private static String canonical(Map<String, Object> options) {
+        return options == null ? "{}" : new TreeMap<>(options).toString();
+    }
+
+    private static String hash(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update((part == null ? "" : part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static final class Lookup {
+        private final String id;
+        private final String scope;
+        private final String model;
+        private final String prompt;
+        private float[] embedding;
+        private CachedCompletion hit;
+
+        private Lookup(String id, String scope, String model, String prompt) {
+            this.id = id;
+            this.scope = scope;
+            this.model = model;
+            this.prompt = prompt;
+        }
+
+        /**
+         * Exact-tier key; identical requests share it, which is what the dispatcher coalesces on.
+         */
+        public String getId() {
+            return id;
+        }
+
+        public CachedCompletion getHit() {
+            return hit;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.app.playerservicejava.service.chat.cache;
+
+import com.app.playerservicejava.model.chat.CachedCompletion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Persistent tier of the completion cache: one JSON file per entry, named by the entry id, written
+ * through a temp file and an atomic rename so readers never see half an entry. At most {@code maxEntries}
+ * files are kept: each {@link #put} past the cap deletes the oldest entries. Expired entries are deleted
+ * when read, on startup and by {@link #expire}.
+ */
+class DiskCompletionStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DiskCompletionStore.class);
+
+    private static final String SUFFIX = ".json";
+
+    private final Path directory;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final ObjectMapper objectMapper;
+
+    /* id -> createdAtEpochMillis of every entry on disk, oldest first; guarded by itself */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>();
+
+    DiskCompletionStore(Path directory, long ttlMillis, int maxEntries, ObjectMapper objectMapper) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.objectMapper = objectMapper;
+    }
+
+    CachedCompletion get(String id, long now) {
+        Path file = directory.resolve(id + SUFFIX);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            CachedCompletion completion = objectMapper.readValue(file.toFile(), CachedCompletion.class);
+            if (isExpired(completion.getCreatedAtEpochMillis(), now)) {
+                synchronized (entries) {
+                    entries.remove(id);
+                }
+                Files.deleteIfExists(file);
+                return null;
+            }
+            return completion;
+        } catch (IOException e) {
+            LOGGER.warn("message=Unreadable chat cache entry; file={}; exception={}", file, e.toString());
+            return null;
+        }
+    }
+
+    void put(CachedCompletion completion) {
+        Path file = directory.resolve(completion.getId() + SUFFIX);
+        try {
+            Path temp = Files.createTempFile(directory, completion.getId(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), completion);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("message=Could not persist chat cache entry; file={}; exception={}", file, e.toString());
+            return;
+        }
+        synchronized (entries) {
+            // re-inserted, so a rewritten entry counts as the newest
+            entries.remove(completion.getId());
+            entries.put(completion.getId(), completion.getCreatedAtEpochMillis());
+            Iterator<Map.Entry<String, Long>> oldest = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && oldest.hasNext()) {
+                delete(oldest.next().getKey());
+                oldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Deletes the entries older than the TTL without reading them; returns how many were deleted.
+     */
+    int expire(long now) {
+        int count = 0;
+        synchronized (entries) {
+            Iterator<Map.Entry<String, Long>> oldest = entries.entrySet().iterator();
+            while (oldest.hasNext()) {
+                Map.Entry<String, Long> entry = oldest.next();
+                if (!isExpired(entry.getValue(), now)) {
+                    // entries are in write order, so the rest are younger
+                    break;
+                }
+                delete(entry.getKey());
+                oldest.remove();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Deletes expired entries and the oldest past the cap, and hands every one kept to {@code live};
+     * returns how many were kept. Run once, before the store is used.
+     */
+    int sweep(long now, Consumer<CachedCompletion> live) {
+        List<CachedCompletion> found = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                if (!name.endsWith(SUFFIX)) {
+                    continue;
+                }
+                CachedCompletion completion = get(name.substring(0, name.length() - SUFFIX.length()), now);
+                if (completion != null) {
+                    found.add(completion);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("message=Could not sweep chat cache; directory={}; exception={}", directory, e.toString());
+        }
+        found.sort(Comparator.comparingLong(CachedCompletion::getCreatedAtEpochMillis));
+        int kept = 0;
+        synchronized (entries) {
+            for (int i = 0; i < found.size(); i++) {
+                CachedCompletion completion = found.get(i);
+                if (found.size() - i > maxEntries) {
+                    delete(completion.getId());
+                    continue;
+                }
+                entries.put(completion.getId(), completion.getCreatedAtEpochMillis());
+                live.accept(completion);
+                kept++;
+            }
+        }
+        return kept;
+    }
+
+    private void delete(String id) {
+        Path file = directory.resolve(id + SUFFIX);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("message=Could not delete chat cache entry; file={}; exception={}", file, e.toString());
+        }
+    }
+
+    private boolean isExpired(long createdAtEpochMillis, long now) {
+        return now - createdAtEpochMillis > ttlMillis;
+    }
+}
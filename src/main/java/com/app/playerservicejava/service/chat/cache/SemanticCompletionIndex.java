@@ -0,0 +1,103 @@
+package com.app.playerservicejava.service.chat.cache;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bounded in-memory vector index of prompt embeddings. Vectors are stored unit-length so cosine
+ * similarity is a dot product; a lookup is a linear scan over at most {@code capacity} entries of the
+ * same scope, which for a few thousand entries is well under a millisecond. When full, the oldest
+ * entry is overwritten.
+ */
+class SemanticCompletionIndex {
+    private final int capacity;
+    private final double threshold;
+
+    private final String[] scopes;
+    private final String[] ids;
+    private final float[][] vectors;
+    private int next;
+    private int size;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    SemanticCompletionIndex(int capacity, double threshold) {
+        this.capacity = capacity;
+        this.threshold = threshold;
+        this.scopes = new String[capacity];
+        this.ids = new String[capacity];
+        this.vectors = new float[capacity][];
+    }
+
+    void add(String scope, String id, float[] embedding) {
+        float[] unit = normalize(embedding);
+        if (unit == null || capacity == 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            scopes[next] = scope;
+            ids[next] = id;
+            vectors[next] = unit;
+            next = (next + 1) % capacity;
+            size = Math.min(size + 1, capacity);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Id of the most similar entry in {@code scope} whose cosine similarity reaches the threshold, or null.
+     */
+    String nearest(String scope, float[] embedding) {
+        float[] unit = normalize(embedding);
+        if (unit == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            String best = null;
+            double bestScore = threshold;
+            for (int i = 0; i < size; i++) {
+                if (!scope.equals(scopes[i]) || vectors[i].length != unit.length) {
+                    continue;
+                }
+                double score = dot(vectors[i], unit);
+                if (score >= bestScore) {
+                    bestScore = score;
+                    best = ids[i];
+                }
+            }
+            return best;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static float[] normalize(float[] vector) {
+        if (vector == null || vector.length == 0) {
+            return null;
+        }
+        double norm = Math.sqrt(dot(vector, vector));
+        if (norm == 0) {
+            return null;
+        }
+        float[] unit = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            unit[i] = (float) (vector[i] / norm);
+        }
+        return unit;
+    }
+}
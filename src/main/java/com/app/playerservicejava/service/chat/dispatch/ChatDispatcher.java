@@ -0,0 +1,150 @@
+package com.app.playerservicejava.service.chat.dispatch;
+
+import com.app.playerservicejava.config.ChatDispatchProperties;
+import com.app.playerservicejava.exception.ChatOverloadedException;
+import com.app.playerservicejava.model.chat.ChatPriority;
+import io.github.ollama4j.exceptions.OllamaBaseException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Sits between chat callers and Ollama. Identical prompts already being generated are coalesced onto
+ * the in-flight generation; everything else takes a slot in its model's {@link ModelLane}, waiting in
+ * priority order when the lane is busy and being shed with 429 when the expected wait breaks the SLO.
+ * Callers run the generation on their own thread once admitted, so the dispatcher owns no threads.
+ */
+@Component
+public class ChatDispatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChatDispatcher.class);
+
+    @FunctionalInterface
+    public interface Generation {
+        String generate() throws OllamaBaseException, IOException, InterruptedException;
+    }
+
+    @Autowired
+    private ChatDispatchProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, ModelLane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs {@code generation} under admission control, or joins the identical generation already running
+     * under {@code key}. Throws {@link ChatOverloadedException} when the request is shed.
+     */
+    public String execute(String model, ChatPriority priority, String key, Generation generation)
+            throws OllamaBaseException, IOException, InterruptedException {
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            Counter.builder("chat.dispatch.coalesced").tag("model", model).register(meterRegistry).increment();
+            return join(leader);
+        }
+        try {
+            String response = run(model, priority, generation);
+            mine.complete(response);
+            return response;
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Takes a place in {@code model}'s queue without waiting for it; for streams, which must be admitted
+     * (or shed with 429) before the response starts but generate on another thread.
+     */
+    public ModelLane.Ticket admit(String model, ChatPriority priority) {
+        return lane(model).admit(priority);
+    }
+
+    /**
+     * Runs {@code call} in {@code model}'s lane only if a slot is free right now, and returns null without
+     * running it otherwise. For optional Ollama work, such as the completion cache's prompt embeddings, that must
+     * neither wait behind generations nor add load to a saturated model; skips count as
+     * {@code chat.dispatch.rejected} with reason {@code busy}.
+     */
+    public <T> T runIfIdle(String model, Callable<T> call) throws Exception {
+        ModelLane.Ticket ticket = lane(model).tryAdmit(ChatPriority.BATCH);
+        if (ticket == null) {
+            rejected(meterRegistry, model, "busy");
+            return null;
+        }
+        try {
+            return call.call();
+        } finally {
+            ticket.release();
+        }
+    }
+
+    private String run(String model, ChatPriority priority, Generation generation)
+            throws OllamaBaseException, IOException, InterruptedException {
+        ModelLane.Ticket ticket = admit(model, priority);
+        ticket.await();
+        try {
+            return generation.generate();
+        } finally {
+            ticket.release();
+        }
+    }
+
+    /* lanes live as long as the service; callers pass only models ModelCatalog#checkKnown accepted, which bounds them */
+    private ModelLane lane(String model) {
+        return lanes.computeIfAbsent(model, name -> {
+            ModelLane lane = new ModelLane(name, properties.maxConcurrent(name), properties.getMaxQueueDepth(),
+                    properties.getMaxQueueWait().toNanos(), properties.getInitialServiceTime().toNanos(), meterRegistry);
+            Gauge.builder("chat.dispatch.queue.depth", lane, ModelLane::queued).tag("model", name).register(meterRegistry);
+            Gauge.builder("chat.dispatch.in_flight", lane, ModelLane::running).tag("model", name).register(meterRegistry);
+            LOGGER.info("message=Chat lane created; model={}; maxConcurrent={}", name, lane.maxConcurrent());
+            return lane;
+        });
+    }
+
+    private static String join(CompletableFuture<String> leader) throws OllamaBaseException, IOException, InterruptedException {
+        try {
+            return leader.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof OllamaBaseException ollama) {
+                throw ollama;
+            }
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof InterruptedException) {
+                throw new IOException("Coalesced generation was interrupted", cause);
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    static Timer waitTimer(MeterRegistry meterRegistry, String model, ChatPriority priority) {
+        return Timer.builder("chat.dispatch.queue.wait").tag("model", model).tag("priority", priority.name())
+                .publishPercentileHistogram().register(meterRegistry);
+    }
+
+    static void rejected(MeterRegistry meterRegistry, String model, String reason) {
+        Counter.builder("chat.dispatch.rejected").tag("model", model).tag("reason", reason).register(meterRegistry).increment();
+    }
+}
@@ -0,0 +1,280 @@
+package com.app.playerservicejava.service.chat.dispatch;
+
+import com.app.playerservicejava.exception.ChatOverloadedException;
+import com.app.playerservicejava.model.chat.ChatPriority;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency slots and wait queue for one model. A released slot is handed straight to the head of
+ * the queue (highest priority, then oldest), so a late arrival cannot overtake a waiting request.
+ * Expected wait is estimated from the queue ahead of the caller and a moving average of service time.
+ */
+public final class ModelLane {
+    /* weight of the newest sample in the service-time moving average */
+    private static final double SMOOTHING = 0.2;
+
+    private final String model;
+    private final int maxConcurrent;
+    private final int maxQueueDepth;
+    private final long maxWaitNanos;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Ticket> waiting = new PriorityQueue<>(
+            Comparator.<Ticket>comparingInt(ticket -> ticket.priority.ordinal()).thenComparingLong(ticket -> ticket.sequence));
+    private int running;
+    private long sequence;
+    private double serviceNanos;
+
+    ModelLane(String model, int maxConcurrent, int maxQueueDepth, long maxWaitNanos, long initialServiceNanos,
+              MeterRegistry meterRegistry) {
+        this.model = model;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueueDepth = maxQueueDepth;
+        this.maxWaitNanos = maxWaitNanos;
+        this.serviceNanos = initialServiceNanos;
+        this.meterRegistry = meterRegistry;
+    }
+
+    Ticket admit(ChatPriority priority) {
+        lock.lock();
+        try {
+            Ticket ticket = new Ticket(priority, sequence++, lock.newCondition());
+            if (running < maxConcurrent && waiting.isEmpty()) {
+                running++;
+                ticket.grant();
+                return ticket;
+            }
+            long expectedWait = expectedWaitNanos(priority);
+            if (waiting.size() >= maxQueueDepth) {
+                throw shed("queue_full", expectedWait);
+            }
+            if (expectedWait > maxWaitNanos) {
+                throw shed("slo", expectedWait);
+            }
+            waiting.add(ticket);
+            return ticket;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A ticket already holding a slot if one is free and nobody is waiting, else null; never queues.
+     */
+    Ticket tryAdmit(ChatPriority priority) {
+        lock.lock();
+        try {
+            if (running < maxConcurrent && waiting.isEmpty()) {
+                running++;
+                Ticket ticket = new Ticket(priority, sequence++, lock.newCondition());
+                ticket.grant();
+                return ticket;
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued() {
+        lock.lock();
+        try {
+            return waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int running() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /* requests served before a newcomer of this priority, spread over the slots, times the service time */
+    private long expectedWaitNanos(ChatPriority priority) {
+        long ahead = waiting.stream().filter(ticket -> ticket.priority.ordinal() <= priority.ordinal()).count();
+        long rounds = (ahead + running - maxConcurrent) / maxConcurrent + 1;
+        return (long) (Math.max(rounds, 0) * serviceNanos);
+    }
+
+    private ChatOverloadedException shed(String reason, long expectedWaitNanos) {
+        ChatDispatcher.rejected(meterRegistry, model, reason);
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(expectedWaitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return new ChatOverloadedException("Chat model " + model + " is overloaded, retry later", retryAfter);
+    }
+
+    /* caller holds the lock */
+    private void handOff(Ticket released) {
+        long held = System.nanoTime() - released.grantedAt;
+        serviceNanos = (1 - SMOOTHING) * serviceNanos + SMOOTHING * held;
+        Ticket next = waiting.poll();
+        if (next == null) {
+            running--;
+        } else {
+            next.grant();
+        }
+    }
+
+    /**
+     * A place in the lane: queued, then granted a slot, then released. Whoever admitted it must call
+     * {@link #await()} (or {@link #granted()}) and {@link #release()}, or {@link #abandon()} if it will never run.
+     */
+    public final class Ticket {
+        private final ChatPriority priority;
+        private final long sequence;
+        private final Condition granted;
+        private final long enqueuedAt = System.nanoTime();
+        private long grantedAt;
+        private State state = State.QUEUED;
+        /* set by granted(); completed instead of signalling a waiting thread */
+        private CompletableFuture<Void> onGrant;
+
+        private Ticket(ChatPriority priority, long sequence, Condition granted) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.granted = granted;
+        }
+
+        /**
+         * Blocks until this ticket holds a slot. Sheds it with 429 once it has waited {@code max-queue-wait}.
+         */
+        public void await() throws InterruptedException {
+            lock.lock();
+            try {
+                long remaining = maxWaitNanos - (System.nanoTime() - enqueuedAt);
+                while (state == State.QUEUED) {
+                    if (remaining <= 0) {
+                        waiting.remove(this);
+                        state = State.RELEASED;
+                        throw shed("timeout", expectedWaitNanos(priority));
+                    }
+                    try {
+                        remaining = granted.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        abandonLocked();
+                        throw e;
+                    }
+                }
+                if (state == State.RELEASED) {
+                    throw new CancellationException("Chat request was abandoned while queued");
+                }
+                state = State.RUNNING;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Non-blocking {@link #await()}: completes once this ticket holds a slot, or fails with 429 after
+         * {@code max-queue-wait}. It may complete on the releasing thread while the lane is locked, so dependents
+         * must not block. Cancelling the future gives the place up.
+         */
+        public CompletableFuture<Void> granted() {
+            lock.lock();
+            try {
+                if (state == State.GRANTED) {
+                    state = State.RUNNING;
+                    return CompletableFuture.completedFuture(null);
+                }
+                if (state != State.QUEUED) {
+                    return CompletableFuture.failedFuture(new CancellationException("Chat request was abandoned while queued"));
+                }
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                onGrant = future;
+                long remaining = maxWaitNanos - (System.nanoTime() - enqueuedAt);
+                // expire() is short, so it runs on the JDK's delay thread itself
+                CompletableFuture.delayedExecutor(Math.max(remaining, 0), TimeUnit.NANOSECONDS, Runnable::run).execute(this::expire);
+                future.whenComplete((ignored, error) -> {
+                    if (future.isCancelled()) {
+                        abandon();
+                    }
+                });
+                return future;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public void release() {
+            lock.lock();
+            try {
+                if (state == State.GRANTED || state == State.RUNNING) {
+                    state = State.RELEASED;
+                    handOff(this);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Gives the place up if the request will not run (client gone before its turn); a running ticket
+         * is left for its owner to release.
+         */
+        public void abandon() {
+            lock.lock();
+            try {
+                abandonLocked();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void abandonLocked() {
+            if (state == State.QUEUED) {
+                waiting.remove(this);
+                state = State.RELEASED;
+            } else if (state == State.GRANTED) {
+                state = State.RELEASED;
+                handOff(this);
+            }
+        }
+
+        private void expire() {
+            lock.lock();
+            try {
+                if (state == State.QUEUED) {
+                    waiting.remove(this);
+                    state = State.RELEASED;
+                    onGrant.completeExceptionally(shed("timeout", expectedWaitNanos(priority)));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /* caller holds the lock */
+        private void grant() {
+            state = State.GRANTED;
+            grantedAt = System.nanoTime();
+            ChatDispatcher.waitTimer(meterRegistry, model, priority).record(grantedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+            if (onGrant != null) {
+                state = State.RUNNING;
+                onGrant.complete(null);
+            } else {
+                granted.signal();
+            }
+        }
+    }
+
+    private enum State {
+        QUEUED, GRANTED, RUNNING, RELEASED
+    }
+}
@@ -0,0 +1,162 @@
+package com.app.playerservicejava.service.ingest;
+
+import com.app.playerservicejava.exception.IngestException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The parsed form of a run of complete CSV lines: field boundaries as offsets into the (memory-mapped)
+ * source buffer. Nothing is copied while parsing; a field is only decoded when {@link #field} is called.
+ *
+ * Supports RFC 4180 quoting ({@code "a,b"}, {@code ""} escapes) except for line breaks inside quotes.
+ * Blank lines are skipped; empty fields decode to null.
+ */
+final class CsvChunk {
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final ByteBuffer buffer;
+    private final int columns;
+    private int rows;
+    /* per field: start offset, end offset (exclusive), and whether it was quoted */
+    private int[] starts;
+    private int[] ends;
+    private boolean[] quoted;
+
+    private CsvChunk(ByteBuffer buffer, int columns, int expectedRows) {
+        this.buffer = buffer;
+        this.columns = columns;
+        int capacity = Math.max(1, expectedRows) * columns;
+        this.starts = new int[capacity];
+        this.ends = new int[capacity];
+        this.quoted = new boolean[capacity];
+    }
+
+    /**
+     * @param buffer     the chunk, starting at a line start and ending after a line break (or at end of input)
+     * @param baseOffset offset of the chunk in the file, for error messages
+     */
+    static CsvChunk parse(ByteBuffer buffer, int columns, long baseOffset) {
+        CsvChunk chunk = new CsvChunk(buffer, columns, buffer.limit() / 96);
+        int position = 0;
+        int limit = buffer.limit();
+        while (position < limit) {
+            position = chunk.parseLine(position, limit, baseOffset);
+        }
+        return chunk;
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    String field(int row, int column) {
+        int index = row * columns + column;
+        int start = starts[index];
+        int length = ends[index] - start;
+        if (length == 0 && !quoted[index]) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(start, bytes, 0, length);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        return quoted[index] ? value.replace("\"\"", "\"") : value;
+    }
+
+    private int parseLine(int position, int limit, long baseOffset) {
+        int lineStart = position;
+        byte first = buffer.get(position);
+        if (first == LF || first == CR) {
+            return skipLineBreak(position, limit);
+        }
+        ensureCapacity();
+        int base = rows * columns;
+        int column = 0;
+        while (true) {
+            if (column == columns) {
+                throw malformed(baseOffset + lineStart, "more than " + columns + " fields");
+            }
+            int index = base + column;
+            int end;
+            if (position < limit && buffer.get(position) == QUOTE) {
+                int start = position + 1;
+                position = start;
+                while (true) {
+                    if (position >= limit || buffer.get(position) == LF) {
+                        throw malformed(baseOffset + lineStart, "unterminated quoted field");
+                    }
+                    if (buffer.get(position) == QUOTE) {
+                        if (position + 1 < limit && buffer.get(position + 1) == QUOTE) {
+                            position += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    position++;
+                }
+                end = position;
+                position++;
+                starts[index] = start;
+                ends[index] = end;
+                quoted[index] = true;
+            } else {
+                int start = position;
+                while (position < limit) {
+                    byte b = buffer.get(position);
+                    if (b == COMMA || b == LF || b == CR) {
+                        break;
+                    }
+                    position++;
+                }
+                starts[index] = start;
+                ends[index] = position;
+                quoted[index] = false;
+            }
+            column++;
+            if (position >= limit) {
+                break;
+            }
+            byte next = buffer.get(position);
+            if (next == CR || next == LF) {
+                break;
+            }
+            if (next != COMMA) {
+                throw malformed(baseOffset + lineStart, "unexpected character after quoted field");
+            }
+            position++;
+        }
+        if (column != columns) {
+            throw malformed(baseOffset + lineStart, "expected " + columns + " fields, found " + column);
+        }
+        rows++;
+        return skipLineBreak(position, limit);
+    }
+
+    private int skipLineBreak(int position, int limit) {
+        if (position < limit && buffer.get(position) == CR) {
+            position++;
+        }
+        if (position < limit && buffer.get(position) == LF) {
+            position++;
+        }
+        return position;
+    }
+
+    private void ensureCapacity() {
+        int needed = (rows + 1) * columns;
+        if (needed > starts.length) {
+            int capacity = Math.max(needed, starts.length * 2);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            quoted = Arrays.copyOf(quoted, capacity);
+        }
+    }
+
+    private static IngestException malformed(long offset, String reason) {
+        return new IngestException("Malformed CSV line at byte " + offset + ": " + reason);
+    }
+}
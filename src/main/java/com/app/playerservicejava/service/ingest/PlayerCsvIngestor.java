@@ -0,0 +1,290 @@
+package com.app.playerservicejava.service.ingest;
+
+import com.app.playerservicejava.config.CacheConfiguration;
+import com.app.playerservicejava.exception.IngestException;
+import com.app.playerservicejava.exception.IngestInProgressException;
+import com.app.playerservicejava.model.IngestReport;
+import com.app.playerservicejava.model.PlayerVersions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Loads Player.csv-shaped files into PLAYERS.
+ *
+ * The file is memory-mapped and cut into chunks at line boundaries; chunks are parsed in parallel
+ * (at most {@code 2 x parallelism} ahead of the writer, which bounds memory) and written in file
+ * order through batched JDBC inserts on a single connection. The old rows are deleted in the same
+ * transaction, so readers keep seeing the previous data set until the reload commits. Reloaded rows all
+ * get one new version from {@link PlayerVersions}, so an If-Match issued before the reload no longer matches.
+ */
+@Service
+public class PlayerCsvIngestor implements SmartInitializingSingleton {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerCsvIngestor.class);
+
+    static final Set<String> COLUMNS = Set.of(
+            "PLAYERID", "BIRTHYEAR", "BIRTHMONTH", "BIRTHDAY", "BIRTHCOUNTRY", "BIRTHSTATE", "BIRTHCITY",
+            "DEATHYEAR", "DEATHMONTH", "DEATHDAY", "DEATHCOUNTRY", "DEATHSTATE", "DEATHCITY",
+            "NAMEFIRST", "NAMELAST", "NAMEGIVEN", "WEIGHT", "HEIGHT", "BATS", "THROWS",
+            "DEBUT", "FINALGAME", "RETROID", "BBREFID");
+
+    /* typed columns (see db/migration); everything else is bound as VARCHAR */
+    static final Map<String, Integer> COLUMN_TYPES = Map.of(
+            "BIRTHYEAR", Types.SMALLINT, "BIRTHMONTH", Types.SMALLINT, "BIRTHDAY", Types.SMALLINT,
+            "DEATHYEAR", Types.SMALLINT, "DEATHMONTH", Types.SMALLINT, "DEATHDAY", Types.SMALLINT,
+            "WEIGHT", Types.SMALLINT, "HEIGHT", Types.SMALLINT,
+            "DEBUT", Types.DATE, "FINALGAME", Types.DATE);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${players.ingest.path:Player.csv}")
+    private String defaultPath;
+
+    @Value("${players.ingest.load-on-startup:true}")
+    private boolean loadOnStartup;
+
+    @Value("${players.ingest.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${players.ingest.chunk-bytes:4194304}")
+    private int chunkBytes;
+
+    @Value("${players.ingest.parallelism:0}")
+    private int parallelism;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /* runs before the web server starts, so no request ever sees an empty table */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (loadOnStartup) {
+            ingest(Path.of(defaultPath));
+        }
+    }
+
+    /**
+     * Replaces PLAYERS with the configured file and notifies in-memory views.
+     */
+    public IngestReport reload() {
+        return reload(Path.of(defaultPath));
+    }
+
+    public IngestReport reload(Path file) {
+        IngestReport report = ingest(file);
+        Cache players = cacheManager.getCache(CacheConfiguration.PLAYERS_CACHE);
+        if (players != null) {
+            players.clear();
+        }
+        eventPublisher.publishEvent(new PlayersReloadedEvent(report));
+        return report;
+    }
+
+    IngestReport ingest(Path file) {
+        if (!lock.tryLock()) {
+            throw new IngestInProgressException("A player reload is already running");
+        }
+        long start = System.nanoTime();
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        ExecutorService parsers = Executors.newFixedThreadPool(threads);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IngestException("CSV files larger than 2 GB are not supported: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int headerEnd = lineEnd(buffer, 0);
+            List<String> columns = header(buffer, headerEnd);
+            long rows = write(columns, buffer, nextLine(buffer, headerEnd), threads * 2, parsers);
+            IngestReport report = new IngestReport(file.toString(), rows, (System.nanoTime() - start) / 1_000_000);
+            LOGGER.info("message=Players ingested; source={}; rows={}; millis={}; rowsPerSecond={}",
+                    report.getSource(), report.getRows(), report.getMillis(), report.getRowsPerSecond());
+            return report;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            parsers.shutdownNow();
+            lock.unlock();
+        }
+    }
+
+    private long write(List<String> columns, MappedByteBuffer buffer, int position, int window, ExecutorService parsers) {
+        Deque<CompletableFuture<CsvChunk>> pending = new ArrayDeque<>();
+        int next = position;
+        long rows = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            int[] types = columns.stream().mapToInt(column -> COLUMN_TYPES.getOrDefault(column, Types.VARCHAR)).toArray();
+            try (Statement delete = connection.createStatement();
+                 PreparedStatement insert = connection.prepareStatement(insertSql(columns))) {
+                long version = PlayerVersions.next();
+                delete.executeUpdate("DELETE FROM PLAYERS");
+                int batched = 0;
+                while (next < buffer.limit() || !pending.isEmpty()) {
+                    while (next < buffer.limit() && pending.size() < window) {
+                        int from = next;
+                        int to = chunkEnd(buffer, from);
+                        pending.add(CompletableFuture.supplyAsync(
+                                () -> CsvChunk.parse(buffer.slice(from, to - from), columns.size(), from), parsers));
+                        next = to;
+                    }
+                    CsvChunk chunk = join(pending.poll());
+                    for (int row = 0; row < chunk.rows(); row++) {
+                        for (int column = 0; column < columns.size(); column++) {
+                            bind(insert, column + 1, types[column], columns.get(column), chunk.field(row, column));
+                        }
+                        insert.setLong(columns.size() + 1, version);
+                        insert.addBatch();
+                        if (++batched == batchSize) {
+                            insert.executeBatch();
+                            batched = 0;
+                        }
+                    }
+                    rows += chunk.rows();
+                }
+                if (batched > 0) {
+                    insert.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Player ingest failed", e);
+        }
+        return rows;
+    }
+
+    private static CsvChunk join(CompletableFuture<CsvChunk> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static List<String> header(MappedByteBuffer buffer, int end) {
+        byte[] bytes = new byte[end];
+        buffer.get(0, bytes, 0, end);
+        List<String> columns = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String name : new String(bytes, StandardCharsets.UTF_8).split(",", -1)) {
+            String column = name.trim().replace("\"", "").toUpperCase(Locale.ROOT);
+            if (!COLUMNS.contains(column) || !seen.add(column)) {
+                throw new IngestException("Unknown or duplicate CSV column: " + name);
+            }
+            columns.add(column);
+        }
+        if (!seen.contains("PLAYERID")) {
+            throw new IngestException("CSV header has no playerID column");
+        }
+        return columns;
+    }
+
+    /* blank numbers and dates are unknown (NULL); anything else unparseable fails the whole reload */
+    private static void bind(PreparedStatement insert, int index, int type, String column, String value) throws SQLException {
+        if (type == Types.VARCHAR) {
+            insert.setString(index, value);
+            return;
+        }
+        if (value == null || value.isBlank()) {
+            insert.setNull(index, type);
+            return;
+        }
+        try {
+            if (type == Types.DATE) {
+                insert.setObject(index, LocalDate.parse(value.trim()));
+            } else {
+                insert.setShort(index, Short.parseShort(value.trim()));
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IngestException("Invalid " + column + " value: " + value);
+        }
+    }
+
+    private static String insertSql(List<String> columns) {
+        return "INSERT INTO PLAYERS (" + String.join(", ", columns) + ", VERSION) VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size() + 1, "?")) + ")";
+    }
+
+    /* end of the line starting at position, excluding the line break */
+    private static int lineEnd(MappedByteBuffer buffer, int position) {
+        while (position < buffer.limit() && buffer.get(position) != '\n' && buffer.get(position) != '\r') {
+            position++;
+        }
+        return position;
+    }
+
+    private static int nextLine(MappedByteBuffer buffer, int lineEnd) {
+        int position = lineEnd;
+        if (position < buffer.limit() && buffer.get(position) == '\r') {
+            position++;
+        }
+        if (position < buffer.limit() && buffer.get(position) == '\n') {
+            position++;
+        }
+        return position;
+    }
+
+    /* roughly chunkBytes past from, extended to the next line start */
+    private int chunkEnd(MappedByteBuffer buffer, int from) {
+        long target = (long) from + chunkBytes;
+        if (target >= buffer.limit()) {
+            return buffer.limit();
+        }
+        int position = (int) target;
+        while (position < buffer.limit() && buffer.get(position) != '\n') {
+            position++;
+        }
+        return Math.min(position + 1, buffer.limit());
+    }
+}
@@ -0,0 +1,18 @@
+package com.app.playerservicejava.service.ingest;
+
+import com.app.playerservicejava.model.IngestReport;
+
+/**
+ * Published after the PLAYERS table has been replaced wholesale, so in-memory views of it can rebuild.
+ */
+public class PlayersReloadedEvent {
+    private final IngestReport report;
+
+    public PlayersReloadedEvent(IngestReport report) {
+        this.report = report;
+    }
+
+    public IngestReport getReport() {
+        return report;
+    }
+}
@@ -0,0 +1,90 @@
+package com.app.playerservicejava.service.overlay;
+
+import com.app.playerservicejava.model.Player;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Copy-on-write state of an in-memory view of PLAYERS: a base built from the table (a snapshot, an index) plus
+ * what the view keeps of each player written since, or an empty Optional for a player deleted since, keyed by
+ * player id. Every write publishes a new immutable state; once more than {@code maxPending} players are pending,
+ * the writer folds them into a new base and publishes that instead. Readers take {@link #state()} and never lock
+ * or wait.
+ *
+ * @param <B> the base
+ * @param <V> what the view keeps of a written player
+ * @param <S> the state readers see, made from the base and the pending values
+ */
+public final class WriteOverlay<B, V, S> {
+
+    private final BiFunction<B, Player, V> value;
+    private final BiFunction<B, Map<String, Optional<V>>, S> state;
+    private final BiFunction<B, Map<String, Optional<V>>, B> compact;
+
+    /* serializes writers and builds; readers only read the volatile published state */
+    private final Object writeLock = new Object();
+    private B base;
+    private Map<String, Optional<V>> pending = Map.of();
+    private volatile S published;
+
+    /**
+     * @param value   what to keep of a written player, given the base it is layered on
+     * @param state   the state for a base and its pending values
+     * @param compact a new base holding the old one's players that are not pending, then the pending ones
+     */
+    public WriteOverlay(BiFunction<B, Player, V> value,
+                        BiFunction<B, Map<String, Optional<V>>, S> state,
+                        BiFunction<B, Map<String, Optional<V>>, B> compact) {
+        this.value = value;
+        this.state = state;
+        this.compact = compact;
+    }
+
+    /**
+     * The current state, or null until the first {@link #reset}.
+     */
+    public S state() {
+        return published;
+    }
+
+    /**
+     * Builds a new base while writers wait, and publishes it with nothing pending.
+     */
+    public S reset(Supplier<B> build) {
+        synchronized (writeLock) {
+            base = build.get();
+            pending = Map.of();
+            published = state.apply(base, pending);
+            return published;
+        }
+    }
+
+    public void apply(Collection<Player> written, Collection<String> deleted, int maxPending) {
+        synchronized (writeLock) {
+            if (published == null) {
+                // the build that is still to come reads these writes from PLAYERS
+                return;
+            }
+            Map<String, Optional<V>> next = new HashMap<>(pending);
+            for (Player player : written) {
+                if (player != null && player.getPlayerId() != null) {
+                    next.put(player.getPlayerId(), Optional.of(value.apply(base, player)));
+                }
+            }
+            for (String playerId : deleted) {
+                next.put(playerId, Optional.empty());
+            }
+            if (next.size() > maxPending) {
+                base = compact.apply(base, next);
+                next = Map.of();
+            }
+            pending = next;
+            published = state.apply(base, pending);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.app.playerservicejava.service.search;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.PlayersWrittenEvent;
+import com.app.playerservicejava.service.ingest.PlayersReloadedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process trigram index over player names, so substring search does not scan PLAYERS.
+ *
+ * Every player gets a dense int doc id; each field keeps a posting list of doc ids per lower-cased
+ * trigram. A query intersects the postings of its trigrams and then verifies candidates against the
+ * current value. A rename takes the doc out of the old value's postings, and a removed player's doc
+ * leaves its postings and is handed to the next new player, so neither grows with churn. Fragments
+ * shorter than a trigram are answered by scanning the value array.
+ */
+@Component
+public class PlayerNameIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerNameIndex.class);
+
+    private static final int GRAM = 3;
+
+    public enum Field {
+        LAST_NAME, FIRST_NAME, GIVEN_NAME;
+
+        String valueOf(Player player) {
+            switch (this) {
+                case FIRST_NAME: return player.getFirstName();
+                case GIVEN_NAME: return player.getGivenName();
+                default: return player.getLastName();
+            }
+        }
+    }
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Value("${players.search.index.enabled:true}")
+    private boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> docsById = new HashMap<>();
+    private final List<String> playerIds = new ArrayList<>();
+    private final Map<Field, List<String>> values = new EnumMap<>(Field.class);
+    private final Map<Field, Map<Long, Postings>> postings = new EnumMap<>(Field.class);
+    /* docs of removed players, reused before the arrays grow */
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    private int live;
+    private volatile boolean ready;
+
+    public PlayerNameIndex() {
+        for (Field field : Field.values()) {
+            values.put(field, new ArrayList<>());
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    @EventListener({ ApplicationReadyEvent.class, PlayersReloadedEvent.class })
+    @Transactional(readOnly = true)
+    public void build() {
+        if (!enabled) {
+            LOGGER.info("message=Player name index disabled");
+            return;
+        }
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            clear();
+            try (Stream<Player> players = playerRepository.streamAll()) {
+                players.forEach(this::putLocked);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        LOGGER.info("message=Player name index built; players={}; millis={}", live, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * False until the startup build has finished (or when disabled); callers should fall back to the repository.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener
+    public void apply(PlayersWrittenEvent event) {
+        event.getWritten().forEach(this::put);
+        event.getDeleted().forEach(this::remove);
+    }
+
+    public void put(Player player) {
+        if (!enabled || player == null || player.getPlayerId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                putLocked(player);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String playerId) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer doc = ready ? docsById.remove(playerId) : null;
+            if (doc == null) {
+                return;
+            }
+            for (Field field : Field.values()) {
+                unindex(field, doc);
+            }
+            playerIds.set(doc, null);
+            freeDocs.push(doc);
+            live--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Player ids whose field contains {@code fragment} (case-insensitive), in index order.
+     */
+    public List<String> search(Field field, String fragment) {
+        String needle = fragment.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            List<String> fieldValues = values.get(field);
+            List<String> matches = new ArrayList<>();
+            if (needle.length() < GRAM) {
+                for (int doc = 0; doc < fieldValues.size(); doc++) {
+                    String value = fieldValues.get(doc);
+                    if (value != null && value.contains(needle)) {
+                        matches.add(playerIds.get(doc));
+                    }
+                }
+                return matches;
+            }
+            int[] candidates = candidates(postings.get(field), needle);
+            for (int doc : candidates) {
+                String value = fieldValues.get(doc);
+                if (value != null && value.contains(needle)) {
+                    matches.add(playerIds.get(doc));
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Player ids whose field equals {@code value} (case-insensitive), in index order.
+     */
+    public List<String> findExact(Field field, String value) {
+        String needle = value.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            List<String> fieldValues = values.get(field);
+            List<String> matches = new ArrayList<>();
+            if (needle.length() < GRAM) {
+                for (int doc = 0; doc < fieldValues.size(); doc++) {
+                    if (needle.equals(fieldValues.get(doc))) {
+                        matches.add(playerIds.get(doc));
+                    }
+                }
+                return matches;
+            }
+            for (int doc : candidates(postings.get(field), needle)) {
+                if (needle.equals(fieldValues.get(doc))) {
+                    matches.add(playerIds.get(doc));
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return live;
+    }
+
+    private int[] candidates(Map<Long, Postings> fieldPostings, String needle) {
+        Postings[] lists = new Postings[needle.length() - GRAM + 1];
+        for (int i = 0; i < lists.length; i++) {
+            Postings list = fieldPostings.get(gram(needle, i));
+            if (list == null) {
+                return new int[0];
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        int[] result = Arrays.copyOf(lists[0].docs, lists[0].size);
+        int length = result.length;
+        for (int i = 1; i < lists.length && length > 0; i++) {
+            length = intersect(result, length, lists[i]);
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    /* in-place merge intersection of a sorted prefix of {@code result} with a sorted posting list */
+    private static int intersect(int[] result, int length, Postings other) {
+        int out = 0;
+        int j = 0;
+        for (int i = 0; i < length && j < other.size; i++) {
+            int doc = result[i];
+            while (j < other.size && other.docs[j] < doc) {
+                j++;
+            }
+            if (j < other.size && other.docs[j] == doc) {
+                result[out++] = doc;
+            }
+        }
+        return out;
+    }
+
+    private void putLocked(Player player) {
+        Integer doc = docsById.get(player.getPlayerId());
+        if (doc == null) {
+            doc = freeDocs.isEmpty() ? newDoc() : freeDocs.pop();
+            docsById.put(player.getPlayerId(), doc);
+            playerIds.set(doc, player.getPlayerId());
+            live++;
+        }
+        for (Field field : Field.values()) {
+            String value = field.valueOf(player);
+            String lower = value == null ? null : value.toLowerCase(Locale.ROOT);
+            if (lower != null && lower.equals(values.get(field).get(doc))) {
+                continue;
+            }
+            unindex(field, doc);
+            values.get(field).set(doc, lower);
+            if (lower == null) {
+                continue;
+            }
+            Map<Long, Postings> fieldPostings = postings.get(field);
+            for (int i = 0; i + GRAM <= lower.length(); i++) {
+                fieldPostings.computeIfAbsent(gram(lower, i), key -> new Postings()).add(doc);
+            }
+        }
+    }
+
+    private int newDoc() {
+        playerIds.add(null);
+        for (Field field : Field.values()) {
+            values.get(field).add(null);
+        }
+        return playerIds.size() - 1;
+    }
+
+    /* takes the doc out of the postings of its current value and clears the value */
+    private void unindex(Field field, int doc) {
+        String old = values.get(field).set(doc, null);
+        if (old == null) {
+            return;
+        }
+        Map<Long, Postings> fieldPostings = postings.get(field);
+        for (int i = 0; i + GRAM <= old.length(); i++) {
+            Postings list = fieldPostings.get(gram(old, i));
+            if (list != null && list.remove(doc) && list.size == 0) {
+                fieldPostings.remove(gram(old, i));
+            }
+        }
+    }
+
+    private void clear() {
+        ready = false;
+        docsById.clear();
+        playerIds.clear();
+        freeDocs.clear();
+        for (Field field : Field.values()) {
+            values.get(field).clear();
+            postings.get(field).clear();
+        }
+        live = 0;
+    }
+
+    static long gram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    /**
+     * Sorted, duplicate-free, growable int array of doc ids.
+     */
+    static final class Postings {
+        int[] docs = new int[4];
+        int size;
+
+        void add(int doc) {
+            int at = size == 0 || docs[size - 1] < doc ? size : Arrays.binarySearch(docs, 0, size, doc);
+            if (at >= 0 && at < size) {
+                return;
+            }
+            int insert = at < 0 ? -at - 1 : at;
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            System.arraycopy(docs, insert, docs, insert + 1, size - insert);
+            docs[insert] = doc;
+            size++;
+        }
+
+        /* false when the doc was not listed, as for a value with a repeated trigram */
+        boolean remove(int doc) {
+            int at = Arrays.binarySearch(docs, 0, size, doc);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(docs, at + 1, docs, at, size - at - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.app.playerservicejava.service.snapshot;
+
+import com.app.playerservicejava.model.Player;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Immutable copy of PLAYERS in one direct (off-heap) buffer.
+ *
+ * Layout: a row table of {@link #FIELD_COUNT} int offsets per player (-1 for null) into a string pool
+ * of length-prefixed UTF-8 values, each distinct value stored once; then, per {@link Key}, a
+ * hash-and-displace perfect hash: one displacement seed per bucket and one row number per slot. A lookup
+ * hashes the key's chars twice, reads two ints and compares the pooled bytes against the key, without
+ * allocating. Only {@link #player(int)} allocates, for the returned entity and its strings.
+ */
+public final class PlayerSnapshot {
+
+    public enum Key {
+        PLAYER_ID(0), RETRO_ID(22), BBREF_ID(23);
+
+        private final int field;
+
+        Key(int field) {
+            this.field = field;
+        }
+
+        public int field() {
+            return field;
+        }
+    }
+
+    private static final List<Function<Player, String>> GETTERS = List.of(
+            Player::getPlayerId, Player::getBirthYear, Player::getBirthMonth, Player::getBirthDay,
+            Player::getBirthCountry, Player::getBirthState, Player::getBirthCity,
+            Player::getDeathYear, Player::getDeathMonth, Player::getDeathDay,
+            Player::getDeathCountry, Player::getDeathState, Player::getDeathCity,
+            Player::getFirstName, Player::getLastName, Player::getGivenName,
+            Player::getWeight, Player::getHeight, Player::getBats, Player::getThrowStats,
+            Player::getDebut, Player::getFinalGame, Player::getRetroId, Player::getBbrefId,
+            player -> Long.toString(player.getVersion()));
+
+    private static final List<BiConsumer<Player, String>> SETTERS = List.of(
+            Player::setPlayerId, Player::setBirthYear, Player::setBirthMonth, Player::setBirthDay,
+            Player::setBirthCountry, Player::setBirthState, Player::setBirthCity,
+            Player::setDeathYear, Player::setDeathMonth, Player::setDeathDay,
+            Player::setDeathCountry, Player::setDeathState, Player::setDeathCity,
+            Player::setFirstName, Player::setLastName, Player::setGivenName,
+            Player::setWeight, Player::setHeight, Player::setBats, Player::setThrowStats,
+            Player::setDebut, Player::setFinalGame, Player::setRetroId, Player::setBbrefId,
+            (player, version) -> player.setVersion(Long.parseLong(version)));
+
+    public static final int FIELD_COUNT = GETTERS.size();
+    private static final int ROW_BYTES = FIELD_COUNT * Integer.BYTES;
+    /* keys per perfect-hash bucket, and slots per key (load factor 0.8) */
+    private static final int BUCKET_KEYS = 4;
+    private static final double LOAD = 0.8;
+    private static final int MAX_SEED = 1 << 20;
+
+    private final ByteBuffer buffer;
+    private final int rows;
+    private final int poolStart;
+    /* per key: byte position of the seeds, bucket count, byte position of the slots, slot count */
+    private final int[] seedsAt = new int[Key.values().length];
+    private final int[] buckets = new int[Key.values().length];
+    private final int[] slotsAt = new int[Key.values().length];
+    private final int[] slots = new int[Key.values().length];
+
+    private PlayerSnapshot(ByteBuffer buffer, int rows, int poolStart) {
+        this.buffer = buffer;
+        this.rows = rows;
+        this.poolStart = poolStart;
+    }
+
+    public static PlayerSnapshot empty() {
+        return new Builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return rows;
+    }
+
+    /**
+     * Off-heap bytes held by this snapshot.
+     */
+    public long bytes() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Row of the player whose {@code key} field equals {@code value}, or -1.
+     */
+    public int find(Key key, String value) {
+        if (value == null || rows == 0) {
+            return -1;
+        }
+        int k = key.ordinal();
+        int bucket = Math.floorMod(hash(value, 0), buckets[k]);
+        int seed = buffer.getInt(seedsAt[k] + bucket * Integer.BYTES);
+        if (seed == 0) {
+            return -1;
+        }
+        int row = buffer.getInt(slotsAt[k] + Math.floorMod(hash(value, seed), slots[k]) * Integer.BYTES);
+        return row >= 0 && matches(offset(row, key.field()), value) ? row : -1;
+    }
+
+    public String get(int row, int field) {
+        int offset = offset(row, field);
+        if (offset < 0) {
+            return null;
+        }
+        int length = Short.toUnsignedInt(buffer.getShort(poolStart + offset));
+        byte[] bytes = new byte[length];
+        buffer.get(poolStart + offset + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public Player player(int row) {
+        Player player = new Player();
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            SETTERS.get(field).accept(player, get(row, field));
+        }
+        return player;
+    }
+
+    static String field(Player player, int field) {
+        return GETTERS.get(field).apply(player);
+    }
+
+    /**
+     * A detached copy of every field, so later changes to {@code player} do not leak into readers.
+     */
+    static Player copy(Player player) {
+        Player copy = new Player();
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            SETTERS.get(field).accept(copy, GETTERS.get(field).apply(player));
+        }
+        return copy;
+    }
+
+    private int offset(int row, int field) {
+        return buffer.getInt(row * ROW_BYTES + field * Integer.BYTES);
+    }
+
+    private boolean matches(int offset, String value) {
+        if (offset < 0) {
+            return false;
+        }
+        int length = Short.toUnsignedInt(buffer.getShort(poolStart + offset));
+        int at = poolStart + offset + Short.BYTES;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                // ids are ASCII; anything else is compared encoded
+                return matches(at, length, value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        if (length != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(at + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(int at, int length, byte[] encoded) {
+        if (encoded.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(at + i) != encoded[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* FNV-1a over the chars, seeded, with a murmur3 finalizer so nearby seeds give unrelated slots */
+    static int hash(String value, int seed) {
+        int h = 0x811C9DC5 ^ (seed * 0x9E3779B9);
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Collects players row by row (the entities can be let go as soon as they are added) and lays them out
+     * in one buffer on {@link #build()}. A key value repeated across players resolves to the first of them.
+     */
+    public static final class Builder {
+        private final Map<String, Integer> pool = new HashMap<>();
+        private final List<byte[]> poolValues = new ArrayList<>();
+        private int poolBytes;
+        private int[] offsets = new int[64 * FIELD_COUNT];
+        private int rows;
+
+        private Builder() {
+        }
+
+        public Builder add(Player player) {
+            if (offsets.length < (rows + 1) * FIELD_COUNT) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                offsets[rows * FIELD_COUNT + field] = intern(field(player, field));
+            }
+            rows++;
+            return this;
+        }
+
+        private int intern(String value) {
+            if (value == null) {
+                return -1;
+            }
+            Integer known = pool.get(value);
+            if (known != null) {
+                return known;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > 0xFFFF) {
+                throw new IllegalArgumentException("Player field longer than 65535 bytes");
+            }
+            int offset = poolBytes;
+            pool.put(value, offset);
+            poolValues.add(bytes);
+            poolBytes += Short.BYTES + bytes.length;
+            return offset;
+        }
+
+        public PlayerSnapshot build() {
+            Map<Integer, String> byOffset = new HashMap<>(pool.size() * 2);
+            pool.forEach((value, offset) -> byOffset.put(offset, value));
+
+            Key[] keys = Key.values();
+            int[][] seeds = new int[keys.length][];
+            int[][] slotRows = new int[keys.length][];
+            int indexBytes = 0;
+            for (Key key : keys) {
+                List<String> ids = new ArrayList<>(rows);
+                List<Integer> idRows = new ArrayList<>(rows);
+                Map<String, Boolean> seen = new HashMap<>(rows * 2);
+                for (int row = 0; row < rows; row++) {
+                    int offset = offsets[row * FIELD_COUNT + key.field()];
+                    String id = offset < 0 ? null : byOffset.get(offset);
+                    if (id != null && seen.putIfAbsent(id, Boolean.TRUE) == null) {
+                        ids.add(id);
+                        idRows.add(row);
+                    }
+                }
+                int bucketCount = Math.max(1, (ids.size() + BUCKET_KEYS - 1) / BUCKET_KEYS);
+                int slotCount = Math.max(1, (int) Math.ceil(ids.size() / LOAD));
+                seeds[key.ordinal()] = new int[bucketCount];
+                slotRows[key.ordinal()] = new int[slotCount];
+                place(ids, idRows, seeds[key.ordinal()], slotRows[key.ordinal()]);
+                indexBytes += (bucketCount + slotCount) * Integer.BYTES;
+            }
+
+            int rowBytes = rows * ROW_BYTES;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(rowBytes + poolBytes + indexBytes);
+            for (int i = 0; i < rows * FIELD_COUNT; i++) {
+                buffer.putInt(offsets[i]);
+            }
+            for (byte[] value : poolValues) {
+                buffer.putShort((short) value.length);
+                buffer.put(value);
+            }
+            PlayerSnapshot snapshot = new PlayerSnapshot(buffer, rows, rowBytes);
+            for (Key key : keys) {
+                int k = key.ordinal();
+                snapshot.seedsAt[k] = buffer.position();
+                snapshot.buckets[k] = seeds[k].length;
+                for (int seed : seeds[k]) {
+                    buffer.putInt(seed);
+                }
+                snapshot.slotsAt[k] = buffer.position();
+                snapshot.slots[k] = slotRows[k].length;
+                for (int row : slotRows[k]) {
+                    buffer.putInt(row);
+                }
+            }
+            return snapshot;
+        }
+
+        /*
+         * Hash and displace: keys are grouped into buckets by their seed-0 hash; the fullest buckets go first,
+         * each trying seeds from 1 up until all its keys land on distinct free slots. Seed 0 marks an empty bucket.
+         */
+        private static void place(List<String> ids, List<Integer> idRows, int[] seeds, int[] slotRows) {
+            Arrays.fill(slotRows, -1);
+            List<List<Integer>> byBucket = new ArrayList<>(seeds.length);
+            for (int i = 0; i < seeds.length; i++) {
+                byBucket.add(new ArrayList<>(BUCKET_KEYS));
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                byBucket.get(Math.floorMod(hash(ids.get(i), 0), seeds.length)).add(i);
+            }
+            Integer[] order = new Integer[seeds.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(byBucket.get(b).size(), byBucket.get(a).size()));
+
+            int[] taken = new int[BUCKET_KEYS * 8];
+            for (int bucket : order) {
+                List<Integer> members = byBucket.get(bucket);
+                if (members.isEmpty()) {
+                    break;
+                }
+                if (taken.length < members.size()) {
+                    taken = new int[members.size()];
+                }
+                int seed = 1;
+                while (!fits(ids, members, seed, slotRows, taken)) {
+                    if (++seed > MAX_SEED) {
+                        throw new IllegalStateException("No perfect hash found for " + ids.size() + " keys");
+                    }
+                }
+                for (int i = 0; i < members.size(); i++) {
+                    slotRows[taken[i]] = idRows.get(members.get(i));
+                }
+                seeds[bucket] = seed;
+            }
+        }
+
+        private static boolean fits(List<String> ids, List<Integer> members, int seed, int[] slotRows, int[] taken) {
+            for (int i = 0; i < members.size(); i++) {
+                int slot = Math.floorMod(hash(ids.get(members.get(i)), seed), slotRows.length);
+                if (slotRows[slot] >= 0) {
+                    return false;
+                }
+                for (int j = 0; j < i; j++) {
+                    if (taken[j] == slot) {
+                        return false;
+                    }
+                }
+                taken[i] = slot;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.app.playerservicejava.service.snapshot;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.PlayersWrittenEvent;
+import com.app.playerservicejava.service.ingest.PlayersReloadedEvent;
+import com.app.playerservicejava.service.overlay.WriteOverlay;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Serves player reads from an off-heap {@link PlayerSnapshot} instead of Hibernate when
+ * {@code players.snapshot.enabled} is set.
+ *
+ * Players written since the snapshot was compiled are kept on heap as detached copies in a {@link WriteOverlay},
+ * and compiled in past {@code players.snapshot.max-pending}. A reload recompiles from PLAYERS.
+ */
+@Component
+public class PlayerSnapshotStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerSnapshotStore.class);
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${players.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${players.snapshot.max-pending:1024}")
+    private int maxPending = 1024;
+
+    private final WriteOverlay<PlayerSnapshot, Player, State> overlay =
+            new WriteOverlay<>((snapshot, player) -> PlayerSnapshot.copy(player), State::new, PlayerSnapshotStore::compact);
+
+    private static final class State {
+        final PlayerSnapshot snapshot;
+        final Map<String, Optional<Player>> pending;
+
+        State(PlayerSnapshot snapshot, Map<String, Optional<Player>> pending) {
+            this.snapshot = snapshot;
+            this.pending = pending;
+        }
+    }
+
+    @PostConstruct
+    void registerMeters() {
+        Gauge.builder("players.snapshot.bytes", overlay, states -> states.state() == null ? 0 : states.state().snapshot.bytes())
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("players.snapshot.pending", overlay, states -> states.state() == null ? 0 : states.state().pending.size())
+                .register(meterRegistry);
+    }
+
+    @EventListener({ ApplicationReadyEvent.class, PlayersReloadedEvent.class })
+    @Transactional(readOnly = true)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        State built = overlay.reset(() -> {
+            PlayerSnapshot.Builder builder = PlayerSnapshot.builder();
+            try (Stream<Player> players = playerRepository.streamAll()) {
+                players.forEach(player -> {
+                    builder.add(player);
+                    entityManager.detach(player);
+                });
+            }
+            return builder.build();
+        });
+        LOGGER.info("message=Player snapshot built; players={}; bytes={}; millis={}",
+                built.snapshot.size(), built.snapshot.bytes(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * False until the startup build has finished, or when disabled; callers should read through Hibernate.
+     */
+    public boolean isReady() {
+        return overlay.state() != null;
+    }
+
+    public Optional<Player> findById(String playerId) {
+        State current = overlay.state();
+        Optional<Player> written = current.pending.get(playerId);
+        if (written != null) {
+            return written;
+        }
+        int row = current.snapshot.find(PlayerSnapshot.Key.PLAYER_ID, playerId);
+        return row < 0 ? Optional.empty() : Optional.of(current.snapshot.player(row));
+    }
+
+    /**
+     * The player whose retroId or bbrefId is {@code value}; a pending write of that player overrides its snapshot row.
+     */
+    public Optional<Player> find(PlayerSnapshot.Key key, String value) {
+        if (key == PlayerSnapshot.Key.PLAYER_ID) {
+            return findById(value);
+        }
+        State current = overlay.state();
+        for (Optional<Player> written : current.pending.values()) {
+            if (written.isPresent() && Objects.equals(PlayerSnapshot.field(written.get(), key.field()), value)) {
+                return written;
+            }
+        }
+        int row = current.snapshot.find(key, value);
+        if (row < 0 || current.pending.containsKey(current.snapshot.get(row, PlayerSnapshot.Key.PLAYER_ID.field()))) {
+            return Optional.empty();
+        }
+        return Optional.of(current.snapshot.player(row));
+    }
+
+    @EventListener
+    public void apply(PlayersWrittenEvent event) {
+        write(event.getWritten(), event.getDeleted());
+    }
+
+    public void put(Player player) {
+        write(List.of(player), List.of());
+    }
+
+    public void remove(String playerId) {
+        write(List.of(), List.of(playerId));
+    }
+
+    private void write(List<Player> written, List<String> deleted) {
+        if (enabled) {
+            overlay.apply(written, deleted, maxPending);
+        }
+    }
+
+    private static PlayerSnapshot compact(PlayerSnapshot snapshot, Map<String, Optional<Player>> pending) {
+        long start = System.nanoTime();
+        PlayerSnapshot.Builder builder = PlayerSnapshot.builder();
+        for (int row = 0; row < snapshot.size(); row++) {
+            if (!pending.containsKey(snapshot.get(row, PlayerSnapshot.Key.PLAYER_ID.field()))) {
+                builder.add(snapshot.player(row));
+            }
+        }
+        pending.values().forEach(player -> player.ifPresent(builder::add));
+        PlayerSnapshot compacted = builder.build();
+        LOGGER.info("message=Player snapshot compacted; players={}; pending={}; millis={}",
+                compacted.size(), pending.size(), (System.nanoTime() - start) / 1_000_000);
+        return compacted;
+    }
+}
@@ -0,0 +1,82 @@
+package com.app.playerservicejava.service.team;
+
+import java.util.Arrays;
+
+/**
+ * The {@code k} nearest candidates offered so far, as a max-heap on squared distance so the current worst
+ * is at the root. Candidates are int handles chosen by the caller.
+ */
+final class Neighbours {
+    private final int k;
+    private final float[] distances;
+    private final int[] handles;
+    private int size;
+
+    Neighbours(int k) {
+        this.k = k;
+        this.distances = new float[k];
+        this.handles = new int[k];
+    }
+
+    /**
+     * The distance a candidate has to beat to be kept.
+     */
+    float worst() {
+        return size < k ? Float.POSITIVE_INFINITY : distances[0];
+    }
+
+    void offer(float distance, int handle) {
+        if (size < k) {
+            int at = size++;
+            // sift up
+            while (at > 0) {
+                int parent = (at - 1) >>> 1;
+                if (distances[parent] >= distance) {
+                    break;
+                }
+                distances[at] = distances[parent];
+                handles[at] = handles[parent];
+                at = parent;
+            }
+            distances[at] = distance;
+            handles[at] = handle;
+        } else if (distance < distances[0]) {
+            // replace the root and sift down
+            int at = 0;
+            while (true) {
+                int child = 2 * at + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && distances[child + 1] > distances[child]) {
+                    child++;
+                }
+                if (distances[child] <= distance) {
+                    break;
+                }
+                distances[at] = distances[child];
+                handles[at] = handles[child];
+                at = child;
+            }
+            distances[at] = distance;
+            handles[at] = handle;
+        }
+    }
+
+    /**
+     * The kept handles, nearest first; equal distances in handle order.
+     */
+    int[] sorted() {
+        // distances are never negative, so their bit patterns sort like the floats do
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (long) Float.floatToRawIntBits(distances[i]) << 32 | handles[i];
+        }
+        Arrays.sort(keys);
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = (int) keys[i];
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,97 @@
+package com.app.playerservicejava.service.team;
+
+import com.app.playerservicejava.model.Player;
+
+/**
+ * The five features a team is matched on, as the Python model was trained: birth date (as a fractional year),
+ * height and weight as z-scores over all players, an unknown value scoring 0, then bats and throws as
+ * R = 1, L = -1 and anything else 0.
+ *
+ * {@link #raw} gives the unscaled values with NaN for unknowns; {@link #apply} scales them in place.
+ */
+public final class TeamFeatureScale {
+    public static final int DIMS = 5;
+    /* birth, height and weight are z-scored; bats and throws are used as they are */
+    private static final int SCALED = 3;
+
+    private final double[] mean;
+    private final double[] std;
+
+    private TeamFeatureScale(double[] mean, double[] std) {
+        this.mean = mean;
+        this.std = std;
+    }
+
+    public static float[] raw(Player player) {
+        float birth = number(player.getBirthYear()) + (number(player.getBirthMonth()) - 1f) / 12f + (number(player.getBirthDay()) - 1f) / 30f;
+        return new float[] { birth, number(player.getHeight()), number(player.getWeight()), hand(player.getBats()), hand(player.getThrowStats()) };
+    }
+
+    /**
+     * A query's features; a null year, height or weight scores as average, like an unknown player's.
+     */
+    public static float[] raw(Double birthYear, Double height, Double weight, String bats, String throwStats) {
+        return new float[] { orNaN(birthYear), orNaN(height), orNaN(weight), hand(bats), hand(throwStats) };
+    }
+
+    /**
+     * Population mean and standard deviation of each scaled feature over {@code count} rows of {@code rows}
+     * ({@link #DIMS} floats per row), skipping unknowns.
+     */
+    public static TeamFeatureScale fit(float[] rows, int count) {
+        double[] mean = new double[SCALED];
+        double[] std = new double[SCALED];
+        for (int dim = 0; dim < SCALED; dim++) {
+            long known = 0;
+            double sum = 0;
+            for (int row = 0; row < count; row++) {
+                float value = rows[row * DIMS + dim];
+                if (!Float.isNaN(value)) {
+                    known++;
+                    sum += value;
+                }
+            }
+            mean[dim] = known == 0 ? 0 : sum / known;
+            double squares = 0;
+            for (int row = 0; row < count; row++) {
+                float value = rows[row * DIMS + dim];
+                if (!Float.isNaN(value)) {
+                    squares += (value - mean[dim]) * (value - mean[dim]);
+                }
+            }
+            double deviation = known == 0 ? 0 : Math.sqrt(squares / known);
+            // a constant column carries no information; scoring it all 0 keeps the distances finite
+            std[dim] = deviation == 0 ? Double.POSITIVE_INFINITY : deviation;
+        }
+        return new TeamFeatureScale(mean, std);
+    }
+
+    /**
+     * Replaces the raw row at {@code offset} with its scaled features.
+     */
+    public void apply(float[] rows, int offset) {
+        for (int dim = 0; dim < SCALED; dim++) {
+            float value = rows[offset + dim];
+            rows[offset + dim] = Float.isNaN(value) ? 0f : (float) ((value - mean[dim]) / std[dim]);
+        }
+    }
+
+    private static float number(String value) {
+        if (value == null || value.isBlank()) {
+            return Float.NaN;
+        }
+        try {
+            return Float.parseFloat(value.trim());
+        } catch (NumberFormatException e) {
+            return Float.NaN;
+        }
+    }
+
+    private static float orNaN(Double value) {
+        return value == null ? Float.NaN : value.floatValue();
+    }
+
+    private static float hand(String value) {
+        return "R".equals(value) ? 1f : "L".equals(value) ? -1f : 0f;
+    }
+}
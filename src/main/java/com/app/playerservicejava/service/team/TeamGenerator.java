@@ -0,0 +1,313 @@
+package com.app.playerservicejava.service.team;
+
+import com.app.playerservicejava.exception.InvalidTeamRequestException;
+import com.app.playerservicejava.exception.PlayerNotFoundException;
+import com.app.playerservicejava.exception.TeamUnavailableException;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.team.TeamFeatures;
+import com.app.playerservicejava.model.team.TeamFeedbackRequest;
+import com.app.playerservicejava.model.team.TeamFeedbackResponse;
+import com.app.playerservicejava.model.team.TeamGenerateRequest;
+import com.app.playerservicejava.model.team.TeamGenerateResponse;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.PlayersWrittenEvent;
+import com.app.playerservicejava.service.ingest.PlayersReloadedEvent;
+import com.app.playerservicejava.service.overlay.WriteOverlay;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.app.playerservicejava.service.team.TeamFeatureScale.DIMS;
+
+/**
+ * Team generation in process, replacing the Python nearest-neighbour service (player-service-model) with the
+ * same request and response bodies: a team is the {@code team_size} players nearest the seed player, or the
+ * given features, in {@link TeamFeatureScale}'s feature space, the seed first.
+ *
+ * Players written since the {@link TeamIndex} was built are kept as points in a {@link WriteOverlay} and
+ * searched by brute force next to the tree, which is rebuilt past {@code players.team.max-pending}. The feature
+ * scaling is fitted when the index is built from PLAYERS, at startup and on reload, and kept across those rebuilds.
+ *
+ * A -1 from {@code /feedback} leaves the member out of that seed's later teams. Like the Python service, the
+ * exclusions live in memory only.
+ */
+@Component
+public class TeamGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TeamGenerator.class);
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${players.team.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${players.team.max-pending:256}")
+    private int maxPending = 256;
+
+    @Value("${players.team.max-exclusions-per-seed:1000}")
+    private int maxExclusionsPerSeed = 1000;
+
+    private final WriteOverlay<Built, float[], State> overlay =
+            new WriteOverlay<>(TeamGenerator::point, State::new, TeamGenerator::compact);
+
+    private final Map<String, Set<String>> exclusions = new ConcurrentHashMap<>();
+
+    private Timer generateTimer;
+
+    /* the overlay's base: the tree, and the scaling its points (and every pending point) were scaled with */
+    private static final class Built {
+        final TeamFeatureScale scale;
+        final TeamIndex index;
+
+        Built(TeamFeatureScale scale, TeamIndex index) {
+            this.scale = scale;
+            this.index = index;
+        }
+    }
+
+    private static final class State {
+        final TeamFeatureScale scale;
+        final TeamIndex index;
+        final Map<String, Optional<float[]>> pending;
+        /* derived from pending: the index's docs it overrides, and the pending players that exist */
+        final long[] overridden;
+        final String[] addedIds;
+        final float[] addedPoints;
+
+        State(Built built, Map<String, Optional<float[]>> pending) {
+            this.scale = built.scale;
+            this.index = built.index;
+            this.pending = pending;
+            long[] overridden = null;
+            List<String> addedIds = new ArrayList<>();
+            float[] addedPoints = new float[pending.size() * DIMS];
+            for (Map.Entry<String, Optional<float[]>> entry : pending.entrySet()) {
+                int doc = index.find(entry.getKey());
+                if (doc >= 0) {
+                    if (overridden == null) {
+                        overridden = new long[(index.size() + 63) >>> 6];
+                    }
+                    overridden[doc >>> 6] |= 1L << doc;
+                }
+                if (entry.getValue().isPresent()) {
+                    System.arraycopy(entry.getValue().get(), 0, addedPoints, addedIds.size() * DIMS, DIMS);
+                    addedIds.add(entry.getKey());
+                }
+            }
+            this.overridden = overridden;
+            this.addedIds = addedIds.toArray(String[]::new);
+            this.addedPoints = addedPoints;
+        }
+
+        /* the player's scaled features, or null if there is no such player */
+        float[] point(String playerId) {
+            Optional<float[]> written = pending.get(playerId);
+            if (written != null) {
+                return written.map(float[]::clone).orElse(null);
+            }
+            int doc = index.find(playerId);
+            return doc < 0 ? null : index.point(doc);
+        }
+
+        List<String> nearest(float[] query, int k) {
+            Neighbours out = new Neighbours(k);
+            index.nearest(query, out, overridden);
+            int base = index.size();
+            for (int added = 0; added < addedIds.length; added++) {
+                float distance = 0;
+                for (int dim = 0; dim < DIMS; dim++) {
+                    float gap = addedPoints[added * DIMS + dim] - query[dim];
+                    distance += gap * gap;
+                }
+                if (distance < out.worst()) {
+                    out.offer(distance, base + added);
+                }
+            }
+            int[] handles = out.sorted();
+            List<String> ids = new ArrayList<>(handles.length);
+            for (int handle : handles) {
+                ids.add(handle < base ? index.id(handle) : addedIds[handle - base]);
+            }
+            return ids;
+        }
+    }
+
+    @PostConstruct
+    void registerMeters() {
+        generateTimer = Timer.builder("players.team.generate").publishPercentileHistogram().register(meterRegistry);
+    }
+
+    @EventListener({ ApplicationReadyEvent.class, PlayersReloadedEvent.class })
+    @Transactional(readOnly = true)
+    public void build() {
+        if (!enabled) {
+            LOGGER.info("message=Team generation disabled");
+            return;
+        }
+        long start = System.nanoTime();
+        State built = overlay.reset(() -> {
+            List<String> ids = new ArrayList<>();
+            float[] points = new float[1024 * DIMS];
+            try (Stream<Player> players = playerRepository.streamAll()) {
+                for (Iterator<Player> rows = players.iterator(); rows.hasNext(); ) {
+                    Player player = rows.next();
+                    if (points.length < (ids.size() + 1) * DIMS) {
+                        points = Arrays.copyOf(points, points.length * 2);
+                    }
+                    System.arraycopy(TeamFeatureScale.raw(player), 0, points, ids.size() * DIMS, DIMS);
+                    ids.add(player.getPlayerId());
+                }
+            }
+            points = Arrays.copyOf(points, ids.size() * DIMS);
+            TeamFeatureScale scale = TeamFeatureScale.fit(points, ids.size());
+            for (int row = 0; row < ids.size(); row++) {
+                scale.apply(points, row * DIMS);
+            }
+            return new Built(scale, TeamIndex.build(ids.toArray(String[]::new), points));
+        });
+        LOGGER.info("message=Team index built; players={}; millis={}", built.index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return overlay.state() != null;
+    }
+
+    public TeamGenerateResponse generate(TeamGenerateRequest request) {
+        State current = requireReady();
+        long start = System.nanoTime();
+        try {
+            String seed = request.getSeedId();
+            float[] query;
+            if (seed != null) {
+                query = current.point(seed);
+                if (query == null) {
+                    throw new PlayerNotFoundException("The seed " + seed + " has no associated player");
+                }
+            } else if (request.getFeatures() != null) {
+                TeamFeatures features = request.getFeatures();
+                query = TeamFeatureScale.raw(features.getBirthYear(), features.getHeight(), features.getWeight(),
+                        features.getBats(), features.getThrowStats());
+                current.scale.apply(query, 0);
+            } else {
+                throw new InvalidTeamRequestException("The payload must include either seed_id or features");
+            }
+            Set<String> excluded = seed == null ? Set.of() : exclusions.getOrDefault(seed, Set.of());
+            // as many extra neighbours as there are exclusions, so removing them still leaves team_size
+            int wanted = request.getTeamSize() + excluded.size();
+            List<String> members = current.nearest(query, wanted);
+            if (seed != null && !excluded.contains(seed)) {
+                // the seed leads its team, even when other players share its exact features
+                members.remove(seed);
+                members.add(0, seed);
+                if (members.size() > wanted) {
+                    members.remove(members.size() - 1);
+                }
+            }
+            members.removeIf(excluded::contains);
+            return new TeamGenerateResponse(seed, UUID.randomUUID().toString(), members);
+        } finally {
+            generateTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Feedback about a seed that is not a player, or beyond {@code players.team.max-exclusions-per-seed}
+     * for that seed, is not accepted.
+     */
+    public TeamFeedbackResponse feedback(TeamFeedbackRequest request) {
+        State current = requireReady();
+        if (request.getFeedback() == 0) {
+            throw new InvalidTeamRequestException("feedback must be -1 or 1");
+        }
+        String seed = request.getSeedId();
+        boolean accepted = current.point(seed) != null;
+        if (accepted && request.getFeedback() < 0) {
+            Set<String> excluded = exclusions.computeIfAbsent(seed, id -> ConcurrentHashMap.newKeySet());
+            accepted = excluded.contains(request.getMemberId())
+                    || (excluded.size() < maxExclusionsPerSeed && excluded.add(request.getMemberId()));
+        }
+        String predictionId = request.getPredictionId() == null || request.getPredictionId().isEmpty()
+                ? UUID.randomUUID().toString()
+                : request.getPredictionId();
+        return new TeamFeedbackResponse(seed, predictionId, request.getMemberId(), accepted);
+    }
+
+    @EventListener
+    public void apply(PlayersWrittenEvent event) {
+        write(event.getWritten(), event.getDeleted());
+    }
+
+    public void put(Player player) {
+        write(List.of(player), List.of());
+    }
+
+    public void remove(String playerId) {
+        write(List.of(), List.of(playerId));
+    }
+
+    private void write(List<Player> written, List<String> deleted) {
+        if (enabled) {
+            overlay.apply(written, deleted, maxPending);
+        }
+    }
+
+    private static float[] point(Built built, Player player) {
+        float[] point = TeamFeatureScale.raw(player);
+        built.scale.apply(point, 0);
+        return point;
+    }
+
+    private static Built compact(Built built, Map<String, Optional<float[]>> pending) {
+        long start = System.nanoTime();
+        TeamIndex index = built.index;
+        List<String> ids = new ArrayList<>(index.size() + pending.size());
+        float[] points = new float[(index.size() + pending.size()) * DIMS];
+        for (int doc = 0; doc < index.size(); doc++) {
+            if (!pending.containsKey(index.id(doc))) {
+                System.arraycopy(index.point(doc), 0, points, ids.size() * DIMS, DIMS);
+                ids.add(index.id(doc));
+            }
+        }
+        for (Map.Entry<String, Optional<float[]>> entry : pending.entrySet()) {
+            if (entry.getValue().isPresent()) {
+                System.arraycopy(entry.getValue().get(), 0, points, ids.size() * DIMS, DIMS);
+                ids.add(entry.getKey());
+            }
+        }
+        TeamIndex compacted = TeamIndex.build(ids.toArray(String[]::new), Arrays.copyOf(points, ids.size() * DIMS));
+        LOGGER.info("message=Team index compacted; players={}; pending={}; millis={}",
+                compacted.size(), pending.size(), (System.nanoTime() - start) / 1_000_000);
+        return new Built(built.scale, compacted);
+    }
+
+    private State requireReady() {
+        State current = overlay.state();
+        if (!enabled || current == null) {
+            throw new TeamUnavailableException("Team generation is not available yet");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,259 @@
+package com.app.playerservicejava.service.team;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.app.playerservicejava.service.team.TeamFeatureScale.DIMS;
+
+/**
+ * An immutable k-d tree over scaled feature points, answering exact k-nearest-neighbour queries (Euclidean,
+ * as the Python model's default).
+ *
+ * Points are reordered at build time so every leaf is a contiguous range, and stored as one {@code float[]}
+ * per feature. A leaf is scanned in two passes: a branch-free loop over the five columns that fills a scratch
+ * array with squared distances (the JIT vectorizes it), then a loop that offers the ones that beat the current
+ * worst. Subtrees whose bounding box is farther than the worst neighbour kept so far are skipped.
+ */
+public final class TeamIndex {
+    static final int LEAF_SIZE = 32;
+
+    /* tree order */
+    private final String[] ids;
+    private final float[][] columns;
+    private final Map<String, Integer> docs;
+
+    /* per node: its range of docs, its children (-1 for a leaf) and its bounding box (DIMS floats each) */
+    private int nodes;
+    private int[] from;
+    private int[] to;
+    private int[] left;
+    private int[] right;
+    private float[] lower;
+    private float[] upper;
+    private int largestLeaf;
+
+    /**
+     * @param points {@link TeamFeatureScale#DIMS} scaled features per id, row after row
+     */
+    public static TeamIndex build(String[] ids, float[] points) {
+        if (points.length != ids.length * DIMS) {
+            throw new IllegalArgumentException("Expected " + ids.length * DIMS + " features, got " + points.length);
+        }
+        return new TeamIndex(ids, points);
+    }
+
+    private TeamIndex(String[] ids, float[] points) {
+        int size = ids.length;
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        int capacity = 2 * (size / (LEAF_SIZE / 2) + 1);
+        from = new int[capacity];
+        to = new int[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        lower = new float[capacity * DIMS];
+        upper = new float[capacity * DIMS];
+        split(points, order, 0, size);
+
+        this.ids = new String[size];
+        this.columns = new float[DIMS][size];
+        this.docs = new HashMap<>(size * 2);
+        for (int doc = 0; doc < size; doc++) {
+            this.ids[doc] = ids[order[doc]];
+            for (int dim = 0; dim < DIMS; dim++) {
+                columns[dim][doc] = points[order[doc] * DIMS + dim];
+            }
+            docs.put(this.ids[doc], doc);
+        }
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public String id(int doc) {
+        return ids[doc];
+    }
+
+    /**
+     * The doc holding {@code id}, or -1.
+     */
+    public int find(String id) {
+        Integer doc = docs.get(id);
+        return doc == null ? -1 : doc;
+    }
+
+    /**
+     * A copy of the doc's scaled features.
+     */
+    public float[] point(int doc) {
+        float[] point = new float[DIMS];
+        for (int dim = 0; dim < DIMS; dim++) {
+            point[dim] = columns[dim][doc];
+        }
+        return point;
+    }
+
+    /**
+     * Offers the docs nearest {@code query} to {@code out}, with the doc as the handle.
+     *
+     * @param skipped docs to leave out, one bit per doc; null for none
+     */
+    void nearest(float[] query, Neighbours out, long[] skipped) {
+        if (ids.length > 0) {
+            search(0, query, out, skipped, new float[largestLeaf]);
+        }
+    }
+
+    private void search(int node, float[] query, Neighbours out, long[] skipped, float[] scratch) {
+        if (left[node] < 0) {
+            scan(from[node], to[node], query, out, skipped, scratch);
+            return;
+        }
+        int near = left[node];
+        int far = right[node];
+        float nearDistance = boxDistance(near, query);
+        float farDistance = boxDistance(far, query);
+        if (farDistance < nearDistance) {
+            int swap = near;
+            near = far;
+            far = swap;
+            float swapDistance = nearDistance;
+            nearDistance = farDistance;
+            farDistance = swapDistance;
+        }
+        if (nearDistance < out.worst()) {
+            search(near, query, out, skipped, scratch);
+        }
+        if (farDistance < out.worst()) {
+            search(far, query, out, skipped, scratch);
+        }
+    }
+
+    private void scan(int start, int end, float[] query, Neighbours out, long[] skipped, float[] scratch) {
+        float[] c0 = columns[0];
+        float[] c1 = columns[1];
+        float[] c2 = columns[2];
+        float[] c3 = columns[3];
+        float[] c4 = columns[4];
+        float q0 = query[0];
+        float q1 = query[1];
+        float q2 = query[2];
+        float q3 = query[3];
+        float q4 = query[4];
+        int count = end - start;
+        for (int i = 0; i < count; i++) {
+            int doc = start + i;
+            float d0 = c0[doc] - q0;
+            float d1 = c1[doc] - q1;
+            float d2 = c2[doc] - q2;
+            float d3 = c3[doc] - q3;
+            float d4 = c4[doc] - q4;
+            scratch[i] = d0 * d0 + d1 * d1 + d2 * d2 + d3 * d3 + d4 * d4;
+        }
+        for (int i = 0; i < count; i++) {
+            float distance = scratch[i];
+            int doc = start + i;
+            if (distance < out.worst() && (skipped == null || (skipped[doc >>> 6] & 1L << doc) == 0)) {
+                out.offer(distance, doc);
+            }
+        }
+    }
+
+    /* squared distance from the query to the node's bounding box; 0 inside it */
+    private float boxDistance(int node, float[] query) {
+        float sum = 0;
+        int at = node * DIMS;
+        for (int dim = 0; dim < DIMS; dim++) {
+            float value = query[dim];
+            float gap = value < lower[at + dim] ? lower[at + dim] - value : value > upper[at + dim] ? value - upper[at + dim] : 0f;
+            sum += gap * gap;
+        }
+        return sum;
+    }
+
+    /* builds the subtree over order[start, end) and returns its node */
+    private int split(float[] points, int[] order, int start, int end) {
+        int node = nodes++;
+        ensureCapacity(nodes);
+        from[node] = start;
+        to[node] = end;
+        int at = node * DIMS;
+        Arrays.fill(lower, at, at + DIMS, Float.POSITIVE_INFINITY);
+        Arrays.fill(upper, at, at + DIMS, Float.NEGATIVE_INFINITY);
+        for (int i = start; i < end; i++) {
+            for (int dim = 0; dim < DIMS; dim++) {
+                float value = points[order[i] * DIMS + dim];
+                lower[at + dim] = Math.min(lower[at + dim], value);
+                upper[at + dim] = Math.max(upper[at + dim], value);
+            }
+        }
+        int widest = 0;
+        for (int dim = 1; dim < DIMS; dim++) {
+            if (upper[at + dim] - lower[at + dim] > upper[at + widest] - lower[at + widest]) {
+                widest = dim;
+            }
+        }
+        // identical points (common: same handedness, unknown measurements) cannot be split; they stay one leaf
+        if (end - start <= LEAF_SIZE || upper[at + widest] == lower[at + widest]) {
+            left[node] = -1;
+            right[node] = -1;
+            largestLeaf = Math.max(largestLeaf, end - start);
+            return node;
+        }
+        int middle = (start + end) >>> 1;
+        select(points, order, start, end - 1, middle, widest);
+        int leftChild = split(points, order, start, middle);
+        int rightChild = split(points, order, middle, end);
+        left[node] = leftChild;
+        right[node] = rightChild;
+        return node;
+    }
+
+    /* quickselect: order[k] gets the doc with the k-th smallest value in dim, smaller ones before it */
+    private static void select(float[] points, int[] order, int low, int high, int k, int dim) {
+        while (low < high) {
+            float pivot = points[order[(low + high) >>> 1] * DIMS + dim];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (points[order[i] * DIMS + dim] < pivot) {
+                    i++;
+                }
+                while (points[order[j] * DIMS + dim] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = order[i];
+                    order[i] = order[j];
+                    order[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                high = j;
+            } else if (k >= i) {
+                low = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void ensureCapacity(int count) {
+        if (count <= from.length) {
+            return;
+        }
+        int capacity = Math.max(count, from.length * 2);
+        from = Arrays.copyOf(from, capacity);
+        to = Arrays.copyOf(to, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        lower = Arrays.copyOf(lower, capacity * DIMS);
+        upper = Arrays.copyOf(upper, capacity * DIMS);
+    }
+}
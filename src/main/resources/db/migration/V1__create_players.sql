@@ -0,0 +1,32 @@
+-- PLAYERS as first shipped: every column VARCHAR, as CSVREAD produced it.
+-- Rows are loaded from Player.csv by PlayerCsvIngestor once the application has started
+CREATE TABLE PLAYERS (
+    PLAYERID     VARCHAR(64) NOT NULL,
+    BIRTHYEAR    VARCHAR(8),
+    BIRTHMONTH   VARCHAR(8),
+    BIRTHDAY     VARCHAR(8),
+    BIRTHCOUNTRY VARCHAR(64),
+    BIRTHSTATE   VARCHAR(64),
+    BIRTHCITY    VARCHAR(64),
+    DEATHYEAR    VARCHAR(8),
+    DEATHMONTH   VARCHAR(8),
+    DEATHDAY     VARCHAR(8),
+    DEATHCOUNTRY VARCHAR(64),
+    DEATHSTATE   VARCHAR(64),
+    DEATHCITY    VARCHAR(64),
+    NAMEFIRST    VARCHAR(64),
+    NAMELAST     VARCHAR(64),
+    NAMEGIVEN    VARCHAR(128),
+    WEIGHT       VARCHAR(8),
+    HEIGHT       VARCHAR(8),
+    BATS         VARCHAR(4),
+    THROWS       VARCHAR(4),
+    DEBUT        VARCHAR(16),
+    FINALGAME    VARCHAR(16),
+    RETROID      VARCHAR(16),
+    BBREFID      VARCHAR(16),
+    CONSTRAINT PK_PLAYERS PRIMARY KEY (PLAYERID)
+);
+
+CREATE INDEX IDX_PLAYERS_NAMELAST ON PLAYERS (NAMELAST);
+CREATE INDEX IDX_PLAYERS_BIRTHYEAR ON PLAYERS (BIRTHYEAR);
@@ -0,0 +1,26 @@
+-- Dates and measurements become typed so they compare numerically and can be range-scanned.
+-- Empty strings were the CSV's "unknown"; they become NULL before the columns are converted.
+UPDATE PLAYERS SET
+    BIRTHYEAR  = NULLIF(TRIM(BIRTHYEAR), ''),
+    BIRTHMONTH = NULLIF(TRIM(BIRTHMONTH), ''),
+    BIRTHDAY   = NULLIF(TRIM(BIRTHDAY), ''),
+    DEATHYEAR  = NULLIF(TRIM(DEATHYEAR), ''),
+    DEATHMONTH = NULLIF(TRIM(DEATHMONTH), ''),
+    DEATHDAY   = NULLIF(TRIM(DEATHDAY), ''),
+    WEIGHT     = NULLIF(TRIM(WEIGHT), ''),
+    HEIGHT     = NULLIF(TRIM(HEIGHT), ''),
+    DEBUT      = NULLIF(TRIM(DEBUT), ''),
+    FINALGAME  = NULLIF(TRIM(FINALGAME), '');
+
+DROP INDEX IF EXISTS IDX_PLAYERS_BIRTHYEAR;
+
+ALTER TABLE PLAYERS ALTER COLUMN BIRTHYEAR  SET DATA TYPE SMALLINT;
+ALTER TABLE PLAYERS ALTER COLUMN BIRTHMONTH SET DATA TYPE SMALLINT;
+ALTER TABLE PLAYERS ALTER COLUMN BIRTHDAY   SET DATA TYPE SMALLINT;
+ALTER TABLE PLAYERS ALTER COLUMN DEATHYEAR  SET DATA TYPE SMALLINT;
+ALTER TABLE PLAYERS ALTER COLUMN DEATHMONTH SET DATA TYPE SMALLINT;
+ALTER TABLE PLAYERS ALTER COLUMN DEATHDAY   SET DATA TYPE SMALLINT;
+ALTER TABLE PLAYERS ALTER COLUMN WEIGHT     SET DATA TYPE SMALLINT;
+ALTER TABLE PLAYERS ALTER COLUMN HEIGHT     SET DATA TYPE SMALLINT;
+ALTER TABLE PLAYERS ALTER COLUMN DEBUT      SET DATA TYPE DATE;
+ALTER TABLE PLAYERS ALTER COLUMN FINALGAME  SET DATA TYPE DATE;
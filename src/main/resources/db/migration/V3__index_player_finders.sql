@@ -0,0 +1,13 @@
+-- One index per PlayerRepository finder. Trailing PLAYERID columns let the keyset finders
+-- (ORDER BY ..., PLAYERID) read rows in index order instead of sorting. The *IgnoreCase finders
+-- compare UPPER(column), which H2 cannot index; they still gain nothing until an expression index exists.
+DROP INDEX IF EXISTS IDX_PLAYERS_NAMELAST;
+
+CREATE INDEX IDX_PLAYERS_NAMELAST_PLAYERID  ON PLAYERS (NAMELAST, PLAYERID);
+CREATE INDEX IDX_PLAYERS_NAMEFIRST_NAMELAST ON PLAYERS (NAMEFIRST, NAMELAST);
+CREATE INDEX IDX_PLAYERS_BIRTHYEAR_PLAYERID ON PLAYERS (BIRTHYEAR, PLAYERID);
+CREATE INDEX IDX_PLAYERS_BIRTHCOUNTRY       ON PLAYERS (BIRTHCOUNTRY);
+CREATE INDEX IDX_PLAYERS_BATS               ON PLAYERS (BATS);
+CREATE INDEX IDX_PLAYERS_THROWS             ON PLAYERS (THROWS);
+CREATE INDEX IDX_PLAYERS_RETROID            ON PLAYERS (RETROID);
+CREATE INDEX IDX_PLAYERS_BBREFID            ON PLAYERS (BBREFID);
@@ -0,0 +1,3 @@
+-- Optimistic-concurrency version, bumped by every write. Conditional PUT/PATCH/DELETE (If-Match)
+-- compare it in the UPDATE's WHERE clause; rows loaded from CSV start at 0.
+ALTER TABLE PLAYERS ADD COLUMN VERSION BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,12 @@
+-- Transactional outbox behind /v1/players/changes: one row per player write, inserted in the writing
+-- transaction. SEQ is handed out by PlayerChangeFeed and only grows; PLAYER is the player's JSON after
+-- the change (NULL for deletes and reloads). Rows older than players.changes.retention are pruned.
+CREATE TABLE PLAYER_CHANGES (
+    SEQ        BIGINT                   NOT NULL,
+    OPERATION  VARCHAR(8)               NOT NULL,
+    PLAYERID   VARCHAR(64),
+    VERSION    BIGINT,
+    CHANGED_AT TIMESTAMP WITH TIME ZONE NOT NULL,
+    PLAYER     VARCHAR(4096),
+    CONSTRAINT PK_PLAYER_CHANGES PRIMARY KEY (SEQ)
+);
@@ -1,4 +0,0 @@
-DROP TABLE IF EXISTS PLAYERS;
-
--- Create a table from the csv
-CREATE TABLE PLAYERS AS SELECT * FROM CSVREAD('Player.csv');
\ No newline at end of file
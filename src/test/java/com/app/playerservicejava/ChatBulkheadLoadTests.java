@@ -0,0 +1,81 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.service.chat.ChatClientService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Floods /v1/chat with calls that never finish while the request pool is small, and checks that
+ * player reads are still answered promptly and the chat overflow is shed with 503.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=8",
+        "bulkhead.subsystems.chat.max-concurrent=4",
+        "bulkhead.subsystems.chat.max-wait-ms=0"
+})
+class ChatBulkheadLoadTests {
+    private static final int CHAT_REQUESTS = 24;
+    private static final int PLAYER_REQUESTS = 50;
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private ChatClientService chatClientService;
+
+    @Test
+    void playerReads_shouldNotStarve_whenChatIsSaturated() throws Exception {
+        // Arrange
+        CountDownLatch releaseChats = new CountDownLatch(1);
+        when(chatClientService.chat(any())).thenAnswer(invocation -> {
+            releaseChats.await(30, TimeUnit.SECONDS);
+            return "done";
+        });
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        // Act
+        List<CompletableFuture<HttpResponse<String>>> chats = new ArrayList<>();
+        for (int i = 0; i < CHAT_REQUESTS; i++) {
+            chats.add(client.sendAsync(post("/v1/chat"), HttpResponse.BodyHandlers.ofString()));
+        }
+        verify(chatClientService, timeout(5000).times(4)).chat(any());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < PLAYER_REQUESTS; i++) {
+            HttpResponse<String> response = client.send(get("/v1/players/aaronha01"), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode(), "Player read should succeed while chat is saturated");
+        }
+        long playerMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        releaseChats.countDown();
+
+        // Assert
+        long shed = chats.stream().map(CompletableFuture::join).filter(response -> response.statusCode() == 503).count();
+        assertEquals(CHAT_REQUESTS - 4, shed, "Chat requests beyond the bulkhead should be shed");
+        assertTrue(playerMillis < 5000, "Player reads took " + playerMillis + " ms under chat saturation");
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(10)).GET().build();
+    }
+
+    private HttpRequest post(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(40))
+                .POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+}
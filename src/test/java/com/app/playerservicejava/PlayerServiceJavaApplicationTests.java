@@ -1,24 +1,52 @@
 package com.app.playerservicejava;
 
+import com.app.playerservicejava.exception.InvalidFilterException;
+import com.app.playerservicejava.exception.PlayerAlreadyExistsException;
+import com.app.playerservicejava.exception.PlayerVersionMismatchException;
+import com.app.playerservicejava.model.BulkItemResult;
 import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerChange;
+import com.app.playerservicejava.model.PlayerFilter;
+import com.app.playerservicejava.model.PlayerSlice;
 import com.app.playerservicejava.model.Players;
 import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.PlayerCursor;
 import com.app.playerservicejava.service.PlayerService;
+import com.app.playerservicejava.service.PlayersWrittenEvent;
+import com.app.playerservicejava.service.changes.PlayerChangeFeed;
+import com.app.playerservicejava.service.search.PlayerNameIndex;
+import com.app.playerservicejava.service.snapshot.PlayerSnapshotStore;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,6 +57,30 @@ class PlayerServiceJavaApplicationTests {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private PlayerNameIndex playerNameIndex;
+
+    @Mock
+    private PlayerSnapshotStore playerSnapshotStore;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PlayerChangeFeed playerChangeFeed;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private PlayerService playerService;
     
@@ -142,6 +194,263 @@ class PlayerServiceJavaApplicationTests {
         verify(playerRepository, times(1)).findAll(pageable);
     }
     
+    @Test
+    void streamPlayers_shouldVisitEveryPlayerAndDetachIt() {
+        // Arrange
+        Player first = createTestPlayer("1", "John", "Doe");
+        Player second = createTestPlayer("2", "Jane", "Smith");
+        when(playerRepository.streamAll()).thenReturn(Stream.of(first, second));
+        List<Player> visited = new ArrayList<>();
+
+        // Act
+        playerService.streamPlayers(visited::add);
+
+        // Assert
+        assertEquals(List.of(first, second), visited, "Should visit players in cursor order");
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+        verify(playerRepository, never()).findAll();
+    }
+
+    @Test
+    void searchByLastNameAfter_shouldReturnCursorToLastRow_whenMoreRowsExist() {
+        // Arrange
+        List<Player> rows = Arrays.asList(
+            createTestPlayer("doejo01", "John", "Doe"),
+            createTestPlayer("doeja01", "Jane", "Doey"),
+            createTestPlayer("doeji01", "Jim", "Doez")
+        );
+        when(playerRepository.findByLastNameContainingAfter("doe", "", "", Limit.of(3))).thenReturn(rows);
+
+        // Act
+        PlayerSlice slice = playerService.searchByLastNameAfter("doe", null, 2);
+
+        // Assert
+        assertTrue(slice.isHasNext(), "Extra row should signal a next page");
+        assertEquals(rows.subList(0, 2), slice.getContent());
+        PlayerCursor next = PlayerCursor.decode(slice.getNextCursor());
+        assertEquals("Doey", next.getLastName());
+        assertEquals("doeja01", next.getPlayerId());
+        verify(playerRepository, never()).count();
+    }
+
+    @Test
+    void getPlayersAfter_shouldReturnLastSlice_withoutCursor() {
+        // Arrange
+        PlayerCursor after = PlayerCursor.after(createTestPlayer("aaronha01", "Hank", "Aaron"));
+        List<Player> rows = List.of(createTestPlayer("zuvelpa01", "Paul", "Zuvella"));
+        when(playerRepository.findByPlayerIdGreaterThanOrderByPlayerIdAsc("aaronha01", Limit.of(11))).thenReturn(rows);
+
+        // Act
+        PlayerSlice slice = playerService.getPlayersAfter(after.encode(), 10);
+
+        // Assert
+        assertFalse(slice.isHasNext(), "Should be the last slice");
+        assertNull(slice.getNextCursor());
+        assertEquals(rows, slice.getContent());
+    }
+
+    @Test
+    void searchByLastName_shouldPageIndexMatches_whenIndexReady() {
+        // Arrange
+        Pageable pageable = PageRequest.of(1, 1);
+        Player second = createTestPlayer("aaronto01", "Tommie", "Aaron");
+        when(playerNameIndex.isReady()).thenReturn(true);
+        when(playerNameIndex.search(PlayerNameIndex.Field.LAST_NAME, "aaron")).thenReturn(List.of("aaronha01", "aaronto01"));
+        when(playerRepository.findAllById(List.of("aaronto01"))).thenReturn(new ArrayList<>(List.of(second)));
+
+        // Act
+        Page<Player> result = playerService.searchByLastName("aaron", pageable);
+
+        // Assert
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(second), result.getContent());
+        verify(playerRepository, never()).findByLastNameContainingIgnoreCase("aaron", pageable);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deletePlayer_shouldRemovePlayerFromIndex() {
+        // Arrange
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(playerRepository.existsById("1")).thenReturn(true);
+
+        // Act
+        boolean deleted = playerService.deletePlayer("1", null);
+
+        // Assert
+        assertTrue(deleted);
+        verify(playerRepository).deleteById("1");
+        verify(playerChangeFeed).record(PlayerChange.Operation.DELETE, "1", null);
+        assertEquals(List.of("1"), published().getDeleted());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void patchPlayers_shouldReportPerItemStatus() {
+        // Arrange
+        Player existing = createTestPlayer("1", "Test", "Player");
+        Player patch = createTestPlayer("1", null, "Renamed");
+        Player missing = createTestPlayer("404", null, "Nobody");
+        Player unkeyed = createTestPlayer(null, null, "NoId");
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(playerRepository.findAllById(anyIterable())).thenReturn(List.of(existing));
+
+        // Act
+        List<BulkItemResult> results = playerService.patchPlayers(List.of(patch, missing, unkeyed));
+
+        // Assert
+        assertEquals(List.of(200, 404, 400), results.stream().map(BulkItemResult::getStatus).toList());
+        assertEquals("Renamed", existing.getLastName());
+        assertEquals("Test", existing.getFirstName(), "Null fields should not be applied");
+        verify(playerRepository, times(1)).findAllById(anyIterable());
+        assertEquals(List.of(existing), published().getWritten());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createPlayers_shouldInsertNewIds_andReportTakenOnesAsConflict() {
+        // Arrange
+        Player fresh = createValidPlayer("new01");
+        Player taken = createValidPlayer("aaronha01");
+        Player repeated = createValidPlayer("new01");
+        Player generated = createValidPlayer(null);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(playerRepository.findExistingIds(anyCollection())).thenReturn(List.of("aaronha01"));
+
+        // Act
+        List<BulkItemResult> results = playerService.createPlayers(List.of(fresh, taken, repeated, generated));
+
+        // Assert
+        assertEquals(List.of(201, 409, 409, 201), results.stream().map(BulkItemResult::getStatus).toList());
+        verify(playerRepository).insert(List.of(fresh, generated));
+        verify(playerRepository, never()).saveAll(anyIterable());
+        verify(entityManager).clear();
+        verify(playerChangeFeed).record(PlayerChange.Operation.CREATE, "new01", fresh);
+        assertEquals(List.of(fresh, generated), published().getWritten());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createPlayer_shouldInsert_andReportConflict_whenIdIsTaken() {
+        // Arrange
+        Player taken = createValidPlayer("aaronha01");
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        doThrow(new DataIntegrityViolationException("duplicate key")).when(playerRepository).insert(List.of(taken));
+        when(playerRepository.existsById("aaronha01")).thenReturn(true);
+
+        // Act & Assert
+        PlayerAlreadyExistsException conflict = assertThrows(PlayerAlreadyExistsException.class, () -> playerService.createPlayer(taken));
+        assertEquals("Player already exists with id: aaronha01", conflict.getMessage());
+        verify(playerRepository, never()).save(any());
+        verifyNoInteractions(playerChangeFeed, eventPublisher);
+    }
+
+    @Test
+    void filterPlayers_shouldRejectUnknownFieldOrSort_withoutQuerying() {
+        // Arrange
+        PlayerFilter filter = new PlayerFilter();
+
+        // Act & Assert
+        assertThrows(InvalidFilterException.class,
+                () -> playerService.filterPlayers(filter, List.of("playerId", "salary"), PageRequest.of(0, 10)));
+        assertThrows(InvalidFilterException.class,
+                () -> playerService.filterPlayers(filter, PageRequest.of(0, 10, Sort.by("salary"))));
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void patchPlayer_shouldRejectUnparseableTypedField() {
+        // Arrange
+        Player patch = new Player();
+        patch.setWeight("heavy");
+
+        // Act & Assert
+        assertThrows(ConstraintViolationException.class, () -> playerService.patchPlayer("1", patch, null));
+        verify(playerRepository, never()).findById(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void patchPlayers_shouldReportInvalidTypedFieldAsBadRequest() {
+        // Arrange
+        Player existing = createTestPlayer("1", "Test", "Player");
+        Player valid = createTestPlayer("1", null, null);
+        valid.setDebut("2004-04-06");
+        Player invalid = createTestPlayer("2", null, null);
+        invalid.setDebut("April 2004");
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(playerRepository.findAllById(anyIterable())).thenReturn(List.of(existing));
+
+        // Act
+        List<BulkItemResult> results = playerService.patchPlayers(List.of(valid, invalid));
+
+        // Assert
+        assertEquals(List.of(200, 400), results.stream().map(BulkItemResult::getStatus).toList());
+        assertEquals("Debut must be an ISO date (yyyy-MM-dd)", results.get(1).getError());
+        assertEquals("2004-04-06", existing.getDebut());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void patchPlayer_shouldFailWithoutReading_whenVersionMovedOn() {
+        // Arrange
+        Player patch = createTestPlayer(null, null, "Renamed");
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(playerRepository.updateColumns(eq("1"), eq(Map.of("lastName", "Renamed")), eq(3L), anyLong())).thenReturn(0);
+        when(playerRepository.existsById("1")).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(PlayerVersionMismatchException.class, () -> playerService.patchPlayer("1", patch, 3L));
+        verify(playerRepository, never()).findById(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replacePlayer_shouldWriteEveryColumnInOneUpdate_andNotReadBack_whenVersionGiven() {
+        // Arrange
+        Player replacement = createTestPlayer(null, "Test", "Replaced");
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(playerRepository.updateColumns(eq("1"), anyMap(), eq(3L), anyLong())).thenReturn(1);
+
+        // Act
+        Player replaced = playerService.replacePlayer("1", replacement, 3L);
+
+        // Assert
+        ArgumentCaptor<Map<String, String>> changes = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Long> version = ArgumentCaptor.forClass(Long.class);
+        verify(playerRepository).updateColumns(eq("1"), changes.capture(), eq(3L), version.capture());
+        assertEquals(23, changes.getValue().size(), "Fields left out of a replacement should be cleared");
+        assertNull(changes.getValue().get("birthCity"));
+        assertEquals("1", replaced.getPlayerId());
+        assertTrue(version.getValue() > 3L, "The new version should come from PlayerVersions");
+        assertEquals(version.getValue(), replaced.getVersion());
+        verify(playerRepository, never()).findById(any());
+        assertEquals(List.of(replaced), published().getWritten());
+    }
+
+    /* the one PlayersWrittenEvent the write published after committing */
+    private PlayersWrittenEvent published() {
+        ArgumentCaptor<PlayersWrittenEvent> event = ArgumentCaptor.forClass(PlayersWrittenEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        return event.getValue();
+    }
+
+    private Player createValidPlayer(String id) {
+        Player player = createTestPlayer(id, "Test", "Player");
+        player.setBirthCountry("USA");
+        player.setBirthCity("Mobile");
+        return player;
+    }
+
     private Player createTestPlayer(String id, String firstName, String lastName) {
         Player player = new Player();
         player.setPlayerId(id);
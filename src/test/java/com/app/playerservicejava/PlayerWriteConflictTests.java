@@ -0,0 +1,85 @@
+package com.app.playerservicejava;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes that must not land: a POST for a playerId that is taken, and an If-Match ETag issued before a reload
+ * or before the player was deleted and created again.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PlayerWriteConflictTests {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @Test
+    void createPlayer_shouldConflict_andKeepTheExistingPlayer_whenIdIsTaken() throws Exception {
+        // Arrange
+        String existing = send(request("/v1/players/aaronha01").GET()).body();
+        String renamed = existing.replace("\"firstName\":\"Hank\"", "\"firstName\":\"Overwritten\"");
+
+        // Act
+        HttpResponse<String> created = send(json("/v1/players", "POST", renamed));
+
+        // Assert
+        assertEquals(409, created.statusCode());
+        assertEquals(existing, send(request("/v1/players/aaronha01").GET()).body(), "The existing row should be untouched");
+    }
+
+    @Test
+    void patchPlayer_shouldFailPrecondition_whenETagPredatesReload() throws Exception {
+        // Arrange
+        String first = send(json("/v1/players/aardsda01", "PATCH", "{\"firstName\":\"One\"}")).headers().firstValue("ETag").orElseThrow();
+        send(json("/v1/players/aardsda01", "PATCH", "{\"firstName\":\"Two\"}"));
+        assertEquals(200, send(request("/v1/admin/players/reload").POST(HttpRequest.BodyPublishers.noBody())).statusCode());
+        send(json("/v1/players/aardsda01", "PATCH", "{\"firstName\":\"Three\"}"));
+
+        // Act
+        HttpResponse<String> stale = send(json("/v1/players/aardsda01", "PATCH", "{\"firstName\":\"Stale\"}").header("If-Match", first));
+        String current = send(request("/v1/players/aardsda01").GET()).headers().firstValue("ETag").orElseThrow();
+        HttpResponse<String> fresh = send(json("/v1/players/aardsda01", "PATCH", "{\"firstName\":\"Fresh\"}").header("If-Match", current));
+
+        // Assert
+        assertEquals(412, stale.statusCode(), "A version from before the reload should not match a row written after it");
+        assertEquals(200, fresh.statusCode());
+    }
+
+    @Test
+    void patchPlayer_shouldFailPrecondition_whenETagPredatesDeleteAndCreate() throws Exception {
+        // Arrange
+        HttpResponse<String> before = send(request("/v1/players/ruthba01").GET());
+        String first = before.headers().firstValue("ETag").orElseThrow();
+        assertEquals(204, send(request("/v1/players/ruthba01").DELETE()).statusCode());
+        assertEquals(201, send(json("/v1/players", "POST", before.body())).statusCode());
+
+        // Act
+        HttpResponse<String> stale = send(json("/v1/players/ruthba01", "PATCH", "{\"firstName\":\"Stale\"}").header("If-Match", first));
+
+        // Assert
+        assertEquals(412, stale.statusCode(), "A version of the deleted player should not match the one created after it");
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(10));
+    }
+
+    private HttpRequest.Builder json(String path, String method, String body) {
+        return request(path).header("Content-Type", "application/json").method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+}
@@ -0,0 +1,37 @@
+package com.app.playerservicejava.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyInjectionPropertiesTests {
+
+    @Test
+    void latencyInjection_shouldBeOffByDefault() {
+        assertFalse(new LatencyInjectionProperties().isEnabled());
+    }
+
+    @Test
+    void sampleMillis_shouldStayWithinUniformBounds() {
+        LatencyInjectionProperties.Delay delay = new LatencyInjectionProperties.Delay();
+        delay.setMinMs(10);
+        delay.setMaxMs(20);
+
+        for (int i = 0; i < 1000; i++) {
+            long sample = delay.sampleMillis();
+            assertTrue(sample >= 10 && sample <= 20, "Uniform sample out of bounds: " + sample);
+        }
+    }
+
+    @Test
+    void sampleMillis_shouldClampExponentialToMax() {
+        LatencyInjectionProperties.Delay delay = new LatencyInjectionProperties.Delay();
+        delay.setDistribution(LatencyInjectionProperties.Distribution.EXPONENTIAL);
+        delay.setMeanMs(500);
+        delay.setMaxMs(600);
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(delay.sampleMillis() <= 600);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.app.playerservicejava.config;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RepositoryObservationAspectTests {
+
+    @Test
+    void observe_shouldTimeEachFinderByMethodName_andRecordFailures() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        PlayerRepository target = mock(PlayerRepository.class);
+        when(target.findByRetroId("aaroh101")).thenReturn(Optional.of(new Player()));
+        when(target.findByBats("X")).thenThrow(new IllegalStateException("boom"));
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new RepositoryObservationAspect(observationRegistry));
+        PlayerRepository repository = factory.getProxy();
+
+        // Act
+        Optional<Player> found = repository.findByRetroId("aaroh101");
+        repository.findByRetroId("aaroh101");
+        assertThrows(IllegalStateException.class, () -> repository.findByBats("X"));
+
+        // Assert
+        assertTrue(found.isPresent());
+        assertEquals(2, meterRegistry.get("players.repository").tag("method", "findByRetroId").timer().count());
+        assertEquals(1, meterRegistry.get("players.repository").tag("method", "findByBats")
+                .tag("error", "IllegalStateException").timer().count());
+    }
+}
@@ -0,0 +1,163 @@
+package com.app.playerservicejava.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Per-finder latency of the PLAYERS queries before (schema version 1: all VARCHAR, two indexes) and
+ * after the typed, indexed schema. Both databases hold Player.csv; the "after" one gets there by
+ * migrating the loaded "before" data, so the migration itself is exercised on real rows. The SQL is
+ * what Hibernate generates for each {@link PlayerRepository} finder, bound with the column's type.
+ *
+ * Run with {@code mvn test -Pbenchmark -Dtest=PlayerFinderBenchmark}.
+ */
+@Tag("benchmark")
+class PlayerFinderBenchmark {
+
+    private static final int WARMUP = 300;
+    private static final int ITERATIONS = 1000;
+    private static final String COLUMNS = "PLAYERID, BIRTHYEAR, BIRTHMONTH, BIRTHDAY, BIRTHCOUNTRY, BIRTHSTATE, BIRTHCITY,"
+            + " DEATHYEAR, DEATHMONTH, DEATHDAY, DEATHCOUNTRY, DEATHSTATE, DEATHCITY, NAMEFIRST, NAMELAST, NAMEGIVEN,"
+            + " WEIGHT, HEIGHT, BATS, THROWS, DEBUT, FINALGAME, RETROID, BBREFID";
+    private static final String SELECT = "SELECT " + COLUMNS + " FROM PLAYERS P ";
+
+    private record Finder(String name, String where, Object[] before, Object[] after) {}
+
+    @Test
+    void finders_BeforeAndAfterTypedSchema() throws Exception {
+        // Arrange
+        DataSource before = database("players-before", "1");
+        DataSource after = database("players-after", "1");
+        Flyway.configure().dataSource(after).load().migrate();
+        List<Finder> finders = List.of(
+                finder("findByPlayerId", "WHERE P.PLAYERID = ?", "aaronha01"),
+                finder("findByLastNameIgnoreCase", "WHERE UPPER(P.NAMELAST) = UPPER(?)", "Aaron"),
+                finder("findByFirstNameIgnoreCase", "WHERE UPPER(P.NAMEFIRST) = UPPER(?)", "Hank"),
+                finder("findByLastNameContainingIgnoreCase", "WHERE UPPER(P.NAMELAST) LIKE UPPER(?) ESCAPE ''", "%aar%"),
+                finder("findByFirstNameIgnoreCaseAndLastNameIgnoreCase", "WHERE UPPER(P.NAMEFIRST) = UPPER(?) AND UPPER(P.NAMELAST) = UPPER(?)", "Hank", "Aaron"),
+                new Finder("findByBirthYear", "WHERE P.BIRTHYEAR = ?", new Object[] { "1981" }, new Object[] { (short) 1981 }),
+                finder("findByBirthCountryIgnoreCase", "WHERE UPPER(P.BIRTHCOUNTRY) = UPPER(?)", "Japan"),
+                finder("findByBats", "WHERE P.BATS = ?", "B"),
+                finder("findByThrowStats", "WHERE P.THROWS = ?", "L"),
+                finder("findByRetroId", "WHERE P.RETROID = ?", "aaroh101"),
+                finder("findByBbrefId", "WHERE P.BBREFID = ?", "aaronha01"),
+                finder("findByPlayerIdGreaterThanOrderByPlayerIdAsc", "WHERE P.PLAYERID > ? ORDER BY P.PLAYERID FETCH FIRST 21 ROWS ONLY", "m"),
+                new Finder("findByBirthYearAndPlayerIdGreaterThanOrderByPlayerIdAsc",
+                        "WHERE P.BIRTHYEAR = ? AND P.PLAYERID > ? ORDER BY P.PLAYERID FETCH FIRST 21 ROWS ONLY",
+                        new Object[] { "1981", "b" }, new Object[] { (short) 1981, "b" }),
+                finder("findByLastNameContainingAfter",
+                        "WHERE LOWER(P.NAMELAST) LIKE LOWER(?) AND (P.NAMELAST > ? OR (P.NAMELAST = ? AND P.PLAYERID > ?))"
+                                + " ORDER BY P.NAMELAST, P.PLAYERID FETCH FIRST 21 ROWS ONLY", "%son%", "J", "J", ""),
+                // before: only correct while every year has four digits
+                new Finder("findByBirthYearBetween", "WHERE P.BIRTHYEAR BETWEEN ? AND ? ORDER BY P.BIRTHYEAR, P.PLAYERID FETCH FIRST 20 ROWS ONLY",
+                        new Object[] { "1900", "1910" }, new Object[] { (short) 1900, (short) 1910 }));
+
+        // Act
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-58s %12s %12s %12s %12s %8s", "finder", "before p50", "before p99", "after p50", "after p99", "rows"));
+        for (Finder finder : finders) {
+            long[] beforeNanos = measure(before, finder.where(), finder.before());
+            long[] afterNanos = measure(after, finder.where(), finder.after());
+            int rowsBefore = count(before, finder.where(), finder.before());
+            int rowsAfter = count(after, finder.where(), finder.after());
+            assertEquals(rowsBefore, rowsAfter, finder.name() + " should return the same rows on both schemas");
+            report.add(String.format("%-58s %10.1fus %10.1fus %10.1fus %10.1fus %8d", finder.name(),
+                    percentile(beforeNanos, 50), percentile(beforeNanos, 99),
+                    percentile(afterNanos, 50), percentile(afterNanos, 99), rowsAfter));
+        }
+
+        // Assert
+        report.forEach(System.out::println);
+        assertEquals(finders.size() + 1, report.size());
+    }
+
+    private static Finder finder(String name, String where, Object... parameters) {
+        return new Finder(name, where, parameters, parameters);
+    }
+
+    /* a fresh in-memory database at the given schema version, loaded with Player.csv as strings; H2
+       would otherwise hand back the previous result for an unchanged query and table */
+    private static DataSource database(String name, String version) throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "");
+        Flyway.configure().dataSource(dataSource).target(version).load().migrate();
+        try (Connection connection = dataSource.getConnection();
+             BufferedReader reader = Files.newBufferedReader(Path.of("Player.csv"), StandardCharsets.UTF_8);
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO PLAYERS (" + COLUMNS + ") VALUES ("
+                     + String.join(", ", Collections.nCopies(24, "?")) + ")")) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = Arrays.copyOf(line.split(",", -1), 24);
+                for (int i = 0; i < fields.length; i++) {
+                    insert.setString(i + 1, fields[i] == null ? "" : fields[i]);
+                }
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        return dataSource;
+    }
+
+    private static long[] measure(DataSource dataSource, String where, Object[] parameters) throws SQLException {
+        long[] nanos = new long[ITERATIONS];
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement query = connection.prepareStatement(SELECT + where)) {
+            for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+                long start = System.nanoTime();
+                run(query, parameters);
+                if (i >= WARMUP) {
+                    nanos[i - WARMUP] = System.nanoTime() - start;
+                }
+            }
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static int count(DataSource dataSource, String where, Object[] parameters) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement query = connection.prepareStatement(SELECT + where)) {
+            return run(query, parameters);
+        }
+    }
+
+    /* binds, executes and reads every column of every row, as entity hydration would */
+    private static int run(PreparedStatement query, Object[] parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            query.setObject(i + 1, parameters[i]);
+        }
+        int rows = 0;
+        try (ResultSet resultSet = query.executeQuery()) {
+            int columns = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                for (int column = 1; column <= columns; column++) {
+                    resultSet.getObject(column);
+                }
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        return sortedNanos[Math.min(sortedNanos.length - 1, sortedNanos.length * percentile / 100)] / 1_000.0;
+    }
+}
@@ -0,0 +1,259 @@
+package com.app.playerservicejava.repository;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerFilter;
+import com.app.playerservicejava.model.PlayerVersions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.sql.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class PlayerRepositoryTests {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void schema_ShouldStoreDatesAndMeasurementsTyped() {
+        // Act
+        Map<String, String> types = Map.of(
+                "BIRTHYEAR", columnType("BIRTHYEAR"),
+                "WEIGHT", columnType("WEIGHT"),
+                "DEBUT", columnType("DEBUT"),
+                "NAMELAST", columnType("NAMELAST"));
+
+        // Assert
+        assertEquals(Map.of("BIRTHYEAR", "SMALLINT", "WEIGHT", "SMALLINT", "DEBUT", "DATE", "NAMELAST", "CHARACTER VARYING"), types);
+    }
+
+    @Test
+    void findByBirthYearBetween_ShouldCompareNumerically() {
+        // Arrange
+        playerRepository.saveAll(List.of(
+                createTestPlayer("old01", "999", "2004-04-06"),
+                createTestPlayer("mid01", "1899", "1920-05-01"),
+                createTestPlayer("new01", "1981", "2004-04-06")));
+
+        // Act
+        List<Player> between = playerRepository.findByBirthYearBetween("950", "1900", PageRequest.of(0, 10, Sort.by("birthYear"))).getContent();
+
+        // Assert
+        assertEquals(List.of("old01", "mid01"), between.stream().map(Player::getLastName).toList(),
+                "As strings \"999\" would sort after \"1899\" and fall outside the range");
+    }
+
+    @Test
+    void finders_ShouldRoundTripStringApiThroughTypedColumns() {
+        // Arrange
+        playerRepository.saveAndFlush(createTestPlayer("aardsda01", "1981", "2004-04-06"));
+
+        // Act
+        List<Player> born = playerRepository.findByBirthYearAndPlayerIdGreaterThanOrderByPlayerIdAsc("1981", "", Limit.of(5));
+        Player loaded = playerRepository.findByRetroId("aardd001").orElseThrow();
+
+        // Assert
+        assertEquals(List.of("aardsda01"), born.stream().map(Player::getLastName).toList());
+        assertEquals("1981", loaded.getBirthYear());
+        assertEquals("2004-04-06", loaded.getDebut());
+        assertEquals("215", loaded.getWeight());
+        assertNull(loaded.getDeathYear());
+    }
+
+    @Test
+    void findAll_ShouldApplyEveryFilterCriterionInOneQuery() {
+        // Arrange
+        Player tall = createTestPlayer("tall01", "1985", "2006-04-02");
+        tall.setHeight("77");
+        tall.setBats("L");
+        Player short1 = createTestPlayer("short01", "1985", "2006-04-02");
+        short1.setHeight("68");
+        short1.setBats("L");
+        Player early = createTestPlayer("early01", "1985", "1999-09-01");
+        early.setHeight("77");
+        early.setBats("L");
+        playerRepository.saveAll(List.of(tall, short1, early));
+        PlayerFilter filter = new PlayerFilter();
+        filter.setBirthCountry("usa");
+        filter.setBats("L");
+        filter.setHeightFrom(70);
+        filter.setDebutYearFrom(2000);
+        filter.setBirthYearTo(1990);
+
+        // Act
+        List<Player> matched = playerRepository.findAll(PlayerSpecifications.matching(filter));
+
+        // Assert
+        assertEquals(List.of("tall01"), matched.stream().map(Player::getLastName).toList());
+    }
+
+    @Test
+    void findAll_ShouldSelectOnlyRequestedFields_WhenProjecting() {
+        // Arrange
+        playerRepository.saveAll(List.of(
+                createTestPlayer("b01", "1981", "2004-04-06"),
+                createTestPlayer("a01", "1981", "2004-04-06"),
+                createTestPlayer("c01", "1950", "1970-04-06")));
+        PlayerFilter filter = new PlayerFilter();
+        filter.setBirthYearFrom(1981);
+
+        // Act
+        Page<Map<String, Object>> page = playerRepository.findAll(PlayerSpecifications.matching(filter),
+                List.of("lastName", "birthYear"), PageRequest.of(0, 1, Sort.by("lastName")));
+
+        // Assert
+        assertEquals(2, page.getTotalElements());
+        assertEquals(List.of(Map.of("lastName", "a01", "birthYear", "1981")), page.getContent());
+        assertEquals(List.of("lastName", "birthYear"), List.copyOf(page.getContent().get(0).keySet()));
+    }
+
+    @Test
+    void schema_ShouldIndexEveryFinderColumn() {
+        // Act
+        List<String> indexed = jdbcTemplate.queryForList(
+                "SELECT DISTINCT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS WHERE TABLE_NAME = 'PLAYERS' AND ORDINAL_POSITION = 1",
+                String.class);
+
+        // Assert
+        assertTrue(indexed.containsAll(List.of("PLAYERID", "NAMELAST", "NAMEFIRST", "BIRTHYEAR", "BIRTHCOUNTRY",
+                "BATS", "THROWS", "RETROID", "BBREFID")), "Leading index columns: " + indexed);
+    }
+
+    @Test
+    void migrate_ShouldConvertLegacyVarcharRows() {
+        // Arrange
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:legacy-players;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        JdbcTemplate legacy = new JdbcTemplate(dataSource);
+        legacy.update("INSERT INTO PLAYERS (PLAYERID, BIRTHYEAR, DEATHYEAR, WEIGHT, DEBUT, FINALGAME, NAMELAST)"
+                + " VALUES ('aaronha01', '1934', '', ' 180 ', '1954-04-13', '', 'Aaron')");
+
+        // Act
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        // Assert
+        Map<String, Object> row = legacy.queryForMap("SELECT BIRTHYEAR, DEATHYEAR, WEIGHT, DEBUT, FINALGAME FROM PLAYERS");
+        assertEquals((short) 1934, ((Number) row.get("BIRTHYEAR")).shortValue());
+        assertNull(row.get("DEATHYEAR"));
+        assertEquals(180, ((Number) row.get("WEIGHT")).intValue());
+        assertEquals(Date.valueOf("1954-04-13"), row.get("DEBUT"));
+        assertNull(row.get("FINALGAME"));
+    }
+
+    @Test
+    void updateColumns_ShouldWriteOnlyTheGivenColumns_WhileTheVersionMatches() {
+        // Arrange
+        String id = playerRepository.saveAndFlush(createTestPlayer("aardsda01", "1981", "2004-04-06")).getPlayerId();
+        Map<String, String> changes = new LinkedHashMap<>();
+        changes.put("weight", "220");
+        changes.put("retroId", null);
+
+        // Act
+        int updated = playerRepository.updateColumns(id, changes, 0L, 7L);
+        int stale = playerRepository.updateColumns(id, Map.of("weight", "230"), 0L, 8L);
+        int missing = playerRepository.updateColumns("nobody99", Map.of("weight", "230"), null, 9L);
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT WEIGHT, RETROID, DEBUT, VERSION FROM PLAYERS WHERE PLAYERID = ?", id);
+        int staleDelete = playerRepository.deleteByIdAndVersion(id, 0L);
+        int deleted = playerRepository.deleteByIdAndVersion(id, 7L);
+
+        // Assert
+        assertEquals(List.of(1, 0, 0), List.of(updated, stale, missing));
+        assertEquals(220, ((Number) row.get("WEIGHT")).intValue(), "The converter should type the bound string");
+        assertNull(row.get("RETROID"));
+        assertEquals(Date.valueOf("2004-04-06"), row.get("DEBUT"), "Columns not named should be left alone");
+        assertEquals(7L, ((Number) row.get("VERSION")).longValue());
+        assertEquals(List.of(0, 1), List.of(staleDelete, deleted));
+    }
+
+    @Test
+    void findByLastNameContainingAfter_ShouldMatchWildcardsLiterally_LikeTheFirstPage() {
+        // Arrange
+        playerRepository.saveAll(List.of(
+                createTestPlayer("De_Leon", "1980", "2004-04-06"),
+                createTestPlayer("Deleon", "1981", "2004-04-06"),
+                createTestPlayer("Smith", "1982", "2004-04-06")));
+
+        // Act
+        List<Player> firstPage = playerRepository.findByLastNameContainingIgnoreCase("_", PageRequest.of(0, 10)).getContent();
+        List<Player> afterCursor = playerRepository.findByLastNameContainingAfter("_", "", "", Limit.of(10));
+        List<Player> percent = playerRepository.findByLastNameContainingAfter("%", "", "", Limit.of(10));
+
+        // Assert
+        assertEquals(List.of("De_Leon"), firstPage.stream().map(Player::getLastName).toList());
+        assertEquals(List.of("De_Leon"), afterCursor.stream().map(Player::getLastName).toList());
+        assertEquals(List.of(), percent);
+    }
+
+    @Test
+    void flush_ShouldWriteOnlyChangedColumns_AndFail_WhenTheVersionMovedOn() {
+        // Arrange
+        Player player = createTestPlayer("aardsda01", "1981", "2004-04-06");
+        player.setVersion(PlayerVersions.next());
+        playerRepository.insert(List.of(player));
+        jdbcTemplate.update("UPDATE PLAYERS SET NAMELAST = 'Concurrent', VERSION = ? WHERE PLAYERID = ?",
+                PlayerVersions.next(), player.getPlayerId());
+
+        // Act
+        player.setWeight("230");
+        player.setVersion(PlayerVersions.next());
+
+        // Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> playerRepository.flush());
+    }
+
+    @Test
+    void insert_ShouldKeepTheClientsId_AndRejectOneThatIsTaken() {
+        // Arrange
+        Player first = createTestPlayer("aardsda01", "1981", "2004-04-06");
+        first.setPlayerId("aardsda01");
+        Player generated = createTestPlayer("aaronha01", "1934", "1954-04-13");
+        Player duplicate = createTestPlayer("impostor", "1990", "2010-04-06");
+        duplicate.setPlayerId("aardsda01");
+
+        // Act
+        playerRepository.insert(List.of(first, generated));
+
+        // Assert
+        assertEquals("aardsda01", jdbcTemplate.queryForObject("SELECT PLAYERID FROM PLAYERS WHERE NAMELAST = 'aardsda01'", String.class));
+        assertNotNull(generated.getPlayerId(), "A player sent without an id should get one");
+        assertThrows(DataIntegrityViolationException.class, () -> playerRepository.insert(List.of(duplicate)));
+    }
+
+    private String columnType(String column) {
+        return jdbcTemplate.queryForObject(
+                "SELECT DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = 'PLAYERS' AND COLUMN_NAME = ?",
+                String.class, column);
+    }
+
+    /* ids are generated on save, so the marker goes in lastName */
+    private static Player createTestPlayer(String marker, String birthYear, String debut) {
+        Player player = new Player();
+        player.setBirthYear(birthYear);
+        player.setDebut(debut);
+        player.setWeight("215");
+        player.setBirthCountry("USA");
+        player.setBirthCity("Denver");
+        player.setFirstName("David");
+        player.setLastName(marker);
+        player.setRetroId(marker.equals("aardsda01") ? "aardd001" : null);
+        return player;
+    }
+}
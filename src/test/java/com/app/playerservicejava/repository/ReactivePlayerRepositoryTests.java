@@ -0,0 +1,74 @@
+package com.app.playerservicejava.repository;
+
+import com.app.playerservicejava.model.Player;
+import io.r2dbc.spi.ConnectionFactories;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactivePlayerRepositoryTests {
+
+    private static final ReactivePlayerRepository repository = new ReactivePlayerRepository();
+
+    @BeforeAll
+    static void setUp() {
+        // the same in-memory database over JDBC (schema and rows) and R2DBC (reads), as in the reactive profile
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:reactive-players;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO PLAYERS (PLAYERID, BIRTHYEAR, WEIGHT, DEBUT, BIRTHCOUNTRY, BIRTHCITY, NAMEFIRST, NAMELAST)"
+                + " VALUES ('aaronha01', 1934, 180, DATE '1954-04-13', 'USA', 'Mobile', 'Hank', 'Aaron')");
+        jdbc.update("INSERT INTO PLAYERS (PLAYERID, BIRTHYEAR, BIRTHCOUNTRY, BIRTHCITY, NAMEFIRST, NAMELAST)"
+                + " VALUES ('aaronto01', 1939, 'USA', 'Mobile', 'Tommie', 'Aaron')");
+        jdbc.update("INSERT INTO PLAYERS (PLAYERID, BIRTHYEAR, BIRTHCOUNTRY, BIRTHCITY, NAMEFIRST, NAMELAST)"
+                + " VALUES ('percent01', 1990, 'USA', 'Nowhere', 'Test', 'Fifty%Off')");
+        DatabaseClient databaseClient = DatabaseClient.create(ConnectionFactories.get("r2dbc:h2:mem://sa@/reactive-players"));
+        ReflectionTestUtils.setField(repository, "databaseClient", databaseClient);
+    }
+
+    @Test
+    void findById_ShouldMapTypedColumnsToTheApiStrings() {
+        // Act
+        Player aaron = repository.findById("aaronha01").block();
+        Player missing = repository.findById("nobody99").block();
+
+        // Assert
+        assertNotNull(aaron);
+        assertEquals("1934", aaron.getBirthYear());
+        assertEquals("180", aaron.getWeight());
+        assertEquals("1954-04-13", aaron.getDebut());
+        assertEquals("Hank", aaron.getFirstName());
+        assertNull(aaron.getDeathYear());
+        assertEquals(0L, aaron.getVersion());
+        assertNull(missing);
+    }
+
+    @Test
+    void search_ShouldPageInPlayerIdOrder_AndTakeWildcardsLiterally() {
+        // Act
+        List<String> all = repository.findAll().map(Player::getPlayerId).collectList().block();
+        List<String> secondPage = repository.findByLastNameContaining("AAR", 1, 1).map(Player::getPlayerId).collectList().block();
+        Long aarons = repository.countByLastNameContaining("aar").block();
+        List<String> percent = repository.findByLastNameContaining("%", 0, 10).map(Player::getPlayerId).collectList().block();
+        Long underscore = repository.countByLastNameContaining("_").block();
+        List<String> born = repository.findByBirthYearBetween(1935, 1995, 0, 10).map(Player::getPlayerId).collectList().block();
+        List<String> byId = repository.findAllById(List.of("percent01", "aaronha01")).map(Player::getPlayerId).sort().collectList().block();
+
+        // Assert
+        assertEquals(List.of("aaronha01", "aaronto01", "percent01"), all);
+        assertEquals(List.of("aaronto01"), secondPage);
+        assertEquals(2L, aarons);
+        assertEquals(List.of("percent01"), percent);
+        assertEquals(0L, underscore);
+        assertEquals(List.of("aaronto01", "percent01"), born);
+        assertEquals(List.of("aaronha01", "percent01"), byId);
+    }
+}
@@ -0,0 +1,118 @@
+package com.app.playerservicejava.service;
+
+import com.app.playerservicejava.config.CacheConfiguration;
+import com.app.playerservicejava.model.Player;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.ETag;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerJsonCacheTests {
+
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfiguration.PLAYERS_CACHE, CacheConfiguration.PLAYER_JSON_CACHE);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void get_ShouldEncodeOnce_AndChangeEtagOnlyWhenTheBodyChanges() throws Exception {
+        // Arrange
+        PlayerJsonCache cache = newCache();
+        Player player = createTestPlayer("aaronha01", "180");
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Optional<Player>> loader = id -> {
+            loads.incrementAndGet();
+            return Optional.of(player);
+        };
+
+        // Act
+        PlayerJsonCache.Body first = cache.get("aaronha01", loader).orElseThrow();
+        PlayerJsonCache.Body second = cache.get("aaronha01", loader).orElseThrow();
+        cacheManager.getCache(CacheConfiguration.PLAYER_JSON_CACHE).evict("aaronha01");
+        PlayerJsonCache.Body unchanged = cache.get("aaronha01", loader).orElseThrow();
+        player.setWeight("181");
+        cache.clear();
+        PlayerJsonCache.Body changed = cache.get("aaronha01", loader).orElseThrow();
+
+        // Assert
+        assertEquals(3, loads.get());
+        assertSame(first, second);
+        assertArrayEquals(objectMapper.writeValueAsBytes(createTestPlayer("aaronha01", "180")), first.getJson());
+        assertTrue(first.getEtag().matches("\"0-[0-9a-f]{32}\""), first.getEtag());
+        assertEquals(first.getEtag(), unchanged.getEtag(), "Same bytes should give the same strong ETag");
+        assertNotEquals(first.getEtag(), changed.getEtag());
+        assertNotEquals(first.getEtag(), first.getGzipEtag());
+    }
+
+    @Test
+    void get_ShouldGzipTheSameBytes_AndNotCacheAbsentPlayers() throws Exception {
+        // Arrange
+        PlayerJsonCache cache = newCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        PlayerJsonCache.Body body = cache.get("aaronha01", id -> Optional.of(createTestPlayer(id, "180"))).orElseThrow();
+        Optional<PlayerJsonCache.Body> absent = cache.get("nobody99", id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.get("nobody99", id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // Assert
+        try (GZIPInputStream unzipped = new GZIPInputStream(new ByteArrayInputStream(body.getGzip()))) {
+            assertArrayEquals(body.getJson(), unzipped.readAllBytes());
+        }
+        assertSame(body.getGzip(), body.getGzip(), "The gzip encoding should be made once");
+        assertTrue(absent.isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void version_ShouldReadTheVersionBackFromEitherEncodingsEtag() {
+        // Arrange
+        Player player = createTestPlayer("aaronha01", "180");
+        player.setVersion(42);
+        PlayerJsonCache.Body body = newCache().encode(player);
+
+        // Act
+        Long plain = PlayerJsonCache.version(ETag.parse(body.getEtag()).get(0));
+        Long gzip = PlayerJsonCache.version(ETag.parse(body.getGzipEtag()).get(0));
+        Long weak = PlayerJsonCache.version(ETag.parse("W/" + body.getEtag()).get(0));
+        Long foreign = PlayerJsonCache.version(ETag.parse("\"42\"").get(0));
+
+        // Assert
+        assertEquals(42L, plain);
+        assertEquals(42L, gzip);
+        assertNull(weak, "If-Match compares strongly");
+        assertNull(foreign);
+    }
+
+    private PlayerJsonCache newCache() {
+        PlayerJsonCache cache = new PlayerJsonCache();
+        ReflectionTestUtils.setField(cache, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(cache, "objectMapper", objectMapper);
+        return cache;
+    }
+
+    private static Player createTestPlayer(String playerId, String weight) {
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setFirstName("Hank");
+        player.setLastName("Aaron");
+        player.setBirthCountry("USA");
+        player.setBirthCity("Mobile");
+        player.setWeight(weight);
+        return player;
+    }
+}
@@ -0,0 +1,190 @@
+package com.app.playerservicejava.service.analytics;
+
+import com.app.playerservicejava.exception.InvalidStatsQueryException;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.stats.PlayerGroupStats;
+import com.app.playerservicejava.model.stats.PlayerHistogram;
+import com.app.playerservicejava.model.stats.PlayerStatsFilter;
+import com.app.playerservicejava.repository.PlayerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlayerAnalyticsTests {
+
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+
+    @Test
+    void groupBy_ShouldCountAndAveragePerValue_WhenSingleDimension() {
+        // Arrange
+        PlayerAnalytics analytics = newAnalytics(List.of(
+                createTestPlayer("aaronha01", "1934", "USA", "R", "R", "72", "180"),
+                createTestPlayer("ruthba01", "1895", "USA", "L", "L", "74", "215"),
+                createTestPlayer("ichirsu01", "1973", "Japan", "L", "R", "71", ""),
+                createTestPlayer("ghost01", "", null, null, null, "", "")));
+
+        // Act
+        PlayerGroupStats stats = analytics.groupBy(List.of(PlayerAnalytics.Dimension.BIRTH_COUNTRY), null, 100);
+
+        // Assert
+        assertEquals(4, stats.getMatched());
+        assertEquals(List.of(List.of("USA")), stats.getGroups().subList(0, 1).stream().map(PlayerGroupStats.Group::getKey).toList());
+        PlayerGroupStats.Group usa = stats.getGroups().get(0);
+        assertEquals(2, usa.getCount());
+        assertEquals(73.0, usa.getAvgHeight());
+        assertEquals(197.5, usa.getAvgWeight());
+        PlayerGroupStats.Group japan = find(stats, "Japan");
+        assertNull(japan.getAvgWeight(), "Unknown weights should not count towards the average");
+        assertEquals(1, find(stats, (String) null).getCount(), "Players without a country form their own group");
+    }
+
+    @Test
+    void groupBy_ShouldSplitByPairAndApplyFilters_WhenTwoDimensions() {
+        // Arrange
+        PlayerAnalytics analytics = newAnalytics(List.of(
+                createTestPlayer("a", "1980", "USA", "R", "R", "72", "180"),
+                createTestPlayer("b", "1985", "usa", "L", "R", "72", "180"),
+                createTestPlayer("c", "1990", "USA", "L", "R", "72", "180"),
+                createTestPlayer("d", "1990", "USA", "L", "L", "72", "180"),
+                createTestPlayer("e", "1990", "Japan", "L", "R", "72", "180")));
+        PlayerStatsFilter filter = new PlayerStatsFilter("usa", null, null, 1981, 1990);
+
+        // Act
+        PlayerGroupStats stats = analytics.groupBy(List.of(PlayerAnalytics.Dimension.BATS, PlayerAnalytics.Dimension.THROWS), filter, 100);
+        PlayerGroupStats decades = analytics.groupBy(List.of(PlayerAnalytics.Dimension.BIRTH_DECADE), null, 100);
+
+        // Assert
+        assertEquals(3, stats.getMatched(), "Country should match case-insensitively and years inclusively");
+        assertEquals(2, find(stats, "L", "R").getCount());
+        assertEquals(1, find(stats, "L", "L").getCount());
+        assertEquals(List.of("1990", "1980"), decades.getGroups().stream().map(group -> group.getKey().get(0)).toList());
+        assertEquals(List.of(3L, 2L), decades.getGroups().stream().map(PlayerGroupStats.Group::getCount).toList());
+    }
+
+    @Test
+    void groupBy_ShouldReturnNothing_WhenFilterValueNeverOccurs() {
+        // Arrange
+        PlayerAnalytics analytics = newAnalytics(List.of(createTestPlayer("a", "1980", "USA", "R", "R", "72", "180")));
+
+        // Act
+        PlayerGroupStats stats = analytics.groupBy(List.of(PlayerAnalytics.Dimension.BATS), new PlayerStatsFilter("Atlantis", null, null, null, null), 100);
+
+        // Assert
+        assertEquals(0, stats.getMatched());
+        assertTrue(stats.getGroups().isEmpty());
+    }
+
+    @Test
+    void histogram_ShouldBucketValuesAndReportExactBounds() {
+        // Arrange
+        PlayerAnalytics analytics = newAnalytics(List.of(
+                createTestPlayer("a", "1980", "USA", "R", "R", "69", "171"),
+                createTestPlayer("b", "1980", "USA", "R", "R", "70", "180"),
+                createTestPlayer("c", "1980", "USA", "R", "R", "74", "199"),
+                createTestPlayer("d", "1980", "USA", "R", "R", "", "")));
+
+        // Act
+        PlayerHistogram histogram = analytics.histogram(PlayerAnalytics.Measure.WEIGHT, null, null);
+
+        // Assert
+        assertEquals(3, histogram.getCount());
+        assertEquals(1, histogram.getMissing());
+        assertEquals(171, histogram.getMin());
+        assertEquals(199, histogram.getMax());
+        assertEquals(550 / 3.0, histogram.getMean(), 1e-9);
+        assertEquals(List.of(170, 180, 190), histogram.getBuckets().stream().map(PlayerHistogram.Bucket::getFrom).toList());
+        assertEquals(List.of(1L, 1L, 1L), histogram.getBuckets().stream().map(PlayerHistogram.Bucket::getCount).toList());
+    }
+
+    @Test
+    void putAndRemove_ShouldBeVisibleToTheNextQuery() {
+        // Arrange
+        PlayerAnalytics analytics = newAnalytics(List.of(
+                createTestPlayer("a", "1980", "USA", "R", "R", "72", "180"),
+                createTestPlayer("b", "1980", "USA", "R", "R", "72", "180")));
+
+        // Act
+        analytics.remove("a");
+        analytics.put(createTestPlayer("b", "1980", "Canada", "R", "R", "72", "180"));
+        analytics.put(createTestPlayer("c", "1980", "Cuba", "R", "R", "72", "180"));
+
+        // Assert
+        PlayerGroupStats stats = analytics.groupBy(List.of(PlayerAnalytics.Dimension.BIRTH_COUNTRY), null, 100);
+        assertEquals(2, analytics.size());
+        assertEquals(2, stats.getMatched());
+        assertEquals(List.of(List.of("Canada"), List.of("Cuba")), stats.getGroups().stream().map(PlayerGroupStats.Group::getKey).sorted((x, y) -> x.get(0).compareTo(y.get(0))).toList());
+    }
+
+    @Test
+    void groupBy_ShouldMatchNaiveCount_WhenScanIsSplitAcrossChunks() {
+        // Arrange
+        Random random = new Random(42);
+        String[] countries = { "USA", "D.R.", "Venezuela", "Canada", "Cuba", "Japan" };
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < PlayerAnalytics.CHUNK * 12 + 7; i++) {
+            players.add(createTestPlayer("p" + i, String.valueOf(1850 + random.nextInt(150)), countries[random.nextInt(countries.length)],
+                    random.nextBoolean() ? "R" : "L", "R", String.valueOf(66 + random.nextInt(12)), String.valueOf(150 + random.nextInt(100))));
+        }
+        PlayerAnalytics analytics = newAnalytics(players);
+        Map<String, Long> expected = players.stream()
+                .filter(player -> Integer.parseInt(player.getBirthYear()) >= 1900)
+                .collect(Collectors.groupingBy(Player::getBirthCountry, TreeMap::new, Collectors.counting()));
+
+        // Act
+        PlayerGroupStats stats = analytics.groupBy(List.of(PlayerAnalytics.Dimension.BIRTH_COUNTRY),
+                new PlayerStatsFilter(null, null, null, 1900, null), 100);
+
+        // Assert
+        Map<String, Long> actual = stats.getGroups().stream()
+                .collect(Collectors.toMap(group -> group.getKey().get(0), PlayerGroupStats.Group::getCount, Long::sum, TreeMap::new));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void fromParam_ShouldRejectUnknownNames() {
+        assertEquals(PlayerAnalytics.Dimension.THROWS, PlayerAnalytics.Dimension.fromParam("throws"));
+        assertThrows(InvalidStatsQueryException.class, () -> PlayerAnalytics.Dimension.fromParam("salary"));
+        assertThrows(InvalidStatsQueryException.class, () -> PlayerAnalytics.Measure.fromParam("salary"));
+    }
+
+    private PlayerAnalytics newAnalytics(List<Player> players) {
+        PlayerAnalytics analytics = new PlayerAnalytics();
+        ReflectionTestUtils.setField(analytics, "playerRepository", playerRepository);
+        ReflectionTestUtils.setField(analytics, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(analytics, "enabled", true);
+        when(playerRepository.streamAll()).thenReturn(Stream.of(players.toArray(new Player[0])));
+        analytics.build();
+        return analytics;
+    }
+
+    private static PlayerGroupStats.Group find(PlayerGroupStats stats, String... key) {
+        List<String> wanted = Arrays.asList(key);
+        return stats.getGroups().stream().filter(group -> group.getKey().equals(wanted)).findFirst().orElseThrow();
+    }
+
+    private static Player createTestPlayer(String id, String birthYear, String country, String bats, String throwStats,
+                                           String height, String weight) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setBirthYear(birthYear);
+        player.setBirthCountry(country);
+        player.setBats(bats);
+        player.setThrowStats(throwStats);
+        player.setHeight(height);
+        player.setWeight(weight);
+        player.setDebut(birthYear.isEmpty() ? "" : (Integer.parseInt(birthYear) + 22) + "-04-01");
+        return player;
+    }
+}
@@ -0,0 +1,131 @@
+package com.app.playerservicejava.service.changes;
+
+import com.app.playerservicejava.exception.ChangeCursorExpiredException;
+import com.app.playerservicejava.model.PlayerChange;
+import com.app.playerservicejava.repository.PlayerChangeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlayerChangeFeedTests {
+
+    private final PlayerChangeRepository playerChangeRepository = mock(PlayerChangeRepository.class);
+    private final PlayerChangeFeed feed = new PlayerChangeFeed();
+
+    @BeforeEach
+    void setUp() {
+        // an empty log
+        when(playerChangeRepository.findFirstSeq()).thenReturn(null);
+        when(playerChangeRepository.findLastSeq()).thenReturn(0L);
+        ReflectionTestUtils.setField(feed, "playerChangeRepository", playerChangeRepository);
+        ReflectionTestUtils.setField(feed, "meterRegistry", new SimpleMeterRegistry());
+        feed.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.stop();
+    }
+
+    @Test
+    void completed_ShouldPublishOnlyUpToTheOldestChangeStillInFlight() throws Exception {
+        // Arrange
+        long head = feed.head();
+        List<Long> received = new CopyOnWriteArrayList<>();
+        feed.subscribe(null, listener(received, new CountDownLatch(0), new CountDownLatch(1)));
+        PlayerChange first = change(feed.allocate());
+        PlayerChange second = change(feed.allocate());
+        PlayerChange third = change(feed.allocate());
+
+        // Act
+        feed.completed(List.of(second), true);
+        long whileFirstInFlight = feed.head();
+        feed.completed(List.of(first), false);
+        long afterRollback = feed.head();
+        feed.completed(List.of(third), true);
+
+        // Assert
+        assertEquals(head, whileFirstInFlight, "Nothing may be published past a change that can still commit");
+        assertEquals(second.getSeq(), afterRollback);
+        assertEquals(third.getSeq(), feed.head());
+        waitFor(() -> received.size() == 2);
+        assertEquals(List.of(second.getSeq(), third.getSeq()), received);
+    }
+
+    @Test
+    void changesSince_ShouldAnswer410_ForCursorsTheLogDoesNotCover() {
+        // Arrange
+        long head = feed.head();
+
+        // Act & Assert
+        assertThrows(ChangeCursorExpiredException.class, () -> feed.changesSince(0, 10), "A cursor from before a restart");
+        assertThrows(ChangeCursorExpiredException.class, () -> feed.changesSince(head + 1, 10), "A cursor never handed out");
+        assertTrue(feed.changesSince(head, 10).getChanges().isEmpty());
+        verifyNoMoreInteractions(ignoreStubs(playerChangeRepository));
+    }
+
+    @Test
+    void subscribe_ShouldCloseASubscriberThatFallsBehind() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(feed, "subscriberBuffer", 1);
+        List<Long> received = new CopyOnWriteArrayList<>();
+        CountDownLatch unblock = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        feed.subscribe(null, listener(received, unblock, closed));
+
+        // Act
+        feed.completed(List.of(change(feed.allocate())), true);
+        waitFor(() -> received.size() == 1);
+        feed.completed(List.of(change(feed.allocate())), true);
+        feed.completed(List.of(change(feed.allocate())), true);
+        unblock.countDown();
+
+        // Assert
+        assertTrue(closed.await(5, TimeUnit.SECONDS), "The subscriber should be told to reconnect");
+        assertEquals(1, received.size(), "Nothing is sent once the subscription has overflowed");
+    }
+
+    /* records each seq, then waits for unblock before returning */
+    private static PlayerChangeListener listener(List<Long> received, CountDownLatch unblock, CountDownLatch closed) {
+        return new PlayerChangeListener() {
+            @Override
+            public void onChange(PlayerChange change) {
+                received.add(change.getSeq());
+                try {
+                    unblock.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void onClosed() {
+                closed.countDown();
+            }
+        };
+    }
+
+    private static PlayerChange change(long seq) {
+        return new PlayerChange(seq, PlayerChange.Operation.UPDATE, "aaronha01", 1L, Instant.now(), "{}");
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean(), "Condition not reached in time");
+    }
+}
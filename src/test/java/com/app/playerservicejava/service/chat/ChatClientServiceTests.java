@@ -0,0 +1,218 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.model.chat.ChatPriority;
+import com.app.playerservicejava.model.chat.ChatRequest;
+import com.app.playerservicejava.model.chat.CachedCompletion;
+import com.app.playerservicejava.model.chat.ChatStreamSummary;
+import com.app.playerservicejava.service.chat.backend.ChatBackendRouter;
+import com.app.playerservicejava.service.chat.cache.CompletionCache;
+import com.app.playerservicejava.service.chat.dispatch.ChatDispatcher;
+import com.app.playerservicejava.service.chat.dispatch.ModelLane;
+import io.github.ollama4j.OllamaAPI;
+import io.github.ollama4j.models.OllamaResult;
+import io.github.ollama4j.models.generate.OllamaStreamHandler;
+import io.github.ollama4j.utils.Options;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatClientServiceTests {
+
+    @Mock
+    private ChatBackendRouter chatBackendRouter;
+
+    /* the client the router hands to each call */
+    @Mock
+    private OllamaAPI ollamaAPI;
+
+    @Mock
+    private PlayerContextRetriever playerContextRetriever;
+
+    @Mock
+    private CompletionCache completionCache;
+
+    @Mock
+    private ChatDispatcher chatDispatcher;
+
+    @Mock
+    private ModelCatalog modelCatalog;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    @Spy
+    private MockEnvironment environment = new MockEnvironment();
+
+    @InjectMocks
+    private ChatClientService chatClientService;
+
+    @BeforeEach
+    void setUp() {
+        chatClientService.initStreamExecutor();
+    }
+
+    private void routeTo(OllamaAPI api) throws Exception {
+        when(chatBackendRouter.call(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<ChatBackendRouter.BackendCall<?>>getArgument(1).call(api));
+    }
+
+    @Test
+    void buildPrompt_ShouldPrependRetrievedPlayers() {
+        // Arrange
+        String context = "ruthba01 | Babe Ruth\n";
+
+        // Act
+        String prompt = chatClientService.buildPrompt("Who was Babe Ruth?", context);
+
+        // Assert
+        assertTrue(prompt.indexOf("ruthba01 | Babe Ruth") < prompt.indexOf("Who was Babe Ruth?"));
+    }
+
+    @Test
+    void chat_ShouldPassModelAndOptionsThrough() throws Exception {
+        // Arrange
+        when(playerContextRetriever.retrieve(anyString())).thenReturn("");
+        CompletionCache.Lookup miss = mock(CompletionCache.Lookup.class);
+        when(miss.getId()).thenReturn("key");
+        when(completionCache.lookup("llama3", Map.of("temperature", 0.2), "", "Hi")).thenReturn(miss);
+        when(chatDispatcher.execute(eq("llama3"), eq(ChatPriority.NORMAL), eq("key"), any()))
+                .thenAnswer(invocation -> invocation.<ChatDispatcher.Generation>getArgument(3).generate());
+        routeTo(ollamaAPI);
+        when(ollamaAPI.generate(eq("llama3"), eq("Hi\n"), eq(false), argThat((Options options) ->
+                Map.of("temperature", 0.2).equals(options.getOptionsMap()))))
+                .thenReturn(new OllamaResult("Hello", 1, 200));
+
+        // Act
+        String answer = chatClientService.chat(new ChatRequest("llama3", "Hi", Map.of("temperature", 0.2)));
+
+        // Assert
+        assertEquals("Hello", answer);
+        verify(completionCache).store(eq(miss), eq("Hello"), anyLong());
+    }
+
+    @Test
+    void chat_ShouldAnswerFromCache_WithoutCallingOllama() throws Exception {
+        // Arrange
+        when(playerContextRetriever.retrieve(anyString())).thenReturn("");
+        when(chatBackendRouter.defaultModel()).thenReturn("tinyllama");
+        CompletionCache.Lookup hit = mock(CompletionCache.Lookup.class);
+        when(hit.getHit()).thenReturn(new CachedCompletion("id", "scope", "tinyllama", "Hi", "Cached hello", 1500, 0, null));
+        when(completionCache.lookup(anyString(), anyMap(), anyString(), anyString())).thenReturn(hit);
+
+        // Act
+        String answer = chatClientService.chat(new ChatRequest(null, "Hi", null));
+
+        // Assert
+        assertEquals("Cached hello", answer);
+        verify(chatBackendRouter, never()).call(anyString(), any());
+    }
+
+    @Test
+    void streamChat_ShouldForwardDeltasOfAccumulatedText() throws Exception {
+        // Arrange
+        when(playerContextRetriever.retrieve(anyString())).thenReturn("");
+        ModelLane.Ticket ticket = mock(ModelLane.Ticket.class);
+        when(chatDispatcher.admit(anyString(), any())).thenReturn(ticket);
+        when(chatBackendRouter.defaultModel()).thenReturn("tinyllama");
+        routeTo(ollamaAPI);
+        when(ollamaAPI.generate(anyString(), anyString(), eq(false), any(Options.class), any(OllamaStreamHandler.class)))
+                .thenAnswer(invocation -> {
+                    OllamaStreamHandler handler = invocation.getArgument(4);
+                    handler.accept("Base");
+                    handler.accept("Baseball");
+                    handler.accept("Baseball");
+                    handler.accept("Baseball is fun");
+                    return null;
+                });
+        RecordingListener listener = new RecordingListener();
+
+        // Act
+        chatClientService.streamChat(new ChatRequest(null, "Tell me a story", null), listener).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of("Base", "ball", " is fun"), listener.tokens);
+        assertNotNull(listener.summary);
+        assertEquals(3, listener.summary.getChunks());
+        assertEquals(1, meterRegistry.get("chat.stream.time_to_first_token").timer().count());
+        assertEquals(1, meterRegistry.get("chat.stream.tokens_per_second").summary().count());
+        verify(ticket).await();
+        verify(ticket).release();
+    }
+
+    @Test
+    void streamChat_ShouldAbortUpstream_WhenListenerIsCancelled() throws Exception {
+        // Arrange
+        when(playerContextRetriever.retrieve(anyString())).thenReturn("");
+        ModelLane.Ticket ticket = mock(ModelLane.Ticket.class);
+        when(chatDispatcher.admit(anyString(), any())).thenReturn(ticket);
+        when(chatBackendRouter.defaultModel()).thenReturn("tinyllama");
+        routeTo(ollamaAPI);
+        List<String> reached = new ArrayList<>();
+        when(ollamaAPI.generate(anyString(), anyString(), eq(false), any(Options.class), any(OllamaStreamHandler.class)))
+                .thenAnswer(invocation -> {
+                    OllamaStreamHandler handler = invocation.getArgument(4);
+                    handler.accept("one");
+                    handler.accept("one two");
+                    reached.add("end");
+                    return null;
+                });
+        RecordingListener listener = new RecordingListener();
+        listener.cancelAfterFirst = true;
+
+        // Act
+        chatClientService.streamChat(new ChatRequest(null, "Tell me a story", null), listener).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of("one"), listener.tokens);
+        assertTrue(reached.isEmpty());
+        assertNull(listener.summary);
+        assertEquals(1.0, meterRegistry.get("chat.stream.cancelled").counter().count());
+    }
+
+    private static class RecordingListener implements ChatStreamListener {
+        private final List<String> tokens = new ArrayList<>();
+        private ChatStreamSummary summary;
+        private boolean cancelAfterFirst;
+
+        @Override
+        public void onToken(String text) {
+            tokens.add(text);
+        }
+
+        @Override
+        public void onComplete(ChatStreamSummary summary) {
+            this.summary = summary;
+        }
+
+        @Override
+        public void onError(Exception e) {
+            fail(e);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelAfterFirst && !tokens.isEmpty();
+        }
+    }
+}
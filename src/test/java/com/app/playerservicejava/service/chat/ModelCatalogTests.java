@@ -0,0 +1,140 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.config.ChatDispatchProperties;
+import com.app.playerservicejava.config.ChatRouterProperties;
+import com.app.playerservicejava.exception.NoChatBackendException;
+import com.app.playerservicejava.exception.UnknownChatModelException;
+import com.app.playerservicejava.service.chat.backend.ChatBackendRouter;
+import io.github.ollama4j.models.Model;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ModelCatalogTests {
+
+    private final ChatBackendRouter chatBackendRouter = mock(ChatBackendRouter.class);
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+
+    @Test
+    void snapshot_ShouldServeFromMemory_WhenFresh() throws Exception {
+        // Arrange
+        ModelCatalog catalog = newCatalog(Duration.ofMinutes(5));
+        when(chatBackendRouter.listModels()).thenReturn(List.of(model("tinyllama:latest", "abc")));
+        catalog.snapshot();
+
+        // Act
+        ModelCatalog.Snapshot snapshot = catalog.snapshot();
+
+        // Assert
+        assertEquals("tinyllama:latest", snapshot.getModels().get(0).getName());
+        verify(chatBackendRouter, times(1)).listModels();
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    void snapshot_ShouldReturnStaleListAndRefreshInBackground_WhenOlderThanInterval() throws Exception {
+        // Arrange
+        ModelCatalog catalog = newCatalog(Duration.ZERO);
+        when(chatBackendRouter.listModels()).thenReturn(List.of(model("tinyllama:latest", "abc")));
+        ModelCatalog.Snapshot first = catalog.snapshot();
+
+        // Act
+        ModelCatalog.Snapshot second = catalog.snapshot();
+
+        // Assert
+        assertSame(first, second);
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void refresh_ShouldKeepEtag_WhenModelsUnchangedAndChangeIt_WhenDigestChanges() throws Exception {
+        // Arrange
+        ModelCatalog catalog = newCatalog(Duration.ofMinutes(5));
+        when(chatBackendRouter.listModels())
+                .thenReturn(List.of(model("b:latest", "1"), model("a:latest", "2")))
+                .thenReturn(List.of(model("a:latest", "2"), model("b:latest", "1")))
+                .thenReturn(List.of(model("a:latest", "3"), model("b:latest", "1")));
+
+        // Act
+        String first = catalog.refresh().getEtag();
+        String reordered = catalog.refresh().getEtag();
+        String pulled = catalog.refresh().getEtag();
+
+        // Assert
+        assertEquals(first, reordered);
+        assertNotEquals(first, pulled);
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+    }
+
+    @Test
+    void refresh_ShouldKeepLastKnownList_WhenBackendsFail() throws Exception {
+        // Arrange
+        ModelCatalog catalog = newCatalog(Duration.ofMinutes(5));
+        when(chatBackendRouter.listModels())
+                .thenReturn(List.of(model("tinyllama:latest", "abc")))
+                .thenThrow(new IOException("Connection refused"));
+        ModelCatalog.Snapshot known = catalog.snapshot();
+
+        // Act & Assert
+        assertThrows(NoChatBackendException.class, catalog::refresh);
+        assertSame(known, catalog.snapshot());
+    }
+
+    @Test
+    void snapshot_ShouldThrowNoChatBackend_WhenNothingWasEverFetched() throws Exception {
+        // Arrange
+        ModelCatalog catalog = newCatalog(Duration.ofMinutes(5));
+        when(chatBackendRouter.listModels()).thenThrow(new IOException("Connection refused"));
+
+        // Act & Assert
+        assertThrows(NoChatBackendException.class, catalog::snapshot);
+    }
+
+    @Test
+    void checkKnown_ShouldAcceptConfiguredAndListedModels_AndRejectTheRest() throws Exception {
+        // Arrange
+        ModelCatalog catalog = newCatalog(Duration.ofMinutes(5));
+        when(chatBackendRouter.listModels()).thenReturn(List.of(model("llama3:8b", "abc")));
+
+        // Act & Assert: only configured models are known before the first list
+        catalog.checkKnown("tinyllama:latest");
+        catalog.checkKnown("phi3");
+        assertThrows(NoChatBackendException.class, () -> catalog.checkKnown("llama3:8b"));
+        catalog.refresh();
+        catalog.checkKnown("llama3:8b");
+        assertThrows(UnknownChatModelException.class, () -> catalog.checkKnown("random-" + System.nanoTime()));
+        verify(chatBackendRouter, times(1)).listModels();
+    }
+
+    private ModelCatalog newCatalog(Duration refreshInterval) {
+        ModelCatalog catalog = new ModelCatalog();
+        ChatDispatchProperties dispatchProperties = new ChatDispatchProperties();
+        dispatchProperties.setModels(Map.of("phi3", 2));
+        ReflectionTestUtils.setField(catalog, "chatBackendRouter", chatBackendRouter);
+        ReflectionTestUtils.setField(catalog, "routerProperties", new ChatRouterProperties());
+        ReflectionTestUtils.setField(catalog, "dispatchProperties", dispatchProperties);
+        ReflectionTestUtils.setField(catalog, "taskScheduler", taskScheduler);
+        ReflectionTestUtils.setField(catalog, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(catalog, "refreshInterval", refreshInterval);
+        catalog.registerMetrics();
+        return catalog;
+    }
+
+    private static Model model(String name, String digest) {
+        Model model = new Model();
+        model.setName(name);
+        model.setDigest(digest);
+        model.setSize(1024);
+        return model;
+    }
+}
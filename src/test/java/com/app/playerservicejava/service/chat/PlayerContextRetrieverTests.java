@@ -0,0 +1,185 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.config.CacheConfiguration;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.search.PlayerNameIndex;
+import com.app.playerservicejava.service.snapshot.PlayerSnapshotStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerContextRetrieverTests {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private PlayerNameIndex playerNameIndex;
+
+    @Mock
+    private PlayerSnapshotStore playerSnapshotStore;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfiguration.PLAYERS_CACHE);
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private PlayerContextRetriever retriever;
+
+    @Test
+    void findRelevant_ShouldRankFullNameMatchesFirst() {
+        // Arrange
+        when(playerNameIndex.isReady()).thenReturn(true);
+        when(playerNameIndex.findExact(eq(PlayerNameIndex.Field.LAST_NAME), anyString())).thenReturn(List.of());
+        when(playerNameIndex.findExact(PlayerNameIndex.Field.LAST_NAME, "Ruth")).thenReturn(List.of("ruthad01", "ruthba01"));
+        when(playerNameIndex.findExact(eq(PlayerNameIndex.Field.FIRST_NAME), anyString())).thenReturn(List.of());
+        when(playerNameIndex.findExact(PlayerNameIndex.Field.FIRST_NAME, "Babe")).thenReturn(List.of("ruthba01", "phelpba01"));
+        when(playerRepository.findAllById(List.of("ruthba01", "ruthad01")))
+                .thenReturn(List.of(player("ruthad01", "Adam", "Ruth", "1990"), player("ruthba01", "Babe", "Ruth", "1895")));
+
+        // Act
+        List<Player> players = retriever.findRelevant("Who was Babe Ruth?");
+
+        // Assert
+        assertEquals(List.of("ruthba01", "ruthad01"), players.stream().map(Player::getPlayerId).toList());
+    }
+
+    @Test
+    void findRelevant_ShouldUseBirthYearIndex_WhenNoNameOrIdMatches() {
+        // Arrange
+        when(playerNameIndex.isReady()).thenReturn(true);
+        List<Player> born = List.of(player("aaronha01", "Hank", "Aaron", "1934"));
+        when(playerRepository.findByBirthYearAndPlayerIdGreaterThanOrderByPlayerIdAsc("1934", "", Limit.of(5))).thenReturn(born);
+
+        // Act
+        List<Player> players = retriever.findRelevant("Which players were Born in 1934?");
+
+        // Assert
+        assertEquals(born, players);
+        verify(playerRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void retrieve_ShouldLookUpPlayerIdsWithoutTheNameIndex() {
+        // Arrange
+        when(playerNameIndex.isReady()).thenReturn(false);
+        when(playerRepository.findAllById(List.of("ruthba01"))).thenReturn(List.of(player("ruthba01", "Babe", "Ruth", "1895")));
+
+        // Act
+        String context = retriever.retrieve("summarise ruthba01");
+
+        // Assert
+        assertEquals("ruthba01 | Babe Ruth | born 1895 Baltimore\n", context);
+        assertEquals(1, meterRegistry.get("chat.retrieval.duration").timer().count());
+    }
+
+    @Test
+    void retrieve_ShouldServeRepeatedPlayersFromThePlayersCache() {
+        // Arrange
+        when(playerNameIndex.isReady()).thenReturn(false);
+        when(playerRepository.findAllById(List.of("ruthba01"))).thenReturn(List.of(player("ruthba01", "Babe", "Ruth", "1895")));
+
+        // Act
+        String first = retriever.retrieve("summarise ruthba01");
+        String second = retriever.retrieve("and ruthba01 again");
+
+        // Assert
+        assertEquals(first, second);
+        verify(playerRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void retrieve_ShouldShareThePlayersCacheWithGetPlayerById() {
+        // Arrange: the cache goes through Spring's caching proxy, with getPlayerById's annotation
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(CacheManager.class, () -> cacheManager);
+            context.register(CachingConfiguration.class);
+            context.refresh();
+            CachedPlayers cachedPlayers = context.getBean(CachedPlayers.class);
+            cachedPlayers.getPlayerById("ruthba01");
+            when(playerNameIndex.isReady()).thenReturn(false);
+            when(playerRepository.findAllById(List.of("aaronha01"))).thenReturn(List.of(player("aaronha01", "Hank", "Aaron", "1934")));
+
+            // Act
+            String cachedByGet = retriever.retrieve("summarise ruthba01");
+            retriever.retrieve("summarise aaronha01");
+            Optional<Player> cachedByChat = cachedPlayers.getPlayerById("aaronha01");
+
+            // Assert
+            assertEquals("ruthba01 | Babe Ruth | born 1895 Baltimore\n", cachedByGet);
+            verify(playerRepository, never()).findAllById(List.of("ruthba01"));
+            assertEquals("Aaron", cachedByChat.orElseThrow().getLastName(), "getPlayerById should read the retriever's entry");
+            assertEquals(1, cachedPlayers.calls(), "Both reads should have been cache hits");
+        }
+    }
+
+    @Test
+    void retrieve_ShouldReturnEmptyContext_WhenNothingMatches() {
+        // Arrange
+        when(playerNameIndex.isReady()).thenReturn(true);
+
+        // Act
+        String context = retriever.retrieve("write a poem about spring");
+
+        // Assert
+        assertEquals("", context);
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfiguration {
+        @Bean
+        CachedPlayers cachedPlayers() {
+            return new CachedPlayers();
+        }
+    }
+
+    /* a stand-in for PlayerService#getPlayerById that only knows Babe Ruth */
+    static class CachedPlayers {
+        private int calls;
+
+        public int calls() {
+            return calls;
+        }
+
+        @Cacheable(cacheNames = CacheConfiguration.PLAYERS_CACHE, key = "#playerId", unless = "#result == null")
+        public Optional<Player> getPlayerById(String playerId) {
+            calls++;
+            return playerId.equals("ruthba01") ? Optional.of(player("ruthba01", "Babe", "Ruth", "1895")) : Optional.empty();
+        }
+    }
+
+    private static Player player(String playerId, String firstName, String lastName, String birthYear) {
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setFirstName(firstName);
+        player.setLastName(lastName);
+        player.setBirthYear(birthYear);
+        player.setBirthCity("Baltimore");
+        return player;
+    }
+}
@@ -0,0 +1,221 @@
+package com.app.playerservicejava.service.chat.backend;
+
+import com.app.playerservicejava.config.ChatRouterProperties;
+import com.app.playerservicejava.exception.NoChatBackendException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.ollama4j.exceptions.OllamaBaseException;
+import io.github.ollama4j.utils.OptionsBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the router against in-process HTTP servers that answer {@code /api/tags} and {@code /api/generate}
+ * the way Ollama does; each stub replies with its own name so tests can see where a call went.
+ */
+class ChatBackendRouterTests {
+
+    private final List<StubOllama> stubs = new ArrayList<>();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        stubs.forEach(StubOllama::stop);
+        callers.shutdownNow();
+    }
+
+    @Test
+    void call_ShouldRouteToBackendServingTheModel() throws Exception {
+        // Arrange
+        StubOllama a = stub("a", "llama3:latest");
+        StubOllama b = stub("b", "tinyllama:latest");
+        ChatBackendRouter router = router(properties(a, b));
+        router.checkHealth();
+
+        // Act
+        String answer = generate(router, "tinyllama");
+
+        // Assert
+        assertEquals("b", answer);
+        assertEquals("a", generate(router, "llama3:latest"));
+        assertThrows(NoChatBackendException.class, () -> generate(router, "mistral"));
+    }
+
+    @Test
+    void call_ShouldPreferBackendWithFewestOutstandingRequests() throws Exception {
+        // Arrange
+        StubOllama a = stub("a", "tinyllama:latest");
+        StubOllama b = stub("b", "tinyllama:latest");
+        ChatBackendRouter router = router(properties(a, b));
+        CountDownLatch release = new CountDownLatch(1);
+        a.hold = release;
+        b.hold = release;
+
+        // Act
+        Future<String> first = callers.submit(() -> generate(router, "tinyllama"));
+        waitFor(() -> a.generations.get() + b.generations.get() == 1);
+        Future<String> second = callers.submit(() -> generate(router, "tinyllama"));
+        waitFor(() -> a.generations.get() + b.generations.get() == 2);
+        release.countDown();
+
+        // Assert
+        assertEquals(Set.of("a", "b"), Set.of(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    void call_ShouldFailOverAndHealthCheckShouldEvict_WhenBackendIsDown() throws Exception {
+        // Arrange
+        StubOllama a = stub("a", "tinyllama:latest");
+        StubOllama b = stub("b", "tinyllama:latest");
+        ChatBackendRouter router = router(properties(a, b));
+        a.stop();
+
+        // Act
+        List<String> answers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            answers.add(generate(router, "tinyllama"));
+        }
+        router.checkHealth();
+
+        // Assert
+        assertEquals(List.of("b", "b", "b", "b"), answers);
+        assertFalse(router.backends().get(0).isHealthy());
+        assertTrue(router.backends().get(1).isHealthy());
+    }
+
+    @Test
+    void call_ShouldOpenCircuitAfterConsecutiveFailures_AndCloseAfterSuccessfulTrial() throws Exception {
+        // Arrange
+        StubOllama a = stub("a", "tinyllama:latest");
+        ChatRouterProperties properties = properties(a);
+        properties.setFailureThreshold(2);
+        properties.setOpenDuration(Duration.ofMillis(200));
+        ChatBackendRouter router = router(properties);
+        a.failing = true;
+
+        // Act
+        assertThrows(OllamaBaseException.class, () -> generate(router, "tinyllama"));
+        assertThrows(OllamaBaseException.class, () -> generate(router, "tinyllama"));
+        assertThrows(NoChatBackendException.class, () -> generate(router, "tinyllama"));
+        int hitsWhileOpen = a.generations.get();
+        a.failing = false;
+        Thread.sleep(250);
+        String trial = generate(router, "tinyllama");
+
+        // Assert
+        assertEquals(2, hitsWhileOpen);
+        assertEquals("a", trial);
+        assertEquals("CLOSED", router.backends().get(0).getCircuitState());
+    }
+
+    private static String generate(ChatBackendRouter router, String model) throws Exception {
+        return router.call(model, api -> api.generate(model, "hi", false, new OptionsBuilder().build())).getResponse();
+    }
+
+    private StubOllama stub(String name, String... models) throws IOException {
+        StubOllama stub = new StubOllama(name, models);
+        stubs.add(stub);
+        return stub;
+    }
+
+    private static ChatRouterProperties properties(StubOllama... backends) {
+        ChatRouterProperties properties = new ChatRouterProperties();
+        for (StubOllama stub : backends) {
+            ChatRouterProperties.Backend backend = new ChatRouterProperties.Backend(stub.name, stub.url());
+            backend.setRequestTimeoutSeconds(5);
+            properties.getBackends().add(backend);
+        }
+        return properties;
+    }
+
+    private static ChatBackendRouter router(ChatRouterProperties properties) {
+        ChatBackendRouter router = new ChatBackendRouter();
+        ReflectionTestUtils.setField(router, "properties", properties);
+        ReflectionTestUtils.setField(router, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(router, "observationRegistry", ObservationRegistry.NOOP);
+        router.init();
+        return router;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean(), "Condition not reached in time");
+    }
+
+    private static final class StubOllama {
+        private final String name;
+        private final HttpServer server;
+        private final AtomicInteger generations = new AtomicInteger();
+        private volatile boolean failing;
+        private volatile CountDownLatch hold;
+
+        StubOllama(String name, String... models) throws IOException {
+            this.name = name;
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            StringBuilder tags = new StringBuilder("{\"models\":[");
+            for (int i = 0; i < models.length; i++) {
+                tags.append(i == 0 ? "" : ",").append("{\"name\":\"").append(models[i]).append("\",\"size\":1,\"digest\":\"d\"}");
+            }
+            String tagsJson = tags.append("]}").toString();
+            server.createContext("/api/tags", exchange -> reply(exchange, 200, tagsJson));
+            server.createContext("/api/generate", exchange -> {
+                generations.incrementAndGet();
+                exchange.getRequestBody().readAllBytes();
+                CountDownLatch latch = hold;
+                if (latch != null) {
+                    try {
+                        latch.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                if (failing) {
+                    reply(exchange, 500, "{\"error\":\"model crashed\"}");
+                } else {
+                    reply(exchange, 200, "{\"response\":\"" + name + "\",\"done\":true}");
+                }
+            });
+            server.start();
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private static void reply(HttpExchange exchange, int status, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        }
+    }
+}
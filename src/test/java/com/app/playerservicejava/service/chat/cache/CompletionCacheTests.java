@@ -0,0 +1,180 @@
+package com.app.playerservicejava.service.chat.cache;
+
+import com.app.playerservicejava.config.ChatCacheProperties;
+import com.app.playerservicejava.config.ChatDispatchProperties;
+import com.app.playerservicejava.model.chat.CachedCompletion;
+import com.app.playerservicejava.model.chat.ChatPriority;
+import com.app.playerservicejava.service.chat.backend.ChatBackendRouter;
+import com.app.playerservicejava.service.chat.dispatch.ChatDispatcher;
+import com.app.playerservicejava.service.chat.dispatch.ModelLane;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ollama4j.OllamaAPI;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CompletionCacheTests {
+
+    private final OllamaAPI ollamaAPI = mock(OllamaAPI.class);
+    private final ChatBackendRouter chatBackendRouter = mock(ChatBackendRouter.class);
+    private final ChatDispatcher chatDispatcher = new ChatDispatcher();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void lookup_ShouldHit_WhenPromptDiffersOnlyInCaseWhitespaceAndPunctuation() throws Exception {
+        // Arrange
+        CompletionCache cache = newCache(new ChatCacheProperties());
+        CompletionCache.Lookup miss = cache.lookup("tinyllama", Map.of("temperature", 0.2), "ctx", "Who was Babe Ruth?");
+        cache.store(miss, "A slugger.", 2000);
+
+        // Act
+        CompletionCache.Lookup hit = cache.lookup("tinyllama", Map.of("temperature", 0.2), "ctx", "  who was   babe ruth ");
+
+        // Assert
+        assertNull(miss.getHit());
+        assertEquals("A slugger.", hit.getHit().getResponse());
+        assertEquals(0.5, cache.hitRatio());
+        assertEquals(2000, meterRegistry.get("chat.cache.saved").timer().totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void lookup_ShouldMiss_WhenModelOptionsOrContextDiffer() throws Exception {
+        // Arrange
+        CompletionCache cache = newCache(new ChatCacheProperties());
+        cache.store(cache.lookup("tinyllama", Map.of("temperature", 0.2), "ctx", "Hi"), "Hello", 10);
+
+        // Act & Assert
+        assertNull(cache.lookup("llama3", Map.of("temperature", 0.2), "ctx", "Hi").getHit());
+        assertNull(cache.lookup("tinyllama", Map.of("temperature", 0.9), "ctx", "Hi").getHit());
+        assertNull(cache.lookup("tinyllama", Map.of("temperature", 0.2), "other players", "Hi").getHit());
+    }
+
+    @Test
+    void lookup_ShouldSurviveRestart_WhenDiskTierEnabled(@TempDir Path directory) throws Exception {
+        // Arrange
+        ChatCacheProperties properties = new ChatCacheProperties();
+        properties.getDisk().setEnabled(true);
+        properties.getDisk().setPath(directory.toString());
+        CompletionCache before = newCache(properties);
+        before.store(before.lookup("tinyllama", Map.of(), "", "Hi"), "Hello", 10);
+
+        // Act
+        CompletionCache after = newCache(properties);
+        CompletionCache.Lookup lookup = after.lookup("tinyllama", Map.of(), "", "hi");
+
+        // Assert
+        assertEquals("Hello", lookup.getHit().getResponse());
+        assertEquals(1.0, meterRegistry.get("chat.cache.lookups").tag("result", "disk").counter().count());
+    }
+
+    @Test
+    void store_ShouldDeleteOldestDiskEntries_WhenDiskTierPassesMaxEntries(@TempDir Path directory) throws Exception {
+        // Arrange
+        ChatCacheProperties properties = new ChatCacheProperties();
+        properties.getDisk().setEnabled(true);
+        properties.getDisk().setPath(directory.toString());
+        properties.getDisk().setMaxEntries(2);
+        CompletionCache before = newCache(properties);
+
+        // Act
+        for (String prompt : List.of("Who was Babe Ruth?", "Who was Hank Aaron?", "Who was Willie Mays?")) {
+            before.store(before.lookup("tinyllama", Map.of(), "", prompt), "A slugger.", 10);
+        }
+        CompletionCache after = newCache(properties);
+
+        // Assert
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+        assertNull(after.lookup("tinyllama", Map.of(), "", "Who was Babe Ruth?").getHit());
+        assertNotNull(after.lookup("tinyllama", Map.of(), "", "Who was Hank Aaron?").getHit());
+        assertNotNull(after.lookup("tinyllama", Map.of(), "", "Who was Willie Mays?").getHit());
+    }
+
+    @Test
+    void expire_ShouldDeleteOnlyDiskEntriesPastTheTtl(@TempDir Path directory) throws Exception {
+        // Arrange
+        DiskCompletionStore disk = new DiskCompletionStore(directory, 1000, 10, new ObjectMapper());
+        disk.put(new CachedCompletion("old", "scope", "tinyllama", "Hi", "Hello", 10, 1000, null));
+        disk.put(new CachedCompletion("new", "scope", "tinyllama", "Hi there", "Hello", 10, 2500, null));
+
+        // Act
+        int expired = disk.expire(3000);
+
+        // Assert
+        assertEquals(1, expired);
+        assertEquals(1, disk.size());
+        assertFalse(Files.exists(directory.resolve("old.json")));
+        assertNotNull(disk.get("new", 3000));
+    }
+
+    @Test
+    void lookup_ShouldHitNearDuplicate_WhenSemanticTierEnabled() throws Exception {
+        // Arrange
+        ChatCacheProperties properties = new ChatCacheProperties();
+        properties.getSemantic().setEnabled(true);
+        properties.getSemantic().setThreshold(0.95);
+        when(chatBackendRouter.call(eq("nomic-embed-text"), any()))
+                .thenAnswer(invocation -> invocation.<ChatBackendRouter.BackendCall<?>>getArgument(1).call(ollamaAPI));
+        when(ollamaAPI.generateEmbeddings(anyString(), eq("Who was Babe Ruth?"))).thenReturn(List.of(1.0, 0.0, 0.0));
+        when(ollamaAPI.generateEmbeddings(anyString(), eq("Tell me who Babe Ruth was"))).thenReturn(List.of(0.98, 0.1, 0.0));
+        when(ollamaAPI.generateEmbeddings(anyString(), eq("Who was Hank Aaron?"))).thenReturn(List.of(0.2, 1.0, 0.0));
+        CompletionCache cache = newCache(properties);
+        cache.store(cache.lookup("tinyllama", Map.of(), "ctx", "Who was Babe Ruth?"), "A slugger.", 10);
+
+        // Act
+        CompletionCache.Lookup near = cache.lookup("tinyllama", Map.of(), "ctx", "Tell me who Babe Ruth was");
+        CompletionCache.Lookup far = cache.lookup("tinyllama", Map.of(), "ctx", "Who was Hank Aaron?");
+
+        // Assert
+        assertEquals("A slugger.", near.getHit().getResponse());
+        assertNull(far.getHit());
+        assertEquals(1.0, meterRegistry.get("chat.cache.lookups").tag("result", "semantic").counter().count());
+    }
+
+    @Test
+    void lookup_ShouldSkipSemanticTier_WhenEmbeddingModelIsBusy() throws Exception {
+        // Arrange
+        ChatCacheProperties properties = new ChatCacheProperties();
+        properties.getSemantic().setEnabled(true);
+        CompletionCache cache = newCache(properties);
+        ModelLane.Ticket busy = chatDispatcher.admit("nomic-embed-text", ChatPriority.NORMAL);
+
+        // Act
+        CompletionCache.Lookup lookup = cache.lookup("tinyllama", Map.of(), "ctx", "Who was Babe Ruth?");
+        cache.store(lookup, "A slugger.", 10);
+        busy.release();
+
+        // Assert
+        assertNull(lookup.getHit());
+        verifyNoInteractions(chatBackendRouter);
+        assertEquals(2.0, meterRegistry.get("chat.dispatch.rejected").tag("reason", "busy").counter().count());
+        assertEquals("A slugger.", cache.lookup("tinyllama", Map.of(), "ctx", "who was babe ruth").getHit().getResponse(),
+                "The exact tiers should still store and hit");
+    }
+
+    private CompletionCache newCache(ChatCacheProperties properties) throws Exception {
+        ReflectionTestUtils.setField(chatDispatcher, "properties", new ChatDispatchProperties());
+        ReflectionTestUtils.setField(chatDispatcher, "meterRegistry", meterRegistry);
+        CompletionCache cache = new CompletionCache();
+        ReflectionTestUtils.setField(cache, "properties", properties);
+        ReflectionTestUtils.setField(cache, "chatBackendRouter", chatBackendRouter);
+        ReflectionTestUtils.setField(cache, "chatDispatcher", chatDispatcher);
+        ReflectionTestUtils.setField(cache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "meterRegistry", meterRegistry);
+        cache.init();
+        return cache;
+    }
+}
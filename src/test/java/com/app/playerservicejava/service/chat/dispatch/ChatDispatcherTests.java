@@ -0,0 +1,205 @@
+package com.app.playerservicejava.service.chat.dispatch;
+
+import com.app.playerservicejava.config.ChatDispatchProperties;
+import com.app.playerservicejava.exception.ChatOverloadedException;
+import com.app.playerservicejava.model.chat.ChatPriority;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatDispatcherTests {
+
+    private final ChatDispatchProperties properties = new ChatDispatchProperties();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChatDispatcher dispatcher = new ChatDispatcher();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void setUp() {
+        properties.setDefaultMaxConcurrent(1);
+        properties.setInitialServiceTime(Duration.ofMillis(10));
+        ReflectionTestUtils.setField(dispatcher, "properties", properties);
+        ReflectionTestUtils.setField(dispatcher, "meterRegistry", meterRegistry);
+    }
+
+    @Test
+    void execute_ShouldCoalesceIdenticalInFlightPrompts() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicInteger generations = new AtomicInteger();
+        ChatDispatcher.Generation slow = () -> {
+            generations.incrementAndGet();
+            started.countDown();
+            finish.await();
+            return "answer";
+        };
+
+        // Act
+        Future<String> leader = callers.submit(() -> dispatcher.execute("tinyllama", ChatPriority.NORMAL, "key", slow));
+        started.await(5, TimeUnit.SECONDS);
+        Future<String> follower = callers.submit(() -> dispatcher.execute("tinyllama", ChatPriority.NORMAL, "key", slow));
+        waitFor(() -> meterRegistry.find("chat.dispatch.coalesced").counter() != null);
+        finish.countDown();
+
+        // Assert
+        assertEquals("answer", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("answer", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, generations.get());
+    }
+
+    @Test
+    void admit_ShouldServeHigherPriorityFirst_WhenSlotFrees() throws Exception {
+        // Arrange
+        properties.setMaxQueueWait(Duration.ofSeconds(5));
+        ModelLane.Ticket holder = dispatcher.admit("tinyllama", ChatPriority.NORMAL);
+        holder.await();
+        ModelLane.Ticket batch = dispatcher.admit("tinyllama", ChatPriority.BATCH);
+        ModelLane.Ticket interactive = dispatcher.admit("tinyllama", ChatPriority.INTERACTIVE);
+        List<String> order = new CopyOnWriteArrayList<>();
+        Future<?> batchRun = callers.submit(() -> runAndRecord(batch, "batch", order));
+        Future<?> interactiveRun = callers.submit(() -> runAndRecord(interactive, "interactive", order));
+        waitFor(() -> meterRegistry.get("chat.dispatch.queue.depth").gauge().value() == 2);
+
+        // Act
+        holder.release();
+        batchRun.get(5, TimeUnit.SECONDS);
+        interactiveRun.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of("interactive", "batch"), order);
+    }
+
+    @Test
+    void admit_ShouldShedWith429_WhenExpectedWaitExceedsSlo() throws Exception {
+        // Arrange
+        properties.setInitialServiceTime(Duration.ofSeconds(10));
+        properties.setMaxQueueWait(Duration.ofSeconds(5));
+        dispatcher.admit("tinyllama", ChatPriority.NORMAL).await();
+
+        // Act
+        ChatOverloadedException shed = assertThrows(ChatOverloadedException.class,
+                () -> dispatcher.admit("tinyllama", ChatPriority.NORMAL));
+
+        // Assert
+        assertEquals(10, shed.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("chat.dispatch.rejected").tag("reason", "slo").counter().count());
+    }
+
+    @Test
+    void admit_ShouldShed_WhenQueueIsFull() throws Exception {
+        // Arrange
+        properties.setMaxQueueDepth(1);
+        dispatcher.admit("tinyllama", ChatPriority.NORMAL).await();
+        dispatcher.admit("tinyllama", ChatPriority.NORMAL);
+
+        // Act & Assert
+        assertThrows(ChatOverloadedException.class, () -> dispatcher.admit("tinyllama", ChatPriority.INTERACTIVE));
+        assertEquals(1.0, meterRegistry.get("chat.dispatch.rejected").tag("reason", "queue_full").counter().count());
+    }
+
+    @Test
+    void await_ShouldShed_WhenQueuedLongerThanSlo() throws Exception {
+        // Arrange
+        properties.setMaxQueueWait(Duration.ofMillis(100));
+        dispatcher.admit("tinyllama", ChatPriority.NORMAL).await();
+        ModelLane.Ticket queued = dispatcher.admit("tinyllama", ChatPriority.NORMAL);
+
+        // Act & Assert
+        assertThrows(ChatOverloadedException.class, queued::await);
+        assertEquals(0.0, meterRegistry.get("chat.dispatch.queue.depth").gauge().value());
+    }
+
+    @Test
+    void abandon_ShouldHandSlotToNextTicket_WhenGrantedButNeverRun() throws Exception {
+        // Arrange
+        properties.setMaxQueueWait(Duration.ofSeconds(5));
+        ModelLane.Ticket holder = dispatcher.admit("tinyllama", ChatPriority.NORMAL);
+        ModelLane.Ticket abandoned = dispatcher.admit("tinyllama", ChatPriority.NORMAL);
+        ModelLane.Ticket next = dispatcher.admit("tinyllama", ChatPriority.NORMAL);
+
+        // Act
+        holder.await();
+        holder.release();
+        abandoned.abandon();
+        next.await();
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("chat.dispatch.in_flight").gauge().value());
+        next.release();
+        assertEquals(0.0, meterRegistry.get("chat.dispatch.in_flight").gauge().value());
+    }
+
+    @Test
+    void granted_ShouldCompleteWithoutAThread_AndGiveThePlaceUpWhenCancelled() throws Exception {
+        // Arrange
+        properties.setMaxQueueWait(Duration.ofSeconds(5));
+        ModelLane.Ticket holder = dispatcher.admit("tinyllama", ChatPriority.NORMAL);
+        ModelLane.Ticket cancelled = dispatcher.admit("tinyllama", ChatPriority.INTERACTIVE);
+        ModelLane.Ticket next = dispatcher.admit("tinyllama", ChatPriority.NORMAL);
+        CompletableFuture<Void> holderGranted = holder.granted();
+        CompletableFuture<Void> cancelledGranted = cancelled.granted();
+        CompletableFuture<Void> nextGranted = next.granted();
+
+        // Act
+        cancelledGranted.cancel(false);
+        holder.release();
+
+        // Assert
+        assertTrue(holderGranted.isDone());
+        assertTrue(nextGranted.isDone(), "The slot should pass over the cancelled ticket");
+        assertEquals(0.0, meterRegistry.get("chat.dispatch.queue.depth").gauge().value());
+        next.release();
+        assertEquals(0.0, meterRegistry.get("chat.dispatch.in_flight").gauge().value());
+    }
+
+    @Test
+    void granted_ShouldFailWith429_WhenQueuedLongerThanSlo() throws Exception {
+        // Arrange
+        properties.setMaxQueueWait(Duration.ofMillis(100));
+        dispatcher.admit("tinyllama", ChatPriority.NORMAL).await();
+        ModelLane.Ticket queued = dispatcher.admit("tinyllama", ChatPriority.NORMAL);
+
+        // Act
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> queued.granted().get(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertInstanceOf(ChatOverloadedException.class, failure.getCause());
+        assertEquals(1.0, meterRegistry.get("chat.dispatch.rejected").tag("reason", "timeout").counter().count());
+    }
+
+    private static void runAndRecord(ModelLane.Ticket ticket, String name, List<String> order) {
+        try {
+            ticket.await();
+            order.add(name);
+            ticket.release();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean(), "Condition not reached in time");
+    }
+}
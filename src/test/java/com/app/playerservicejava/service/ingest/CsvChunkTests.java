@@ -0,0 +1,50 @@
+package com.app.playerservicejava.service.ingest;
+
+import com.app.playerservicejava.exception.IngestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvChunkTests {
+
+    @Test
+    void parse_shouldSliceFieldsAndMapEmptyToNull() {
+        CsvChunk chunk = parse("aardsda01,1981,,Aardsma\r\naaronha01,1934,,Aaron\n", 4);
+
+        assertEquals(2, chunk.rows());
+        assertEquals("aardsda01", chunk.field(0, 0));
+        assertNull(chunk.field(0, 2), "Empty field should be null");
+        assertEquals("Aaron", chunk.field(1, 3));
+    }
+
+    @Test
+    void parse_shouldHandleQuotedFields() {
+        CsvChunk chunk = parse("a01,\"Smith, Jr.\",\"say \"\"hi\"\"\",\"\"\n", 4);
+
+        assertEquals("Smith, Jr.", chunk.field(0, 1));
+        assertEquals("say \"hi\"", chunk.field(0, 2));
+        assertEquals("", chunk.field(0, 3), "Quoted empty field should be an empty string");
+    }
+
+    @Test
+    void parse_shouldSkipBlankLinesAndAcceptMissingFinalNewline() {
+        CsvChunk chunk = parse("a,b\n\nc,d", 2);
+
+        assertEquals(2, chunk.rows());
+        assertEquals("d", chunk.field(1, 1));
+    }
+
+    @Test
+    void parse_shouldRejectWrongFieldCount() {
+        IngestException ex = assertThrows(IngestException.class, () -> parse("a,b\nc\n", 2));
+
+        assertTrue(ex.getMessage().contains("byte 4"), ex.getMessage());
+    }
+
+    private CsvChunk parse(String csv, int columns) {
+        return CsvChunk.parse(ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8)), columns, 0);
+    }
+}
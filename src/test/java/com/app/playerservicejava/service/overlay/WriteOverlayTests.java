@@ -0,0 +1,67 @@
+package com.app.playerservicejava.service.overlay;
+
+import com.app.playerservicejava.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteOverlayTests {
+
+    /* the base is the sorted ids it holds; a state renders base and pending as one string */
+    private final List<Map<String, Optional<String>>> compacted = new ArrayList<>();
+    private final WriteOverlay<List<String>, String, String> overlay = new WriteOverlay<>(
+            (base, player) -> player.getLastName(),
+            (base, pending) -> base + " " + new TreeMap<>(pending),
+            (base, pending) -> {
+                compacted.add(pending);
+                List<String> ids = new ArrayList<>(base);
+                ids.removeIf(pending::containsKey);
+                pending.forEach((id, value) -> value.ifPresent(kept -> ids.add(id)));
+                ids.sort(null);
+                return ids;
+            });
+
+    @Test
+    void apply_ShouldDropWrites_UntilTheFirstReset() {
+        // Act
+        overlay.apply(List.of(createTestPlayer("aaronha01", "Aaron")), List.of(), 10);
+        String before = overlay.state();
+        String after = overlay.reset(() -> List.of("ruthba01"));
+
+        // Assert
+        assertNull(before);
+        assertEquals("[ruthba01] {}", after);
+    }
+
+    @Test
+    void apply_ShouldPublishEachBatchAsOneState_AndCompactPastMaxPending() {
+        // Arrange
+        overlay.reset(() -> List.of("aaronha01", "ruthba01"));
+
+        // Act
+        overlay.apply(List.of(createTestPlayer("aaronha01", "Aaron Jr"), createTestPlayer("suzukic01", "Suzuki")),
+                List.of("ruthba01"), 3);
+        String pending = overlay.state();
+        overlay.apply(List.of(createTestPlayer("mayswi01", "Mays")), List.of(), 3);
+
+        // Assert
+        assertEquals("[aaronha01, ruthba01] {aaronha01=Optional[Aaron Jr], ruthba01=Optional.empty, suzukic01=Optional[Suzuki]}",
+                pending);
+        assertEquals(1, compacted.size());
+        assertEquals(4, compacted.get(0).size());
+        assertEquals("[aaronha01, mayswi01, suzukic01] {}", overlay.state());
+    }
+
+    private static Player createTestPlayer(String id, String lastName) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setLastName(lastName);
+        return player;
+    }
+}
@@ -0,0 +1,115 @@
+package com.app.playerservicejava.service.search;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerNameIndexTests {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @InjectMocks
+    private PlayerNameIndex playerNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(playerNameIndex, "enabled", true);
+        when(playerRepository.streamAll()).thenReturn(Stream.of(
+            createTestPlayer("aaronha01", "Hank", "Aaron"),
+            createTestPlayer("aaronto01", "Tommie", "Aaron"),
+            createTestPlayer("ruthba01", "Babe", "Ruth"),
+            createTestPlayer("robinja02", "Jackie", "Robinson")
+        ));
+        playerNameIndex.build();
+    }
+
+    @Test
+    void search_shouldMatchSubstringCaseInsensitively() {
+        assertTrue(playerNameIndex.isReady());
+        assertEquals(List.of("aaronha01", "aaronto01"), playerNameIndex.search(PlayerNameIndex.Field.LAST_NAME, "ARON"));
+        assertEquals(List.of("robinja02"), playerNameIndex.search(PlayerNameIndex.Field.LAST_NAME, "inso"));
+        assertTrue(playerNameIndex.search(PlayerNameIndex.Field.LAST_NAME, "xyz").isEmpty());
+    }
+
+    @Test
+    void search_shouldScanValues_whenFragmentShorterThanTrigram() {
+        assertEquals(List.of("ruthba01"), playerNameIndex.search(PlayerNameIndex.Field.LAST_NAME, "ut"));
+        assertEquals(List.of("ruthba01"), playerNameIndex.search(PlayerNameIndex.Field.FIRST_NAME, "b"));
+    }
+
+    @Test
+    void findExact_shouldIgnoreLongerNamesContainingTheValue() {
+        assertEquals(List.of("ruthba01"), playerNameIndex.findExact(PlayerNameIndex.Field.LAST_NAME, "RUTH"));
+        assertTrue(playerNameIndex.findExact(PlayerNameIndex.Field.LAST_NAME, "Robin").isEmpty());
+        assertEquals(List.of("aaronha01"), playerNameIndex.findExact(PlayerNameIndex.Field.FIRST_NAME, "hank"));
+    }
+
+    @Test
+    void put_shouldReplaceStaleNames() {
+        Player renamed = createTestPlayer("ruthba01", "Babe", "Herman");
+
+        playerNameIndex.put(renamed);
+
+        assertTrue(playerNameIndex.search(PlayerNameIndex.Field.LAST_NAME, "ruth").isEmpty(), "Old name should not match");
+        assertEquals(List.of("ruthba01"), playerNameIndex.search(PlayerNameIndex.Field.LAST_NAME, "herm"));
+        assertEquals(4, playerNameIndex.size());
+    }
+
+    @Test
+    void remove_shouldDropPlayerFromResults() {
+        playerNameIndex.remove("aaronha01");
+
+        assertEquals(List.of("aaronto01"), playerNameIndex.search(PlayerNameIndex.Field.LAST_NAME, "aaron"));
+        assertEquals(3, playerNameIndex.size());
+    }
+
+    @Test
+    void put_shouldDropOldNameFromPostings() {
+        playerNameIndex.put(createTestPlayer("ruthba01", "Babe", "Herman"));
+
+        assertNull(lastNamePostings().get(PlayerNameIndex.gram("ruth", 0)), "Old name's trigrams should be gone");
+        assertEquals(1, lastNamePostings().get(PlayerNameIndex.gram("herman", 0)).size);
+    }
+
+    @Test
+    void remove_shouldDropPostings_andReuseTheDocForTheNextPlayer() {
+        playerNameIndex.remove("aaronha01");
+        playerNameIndex.put(createTestPlayer("mayswi01", "Willie", "Mays"));
+
+        assertEquals(1, lastNamePostings().get(PlayerNameIndex.gram("aaron", 0)).size);
+        assertEquals(4, ((List<?>) ReflectionTestUtils.getField(playerNameIndex, "playerIds")).size());
+        assertEquals(List.of("mayswi01"), playerNameIndex.search(PlayerNameIndex.Field.LAST_NAME, "mays"));
+        assertEquals(List.of("mayswi01"), playerNameIndex.findExact(PlayerNameIndex.Field.FIRST_NAME, "willie"));
+        assertEquals(4, playerNameIndex.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, PlayerNameIndex.Postings> lastNamePostings() {
+        Map<PlayerNameIndex.Field, Map<Long, PlayerNameIndex.Postings>> postings =
+                (Map<PlayerNameIndex.Field, Map<Long, PlayerNameIndex.Postings>>) ReflectionTestUtils.getField(playerNameIndex, "postings");
+        return postings.get(PlayerNameIndex.Field.LAST_NAME);
+    }
+
+    private Player createTestPlayer(String id, String firstName, String lastName) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setFirstName(firstName);
+        player.setLastName(lastName);
+        return player;
+    }
+}
@@ -0,0 +1,144 @@
+package com.app.playerservicejava.service.snapshot;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlayerSnapshotTests {
+
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void find_ShouldResolveEveryKeyOfEveryRow_AndMissUnknownValues() {
+        // Arrange
+        PlayerSnapshot.Builder builder = PlayerSnapshot.builder();
+        for (int i = 0; i < 20_000; i++) {
+            builder.add(createTestPlayer("p" + i, "Last" + (i % 100), "r" + i, i % 3 == 0 ? null : "b" + i));
+        }
+
+        // Act
+        PlayerSnapshot snapshot = builder.build();
+
+        // Assert
+        assertEquals(20_000, snapshot.size());
+        for (int i = 0; i < 20_000; i++) {
+            assertEquals(i, snapshot.find(PlayerSnapshot.Key.PLAYER_ID, "p" + i));
+            assertEquals(i, snapshot.find(PlayerSnapshot.Key.RETRO_ID, "r" + i));
+            assertEquals(i % 3 == 0 ? -1 : i, snapshot.find(PlayerSnapshot.Key.BBREF_ID, "b" + i));
+        }
+        assertEquals(-1, snapshot.find(PlayerSnapshot.Key.PLAYER_ID, "p20000"));
+        assertEquals(-1, snapshot.find(PlayerSnapshot.Key.PLAYER_ID, "r1"), "Values of another key should not match");
+        assertEquals(-1, snapshot.find(PlayerSnapshot.Key.PLAYER_ID, null));
+        assertEquals(-1, PlayerSnapshot.empty().find(PlayerSnapshot.Key.PLAYER_ID, "p1"));
+    }
+
+    @Test
+    void player_ShouldRoundTripEveryField_IncludingNullsAndNonAscii() {
+        // Arrange
+        Player ichiro = createTestPlayer("suzukic01", "Suzuki", "suzui001", "suzukic01");
+        ichiro.setFirstName("Ichirō");
+        ichiro.setBirthCity("Kasugai");
+        ichiro.setBirthState(null);
+        ichiro.setGivenName("鈴木 一朗");
+        PlayerSnapshot snapshot = PlayerSnapshot.builder()
+                .add(createTestPlayer("aaronha01", "Aaron", "aaroh101", "aaronha01"))
+                .add(ichiro)
+                .build();
+
+        // Act
+        Player loaded = snapshot.player(snapshot.find(PlayerSnapshot.Key.PLAYER_ID, "suzukic01"));
+
+        // Assert
+        for (int field = 0; field < PlayerSnapshot.FIELD_COUNT; field++) {
+            assertEquals(PlayerSnapshot.field(ichiro, field), PlayerSnapshot.field(loaded, field), "field " + field);
+        }
+        assertNull(loaded.getBirthState());
+        assertEquals("USA", snapshot.get(0, 4));
+        assertTrue(snapshot.bytes() > 0);
+    }
+
+    @Test
+    void store_ShouldOverlayWritesOnSnapshot_AndCompactPastMaxPending() {
+        // Arrange
+        PlayerSnapshotStore store = newStore(2, List.of(
+                createTestPlayer("aaronha01", "Aaron", "aaroh101", "aaronha01"),
+                createTestPlayer("ruthba01", "Ruth", "ruthb101", "ruthba01")));
+        Player renamed = createTestPlayer("aaronha01", "Aaron Jr", "aaroh102", "aaronha01");
+
+        // Act
+        store.put(renamed);
+        renamed.setLastName("Changed after the write");
+        store.remove("ruthba01");
+        Optional<Player> aaron = store.findById("aaronha01");
+        Optional<Player> oldRetroId = store.find(PlayerSnapshot.Key.RETRO_ID, "aaroh101");
+        Optional<Player> newRetroId = store.find(PlayerSnapshot.Key.RETRO_ID, "aaroh102");
+        Optional<Player> ruth = store.findById("ruthba01");
+        store.put(createTestPlayer("ichirsu01", "Suzuki", "suzui001", "suzukic01"));
+
+        // Assert
+        assertEquals("Aaron Jr", aaron.orElseThrow().getLastName(), "Readers should see a copy taken at write time");
+        assertTrue(oldRetroId.isEmpty(), "A rewritten player's snapshot row should be shadowed");
+        assertEquals("aaronha01", newRetroId.orElseThrow().getPlayerId());
+        assertTrue(ruth.isEmpty());
+        assertEquals(0, meterRegistry.get("players.snapshot.pending").gauge().value(),
+                "The third pending write should have compacted the overlay into a new snapshot");
+        assertEquals("Aaron Jr", store.findById("aaronha01").orElseThrow().getLastName());
+        assertEquals("suzukic01", store.find(PlayerSnapshot.Key.BBREF_ID, "suzukic01").orElseThrow().getBbrefId());
+        assertTrue(store.findById("ruthba01").isEmpty());
+    }
+
+    @Test
+    void store_ShouldStayUnready_WhenDisabled() {
+        // Arrange
+        PlayerSnapshotStore store = new PlayerSnapshotStore();
+
+        // Act
+        store.build();
+        store.put(createTestPlayer("aaronha01", "Aaron", "aaroh101", "aaronha01"));
+
+        // Assert
+        assertFalse(store.isReady());
+        verifyNoInteractions(playerRepository);
+    }
+
+    private PlayerSnapshotStore newStore(int maxPending, List<Player> players) {
+        PlayerSnapshotStore store = new PlayerSnapshotStore();
+        ReflectionTestUtils.setField(store, "playerRepository", playerRepository);
+        ReflectionTestUtils.setField(store, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(store, "entityManager", mock(EntityManager.class));
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "maxPending", maxPending);
+        store.registerMeters();
+        when(playerRepository.streamAll()).thenReturn(Stream.of(players.toArray(new Player[0])));
+        store.build();
+        return store;
+    }
+
+    private static Player createTestPlayer(String playerId, String lastName, String retroId, String bbrefId) {
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setFirstName("First");
+        player.setLastName(lastName);
+        player.setBirthYear("1934");
+        player.setBirthCountry("USA");
+        player.setBirthCity("Mobile");
+        player.setBirthState("AL");
+        player.setBats("R");
+        player.setThrowStats("R");
+        player.setDebut("1954-04-13");
+        player.setRetroId(retroId);
+        player.setBbrefId(bbrefId);
+        return player;
+    }
+}
@@ -0,0 +1,174 @@
+package com.app.playerservicejava.service.team;
+
+import com.app.playerservicejava.exception.InvalidTeamRequestException;
+import com.app.playerservicejava.exception.PlayerNotFoundException;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.team.TeamFeatures;
+import com.app.playerservicejava.model.team.TeamFeedbackRequest;
+import com.app.playerservicejava.model.team.TeamGenerateRequest;
+import com.app.playerservicejava.model.team.TeamGenerateResponse;
+import com.app.playerservicejava.repository.PlayerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TeamGeneratorTests {
+
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+
+    @Test
+    void nearest_ShouldFindTheSameDistancesAsBruteForce_WithDuplicatesAndSkippedDocs() {
+        // Arrange: coarse values, so many points coincide as they do in PLAYERS
+        Random random = new Random(42);
+        int size = 5000;
+        String[] ids = new String[size];
+        float[] points = new float[size * TeamFeatureScale.DIMS];
+        for (int i = 0; i < size; i++) {
+            ids[i] = "p" + i;
+            for (int dim = 0; dim < TeamFeatureScale.DIMS; dim++) {
+                points[i * TeamFeatureScale.DIMS + dim] = dim < 3 ? Math.round(random.nextGaussian() * 4) / 4f : random.nextInt(3) - 1;
+            }
+        }
+        TeamIndex index = TeamIndex.build(ids, points);
+        long[] skipped = new long[(size + 63) >>> 6];
+        for (int doc = 0; doc < size; doc += 7) {
+            skipped[doc >>> 6] |= 1L << doc;
+        }
+
+        for (int query = 0; query < 200; query++) {
+            float[] point = new float[TeamFeatureScale.DIMS];
+            for (int dim = 0; dim < TeamFeatureScale.DIMS; dim++) {
+                point[dim] = (float) random.nextGaussian();
+            }
+
+            // Act
+            Neighbours out = new Neighbours(25);
+            index.nearest(point, out, skipped);
+            int[] found = out.sorted();
+
+            // Assert
+            float[] expected = new float[size];
+            int kept = 0;
+            for (int doc = 0; doc < size; doc++) {
+                if ((skipped[doc >>> 6] & 1L << doc) == 0) {
+                    expected[kept++] = distance(index.point(doc), point);
+                }
+            }
+            float[] nearest = Arrays.copyOf(expected, kept);
+            Arrays.sort(nearest);
+            assertEquals(25, found.length);
+            for (int i = 0; i < found.length; i++) {
+                assertEquals(0, (skipped[found[i] >>> 6] & 1L << found[i]), "A skipped doc was returned");
+                assertEquals(nearest[i], distance(index.point(found[i]), point), 1e-5f);
+            }
+        }
+    }
+
+    @Test
+    void generate_ShouldLeadWithTheSeed_AndLeaveOutNegativeFeedback() {
+        // Arrange: twins share every feature with the seed
+        TeamGenerator generator = newGenerator(List.of(
+                createTestPlayer("twin01", "1934", "72", "180", "R", "R"),
+                createTestPlayer("aaronha01", "1934", "72", "180", "R", "R"),
+                createTestPlayer("twin02", "1934", "72", "180", "R", "R"),
+                createTestPlayer("near01", "1936", "73", "185", "R", "R"),
+                createTestPlayer("ruthba01", "1895", "74", "215", "L", "L"),
+                createTestPlayer("ichirsu01", "1973", "71", "175", "L", "R")));
+
+        // Act
+        TeamGenerateResponse team = generator.generate(new TeamGenerateRequest("aaronha01", null, 4));
+        boolean accepted = generator.feedback(new TeamFeedbackRequest("aaronha01", "twin02", -1, "p1")).isAccepted();
+        TeamGenerateResponse afterFeedback = generator.generate(new TeamGenerateRequest("aaronha01", null, 4));
+
+        // Assert
+        assertEquals("aaronha01", team.getMemberIds().get(0));
+        assertEquals(List.of("near01"), team.getMemberIds().subList(3, 4));
+        assertEquals(4, team.getTeamSize());
+        assertTrue(accepted);
+        assertEquals(List.of("aaronha01", "twin01", "near01", "ichirsu01"), afterFeedback.getMemberIds());
+        assertFalse(generator.feedback(new TeamFeedbackRequest("nobody99", "twin01", -1, "p2")).isAccepted());
+        assertThrows(PlayerNotFoundException.class, () -> generator.generate(new TeamGenerateRequest("nobody99", null, 4)));
+        assertThrows(InvalidTeamRequestException.class, () -> generator.generate(new TeamGenerateRequest(null, null, 4)));
+    }
+
+    @Test
+    void generate_ShouldScaleQueryFeaturesLikeThePlayers() {
+        // Arrange
+        TeamGenerator generator = newGenerator(List.of(
+                createTestPlayer("aaronha01", "1934", "72", "180", "R", "R"),
+                createTestPlayer("ruthba01", "1895", "74", "215", "L", "L"),
+                createTestPlayer("ichirsu01", "1973", "71", "175", "L", "R"),
+                createTestPlayer("ghost01", "", "", "", null, null)));
+
+        // Act: Ruth's birth date, in the request's fractional year
+        TeamGenerateResponse team = generator.generate(new TeamGenerateRequest(null,
+                new TeamFeatures(1895.0, 74.0, 215.0, "L", "L"), 1));
+        TeamGenerateResponse unknown = generator.generate(new TeamGenerateRequest(null, new TeamFeatures(), 1));
+
+        // Assert
+        assertEquals(List.of("ruthba01"), team.getMemberIds());
+        assertNull(team.getSeedId());
+        assertEquals(List.of("ghost01"), unknown.getMemberIds(), "Unknown features score as average, like an unknown player's");
+    }
+
+    @Test
+    void writes_ShouldMoveAndDropPlayers_BeforeAndAfterTheTreeIsRebuilt() {
+        for (int maxPending : new int[] { 100, 1 }) {
+            // Arrange
+            TeamGenerator generator = newGenerator(List.of(
+                    createTestPlayer("aaronha01", "1934", "72", "180", "R", "R"),
+                    createTestPlayer("ruthba01", "1895", "74", "215", "L", "L"),
+                    createTestPlayer("ichirsu01", "1973", "71", "175", "L", "R")));
+            ReflectionTestUtils.setField(generator, "maxPending", maxPending);
+
+            // Act
+            generator.put(createTestPlayer("ichirsu01", "1895", "74", "214", "L", "L"));
+            generator.put(createTestPlayer("newbie01", "1934", "72", "181", "R", "R"));
+            generator.remove("aaronha01");
+            TeamGenerateResponse ruth = generator.generate(new TeamGenerateRequest("ruthba01", null, 3));
+
+            // Assert
+            assertEquals(List.of("ruthba01", "ichirsu01", "newbie01"), ruth.getMemberIds(), "maxPending=" + maxPending);
+            assertThrows(PlayerNotFoundException.class, () -> generator.generate(new TeamGenerateRequest("aaronha01", null, 1)));
+        }
+    }
+
+    private TeamGenerator newGenerator(List<Player> players) {
+        TeamGenerator generator = new TeamGenerator();
+        ReflectionTestUtils.setField(generator, "playerRepository", playerRepository);
+        ReflectionTestUtils.setField(generator, "meterRegistry", new SimpleMeterRegistry());
+        when(playerRepository.streamAll()).thenReturn(Stream.of(players.toArray(new Player[0])));
+        generator.registerMeters();
+        generator.build();
+        return generator;
+    }
+
+    private static float distance(float[] a, float[] b) {
+        float sum = 0;
+        for (int dim = 0; dim < a.length; dim++) {
+            sum += (a[dim] - b[dim]) * (a[dim] - b[dim]);
+        }
+        return sum;
+    }
+
+    private static Player createTestPlayer(String id, String birthYear, String height, String weight, String bats, String throwStats) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setBirthYear(birthYear);
+        player.setBirthMonth(birthYear.isEmpty() ? "" : "1");
+        player.setBirthDay(birthYear.isEmpty() ? "" : "1");
+        player.setHeight(height);
+        player.setWeight(weight);
+        player.setBats(bats);
+        player.setThrowStats(throwStats);
+        return player;
+    }
+}